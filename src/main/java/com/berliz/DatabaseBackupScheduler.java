@@ -12,8 +12,15 @@ public class DatabaseBackupScheduler {
     @Value("${BACKUP_PATH}")
     private String backupPath;
 
+    // off unless the host has a backup script set up, scheduling is on for the application's other jobs
+    @Value("${berliz.backup.enabled:false}")
+    private boolean enabled;
+
     @Scheduled(cron = "0 0 2 * * ?")  // Run daily at 2 AM
     public void backupDatabase() {
+        if (!enabled) {
+            return;
+        }
         try {
             String backupScriptPath = backupPath + "/backup-script.sh";
             ProcessBuilder processBuilder = new ProcessBuilder("bash", backupScriptPath);
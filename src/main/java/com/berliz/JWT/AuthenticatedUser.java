@@ -0,0 +1,63 @@
+package com.berliz.JWT;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * Immutable identity of the caller of the current request, built once from the verified token claims
+ * and stored as the principal of the request's security context.
+ */
+@Getter
+public final class AuthenticatedUser implements Principal, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Integer id;
+
+    private final String email;
+
+    private final UserRole role;
+
+    public AuthenticatedUser(Integer id, String email, UserRole role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        Integer id = claims.getId() != null ? Integer.parseInt(claims.getId()) : null;
+        return new AuthenticatedUser(id, claims.getSubject(), UserRole.fromValue((String) claims.get("role")));
+    }
+
+    /**
+     * Get the authenticated user of the request being handled by the current thread.
+     *
+     * @return The current user, or null if the request is not authenticated.
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+
+    public boolean hasRole(UserRole role) {
+        return this.role == role;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{id=" + id + ", email=" + email + ", role=" + role + "}";
+    }
+}
@@ -1,30 +1,33 @@
 package com.berliz.JWT;
 
 import com.berliz.repositories.UserRepo;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Slf4j
 @Service
-public class ClientUserDetailsService implements UserDetailsService {
+public class ClientUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     UserRepo userRepo;
 
-    private com.berliz.models.User userDetails;
-
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("Inside loadUserByUsername {}", username);
-        userDetails = userRepo.findByEmail(username);
+        com.berliz.models.User userDetails = userRepo.findByEmail(username);
         if (!Objects.isNull(userDetails)) {
             return new User(userDetails.getEmail(), userDetails.getPassword(), new ArrayList<>());
         } else {
@@ -32,13 +35,37 @@ public class ClientUserDetailsService implements UserDetailsService {
         }
     }
 
-    public com.berliz.models.User getUserDetails() {
-        com.berliz.models.User user = userDetails;
-        user.setPassword(null);
-        return userDetails;
+    /**
+     * Build the principal for a verified token from its claims alone, without loading the user.
+     *
+     * @param claims The verified token claims.
+     * @return A UserDetails whose authority is the role carried in the token.
+     */
+    public UserDetails loadUserFromClaims(Claims claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        UserRole role = UserRole.fromValue((String) claims.get("role"));
+        if (role != UserRole.UNKNOWN) {
+            authorities.add(new SimpleGrantedAuthority(role.getAuthority()));
+        }
+        return new User(claims.getSubject(), "", authorities);
     }
 
-    public UserDetails getCurrentUserDetailsModel(){
-        return (UserDetails) userDetails;
+    /**
+     * Store a re-encoded password. Called by the authentication provider after a successful login whose
+     * stored hash was made with a lower BCrypt strength than the configured one.
+     *
+     * @param user        The authenticated user.
+     * @param newPassword The password encoded with the current strength.
+     * @return The user details carrying the new password.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        com.berliz.models.User userDetails = userRepo.findByEmail(user.getUsername());
+        if (!Objects.isNull(userDetails)) {
+            userDetails.setPassword(newPassword);
+            userRepo.save(userDetails);
+            log.info("Upgraded password hash for {}", user.getUsername());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
     }
 }
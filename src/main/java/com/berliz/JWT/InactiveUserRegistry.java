@@ -0,0 +1,104 @@
+package com.berliz.JWT;
+
+import com.berliz.repositories.UserRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of user ids whose accounts are deactivated or deleted. It is loaded from the status column of
+ * the users table and kept up to date by the user service, so that stateless authorization can reject tokens
+ * of revoked accounts without a database lookup.
+ */
+@Slf4j
+@Component
+public class InactiveUserRegistry {
+
+    @Autowired
+    UserRepo userRepo;
+
+    // replaced as a whole by refresh, so readers never see a half-reloaded set
+    private volatile Set<Integer> inactiveUserIds = ConcurrentHashMap.newKeySet();
+
+    // marks made while a refresh is querying the table, true for inactive; replayed over the query result
+    // since the query may have read the row before the change. Guarded by this, null when no refresh runs
+    private Map<Integer, Boolean> marksDuringRefresh;
+
+    private final Object refreshLock = new Object();
+
+    // deleted users are no longer in the table, so they are kept apart from the reloaded set
+    private final Set<Integer> deletedUserIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reload the set from the users table, picking up changes made outside this instance.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${berliz.security.inactive-users.refresh-ms:300000}",
+            initialDelayString = "${berliz.security.inactive-users.refresh-ms:300000}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            synchronized (this) {
+                marksDuringRefresh = new HashMap<>();
+            }
+            try {
+                Set<Integer> ids = ConcurrentHashMap.newKeySet();
+                ids.addAll(userRepo.getInactiveUserIds());
+                synchronized (this) {
+                    marksDuringRefresh.forEach((userId, inactive) -> {
+                        if (inactive) {
+                            ids.add(userId);
+                        } else {
+                            ids.remove(userId);
+                        }
+                    });
+                    inactiveUserIds = ids;
+                }
+                log.info("Loaded {} inactive user ids", ids.size());
+            } catch (Exception ex) {
+                ex.printStackTrace();
+            } finally {
+                synchronized (this) {
+                    marksDuringRefresh = null;
+                }
+            }
+        }
+    }
+
+    public boolean isInactive(Integer userId) {
+        return userId != null && (inactiveUserIds.contains(userId) || deletedUserIds.contains(userId));
+    }
+
+    public synchronized void markInactive(Integer userId) {
+        if (userId != null) {
+            inactiveUserIds.add(userId);
+            recordMark(userId, true);
+        }
+    }
+
+    public void markDeleted(Integer userId) {
+        if (userId != null) {
+            deletedUserIds.add(userId);
+        }
+    }
+
+    public synchronized void markActive(Integer userId) {
+        if (userId != null) {
+            inactiveUserIds.remove(userId);
+            recordMark(userId, false);
+        }
+    }
+
+    private void recordMark(Integer userId, boolean inactive) {
+        if (marksDuringRefresh != null) {
+            marksDuringRefresh.put(userId, inactive);
+        }
+    }
+}
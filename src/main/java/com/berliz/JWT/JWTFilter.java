@@ -1,16 +1,15 @@
 package com.berliz.JWT;
 
-import com.berliz.models.Notification;
 import com.berliz.models.User;
-import com.berliz.repositories.NotificationRepo;
 import com.berliz.repositories.UserRepo;
+import com.berliz.utils.NotificationDispatcher;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,7 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Map;
 
 @Component
 public class JWTFilter extends OncePerRequestFilter {
@@ -28,10 +27,7 @@ public class JWTFilter extends OncePerRequestFilter {
     UserRepo userRepo;
 
     @Autowired
-    SimpMessagingTemplate simpMessagingTemplate;
-
-    @Autowired
-    NotificationRepo notificationRepo;
+    NotificationDispatcher notificationDispatcher;
 
     @Autowired
     private JWTUtility jwtUtility;
@@ -39,154 +35,194 @@ public class JWTFilter extends OncePerRequestFilter {
     @Autowired
     private ClientUserDetailsService clientUserDetailsService;
 
-    Claims claims = null;
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    private PublicRoutes publicRoutes;
+
+    @Autowired
+    private InactiveUserRegistry inactiveUserRegistry;
 
-    private String username = null;
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
 
-    private Integer userId = 0;
+    @Value("${berliz.security.stateless-auth:false}")
+    private boolean statelessAuth;
 
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
                                     FilterChain filterChain) throws ServletException, IOException {
-        // Match public paths that don't require authentication
-
-        if (isWebSocketRequest(httpServletRequest)) {
-            filterChain.doFilter(httpServletRequest, httpServletResponse);
-        }
-
-
-        // Skip filtering for static resources
-        String requestPath = httpServletRequest.getRequestURI();
-        if (requestPath.startsWith("/images/") || requestPath.startsWith("/videos/")
-                || requestPath.startsWith("/css/") || requestPath.startsWith("/js/")
-                || requestPath.startsWith("/webjars/")  || requestPath.startsWith("/public/")) {
-            filterChain.doFilter(httpServletRequest, httpServletResponse);
-            return;
-        }
-
-        if (httpServletRequest.getServletPath().matches("/user/login|/user/signup|" +
-                "/user/forgotPassword|/newsletter/add|/newsletter/updateStatus|" +
-                "/user/validatePasswordToken|/user/resetPassword|/user/activateAccount|" +
-                "/category/getActiveCategories|/contactUs/add|/dashboard/berliz|/trainer/getActiveTrainers|" +
-
-                "/center/getActiveCenters|/user/refreshToken|/ws/.*|/user/quickAdd|/user/sendActivationToken/.*" +
-                "/swagger-ui/.*|/api-docs/.*|/swagger-ui.html"))  {
+        // Match public paths and websocket upgrades that don't require authentication
+        if (isWebSocketRequest(httpServletRequest)
+                || publicRoutes.isPublic(httpServletRequest.getServletPath())) {
+            if (publicRoutes.isOptionallyAuthenticated(httpServletRequest.getServletPath())) {
+                authenticateIfPresent(httpServletRequest);
+            }
             filterChain.doFilter(httpServletRequest, httpServletResponse);
-            } else {
+        } else {
             // Handle authenticated paths
             String authorizationHeader = httpServletRequest.getHeader("Authorization");
-            String token = null;
+            VerifiedToken verifiedToken = null;
 
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-                token = authorizationHeader.substring(7);
-                username = jwtUtility.extractUsername(token);
-                userId = jwtUtility.extractUserId(token);
-                claims = jwtUtility.extractAllClaims(token);
+                verifiedToken = resolveToken(authorizationHeader.substring(7));
             }
 
             if ("OPTIONS".equalsIgnoreCase(httpServletRequest.getMethod())) {
                 httpServletResponse.setStatus(HttpServletResponse.SC_OK);
             } else {
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = clientUserDetailsService.loadUserByUsername(username);
-
-                    if (jwtUtility.isValidToken(token, userDetails)) {
-                        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
-                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                        usernamePasswordAuthenticationToken.setDetails(
-                                new WebAuthenticationDetailsSource().buildDetails(httpServletRequest)
-                        );
-
-                        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-                    }
-                }
+                authenticate(httpServletRequest, verifiedToken);
                 filterChain.doFilter(httpServletRequest, httpServletResponse);
             }
         }
     }
 
+    private void authenticate(HttpServletRequest httpServletRequest, VerifiedToken verifiedToken) {
+        if (verifiedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = verifiedToken.getUserDetails();
+
+            if (!verifiedToken.isExpired()) {
+                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                        new UsernamePasswordAuthenticationToken(verifiedToken.getAuthenticatedUser(), null,
+                                userDetails.getAuthorities());
+                usernamePasswordAuthenticationToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(httpServletRequest)
+                );
+
+                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+            }
+        }
+    }
+
+    /**
+     * Authenticate the caller of a public route if a bearer token is sent. The route stays public: a missing,
+     * expired, revoked or otherwise invalid token leaves the request anonymous instead of failing it.
+     */
+    private void authenticateIfPresent(HttpServletRequest httpServletRequest) {
+        String authorizationHeader = httpServletRequest.getHeader("Authorization");
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return;
+        }
+        try {
+            authenticate(httpServletRequest, resolveToken(authorizationHeader.substring(7)));
+        } catch (Exception ex) {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Resolve a bearer token to its verified claims and principal, using the token cache so that the
+     * signature is verified and the user loaded only once per cached token. Revoked tokens are evicted from
+     * the cache when they are revoked, so they are only checked on a miss. In stateless mode the principal
+     * comes from the claims alone and revoked accounts are rejected from the in-memory registry.
+     *
+     * @param token The raw bearer token.
+     * @return The verified token, or null if the token does not belong to the loaded user.
+     */
+    private VerifiedToken resolveToken(String token) {
+        VerifiedToken verifiedToken = tokenCache.get(token);
+        if (verifiedToken == null) {
+            Claims tokenClaims = jwtUtility.extractAllClaims(token);
+            if (tokenRevocationService.isRevoked(token, tokenClaims)) {
+                return null;
+            }
+
+            UserDetails userDetails;
+            if (statelessAuth) {
+                // the signed claims are trusted as they are, no user is loaded
+                userDetails = clientUserDetailsService.loadUserFromClaims(tokenClaims);
+            } else {
+                userDetails = clientUserDetailsService.loadUserByUsername(tokenClaims.getSubject());
+                if (!jwtUtility.isValidToken(tokenClaims, userDetails)) {
+                    return null;
+                }
+            }
+            verifiedToken = new VerifiedToken(tokenClaims, userDetails);
+            tokenCache.put(token, verifiedToken);
+        }
+
+        if (statelessAuth && inactiveUserRegistry.isInactive(verifiedToken.getUserId())) {
+            return null;
+        }
+        return verifiedToken;
+    }
+
     private boolean isWebSocketRequest(HttpServletRequest request) {
         // Check if the "Upgrade" header contains "websocket"
         String upgradeHeader = request.getHeader("Upgrade");
         return "websocket".equalsIgnoreCase(upgradeHeader);
     }
 
+    /**
+     * Get the email of the user making the current request. The identity is read from the request's own
+     * security context, so it is never shared between concurrent requests.
+     *
+     * @return The current user's email, or null if the request is not authenticated.
+     */
     public String getCurrentUserEmail() {
-        if (username != null) {
-            return username;
-        } else {
-            return null;
-        }
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        return currentUser != null ? currentUser.getEmail() : null;
     }
 
     public User getCurrentUser() {
-        if (username != null) {
-            return userRepo.findByEmail(getCurrentUserEmail());
+        String email = getCurrentUserEmail();
+        if (email != null) {
+            return userRepo.findByEmail(email);
         } else {
             return null;
         }
     }
 
     public Integer getCurrentUserId() {
-        if (userId != null) {
-            return userId;
-        } else {
-            return null;
-        }
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        return currentUser != null ? currentUser.getId() : null;
+    }
+
+    public UserRole getCurrentUserRole() {
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        return currentUser != null ? currentUser.getRole() : UserRole.UNKNOWN;
     }
 
     public boolean isAdmin() {
-        if (claims != null) {
-            return "admin".equalsIgnoreCase((String) claims.get("role"));
-        } else {
-            return false;
-        }
+        return getCurrentUserRole() == UserRole.ADMIN;
     }
 
     public boolean isUser() {
-        return "user".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.USER;
     }
 
     public boolean isClient() {
-        return "client".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.CLIENT;
     }
 
     public boolean isTrainer() {
-        return "trainer".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.TRAINER;
     }
 
     public boolean isCenter() {
-        return "center".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.CENTER;
     }
 
     public boolean isMemberClient() {
-        return "memberClient".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.MEMBER_CLIENT;
     }
 
     public boolean isMember() {
-        return "member".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.MEMBER;
     }
 
     public boolean isStore() {
-        return "store".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.STORE;
     }
 
     public boolean isDriver() {
-        return "driver".equalsIgnoreCase((String) claims.get("role"));
+        return getCurrentUserRole() == UserRole.DRIVER;
     }
 
     public boolean isBerlizUser() {
-        String role = (String) claims.get("role");
-        if (role != null) {
-            String[] validRoles = {"admin", "user", "client", "trainer", "center", "store",
-                    "driver", "member", "memberClient"};
-            for (String validRole : validRoles) {
-                if (validRole.equalsIgnoreCase(role)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        UserRole role = getCurrentUserRole();
+        return role != UserRole.UNKNOWN && role != UserRole.PARTNER;
     }
 
     public boolean isAccountIncomplete(User user) {
@@ -199,36 +235,37 @@ public class JWTFilter extends OncePerRequestFilter {
                 user.getPhone() == null || user.getPhone().isEmpty() ||
                 user.getBio() == null || user.getBio().isEmpty() ||
                 user.getPostalCode() == null ||
-                user.getProfilePhoto() == null;
+                user.getProfilePhotoHash() == null;
     }
 
+    /**
+     * Notify the given user, and every admin unless the user is one, of a change made by the current caller,
+     * and publish the changed entity to its topic. The messages are resolved here, from the caller's identity;
+     * persisting and publishing happen on the {@link NotificationDispatcher} worker.
+     */
     public void sendNotifications(String entityEndpoint, String adminNotificationMessage, User user,
                                   String notificationMessage, Object entityOrList) {
-        Notification notification = new Notification();
-        if (isAdmin()) {
-            notification.setNotification(adminNotificationMessage + " by admin: " + getCurrentUserEmail());
-        } else {
-            notification.setNotification(notificationMessage);
-        }
+        sendNotifications(entityEndpoint, adminNotificationMessage, user, notificationMessage, entityOrList, null);
+    }
 
-        notification.setUser(user);
-        notificationRepo.save(notification);
+    /**
+     * Same as {@link #sendNotifications(String, String, User, String, Object)}, also reporting which fields
+     * of the entity changed so slim websocket events can carry them.
+     */
+    public void sendNotifications(String entityEndpoint, String adminNotificationMessage, User user,
+                                  String notificationMessage, Object entityOrList,
+                                  Map<String, Object> changedFields) {
+        String actorEmail = getCurrentUserEmail();
+        boolean actorIsAdmin = isAdmin();
+        String userMessage = actorIsAdmin
+                ? adminNotificationMessage + " by admin: " + actorEmail
+                : notificationMessage;
+        String adminMessage = null;
         if (!isAdmin(user)) {
-            List<User> admins = userRepo.findAllAdmins();
-            for (User admin : admins) {
-                Notification adminNotification = new Notification();
-                if (isAdmin()) {
-                    adminNotification.setNotification(adminNotificationMessage + " by admin: " + getCurrentUserEmail());
-                } else {
-                    adminNotification.setNotification(adminNotificationMessage + " by user: " + getCurrentUserEmail());
-                }
-                adminNotification.setUser(admin);
-                notificationRepo.save(adminNotification);
-            }
+            adminMessage = adminNotificationMessage + (actorIsAdmin ? " by admin: " : " by user: ") + actorEmail;
         }
-
-        simpMessagingTemplate.convertAndSend("/topic/notification", notification.getNotification());
-        simpMessagingTemplate.convertAndSend(entityEndpoint, entityOrList);
+        notificationDispatcher.publish(user.getId(), userMessage, adminMessage, entityEndpoint, entityOrList,
+                changedFields);
     }
 
     public boolean isAdmin(User user) {
@@ -1,14 +1,19 @@
 package com.berliz.JWT;
 
+import com.berliz.models.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import jakarta.annotation.PostConstruct;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.text.DecimalFormat;
 import java.util.Date;
 import java.util.HashMap;
@@ -19,21 +24,38 @@ import java.util.function.Function;
 @Service
 public class JWTUtility {
 
-    @Autowired
-    private ClientUserDetailsService clientUserDetailsService;
-
     @Value("${JWT_SECRET}")
     private String SECRET_KEY;
 
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
     private static final DecimalFormat formatter = new DecimalFormat("000000");
     private static final Random random = new Random();
 
+    // built once from the secret; neither is modified after init, so both are safe to share between threads
+    private Key signingKey;
+
+    private JwtParser jwtParser;
+
+    /**
+     * Decode the secret once. It is read as base64, exactly as signWith(alg, String) and
+     * setSigningKey(String) do, so tokens issued before this change still verify.
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = new SecretKeySpec(TextCodec.BASE64.decode(SECRET_KEY), SIGNATURE_ALGORITHM.getJcaName());
+        jwtParser = Jwts.parser().setSigningKey(signingKey);
+    }
+
     public String extractUsername(String token) {
         return extractClaims(token, Claims::getSubject);
     }
 
     public Integer extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
+        return extractUserId(extractAllClaims(token));
+    }
+
+    public Integer extractUserId(Claims claims) {
         return Integer.parseInt(claims.getId());
     }
 
@@ -47,13 +69,7 @@ public class JWTUtility {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
-    }
-
-    private Boolean isTokenExpired(String token) {
-
-        return extractExpiration(token).before(new Date()
-        );
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     private String createAccessToken(Map<String, Object> claims, String username, Integer id) {
@@ -63,7 +79,7 @@ public class JWTUtility {
                 .setId(String.valueOf(id))
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY).compact();
+                .signWith(SIGNATURE_ALGORITHM, signingKey).compact();
     }
 
     private String createRefreshToken(Map<String, Object> claims, String username, Integer id) {
@@ -73,17 +89,14 @@ public class JWTUtility {
                 .setId(String.valueOf(id))
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY).compact();
+                .signWith(SIGNATURE_ALGORITHM, signingKey).compact();
     }
 
-    public String generateAccessToken(String accessToken) {
-        Claims claims = extractAllClaims(accessToken);
-        String role = clientUserDetailsService.getUserDetails().getRole();
-        String username = clientUserDetailsService.getUserDetails().getEmail();
-        Integer id = clientUserDetailsService.getUserDetails().getId();
-        claims.put("role", role);
-        claims.put("id", id);
-        return createAccessToken(claims, username, id);
+    public String generateAccessToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", user.getRole());
+        claims.put("id", user.getId());
+        return createAccessToken(claims, user.getEmail(), user.getId());
     }
 
     public String generateRefreshToken(String username, Integer id) {
@@ -99,7 +112,7 @@ public class JWTUtility {
                 .setSubject(subject)
                 .setIssuedAt(new Date(currentTimeMillis))
                 .setExpiration(new Date(expirationMillis))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .signWith(SIGNATURE_ALGORITHM, signingKey)
                 .compact();
     }
 
@@ -108,9 +121,19 @@ public class JWTUtility {
     }
 
     public Boolean isValidToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())
-                && !isTokenExpired(token)
+        return isValidToken(extractAllClaims(token), userDetails);
+    }
+
+    /**
+     * Validate already-parsed claims against the given user, without verifying the signature again.
+     *
+     * @param claims      The verified claims of the token.
+     * @param userDetails The user the token should belong to.
+     * @return True if the token subject matches the user and the token has not expired.
+     */
+    public Boolean isValidToken(Claims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date())
         );
     }
 
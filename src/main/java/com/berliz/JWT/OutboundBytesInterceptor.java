@@ -0,0 +1,44 @@
+package com.berliz.JWT;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * Records the size of every message sent to websocket clients, per topic, as
+ * berliz.websocket.outbound.bytes. A message broadcast to a topic is counted once per subscriber, so the
+ * total is what actually goes over the wire.
+ */
+public class OutboundBytesInterceptor implements ChannelInterceptor {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final MeterRegistry meterRegistry;
+
+    public OutboundBytesInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getPayload() instanceof byte[] payload && payload.length > 0) {
+            DistributionSummary.builder("berliz.websocket.outbound.bytes")
+                    .baseUnit("bytes")
+                    .tag("destination", destinationTag(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                    .register(meterRegistry)
+                    .record(payload.length);
+        }
+        return message;
+    }
+
+    // user destinations carry a session id, so they are grouped into one tag to keep the tag set bounded
+    private static String destinationTag(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        return destination.startsWith(TOPIC_PREFIX) ? destination : "user";
+    }
+}
@@ -0,0 +1,139 @@
+package com.berliz.JWT;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.*;
+
+/**
+ * The single table of routes that can be accessed without authentication. It is shared by
+ * {@link SecurityConfig} (permitAll) and {@link JWTFilter} (skip token handling), and its patterns are
+ * parsed once at startup instead of on every request.
+ */
+@Component
+public class PublicRoutes {
+
+    public static final String[] STATIC_RESOURCES = {
+            "/images/**",
+            "/videos/**",
+            "/public/**",
+            "/static/**",
+            "/css/**",
+            "/js/**",
+            "/webjars/**"
+    };
+
+    public static final String[] PUBLIC_ENDPOINTS = {
+            "/user/login",
+            "/user/signup",
+            "/user/refreshToken",
+            "/user/forgotPassword",
+            "/user/validatePasswordToken",
+            "/user/resetPassword",
+            "/user/activateAccount",
+            "/user/quickAdd",
+            "/user/sendActivationToken/**",
+            "/newsletter/add",
+            "/newsletter/updateStatus",
+            "/category/getActiveCategories",
+            "/contactUs/add",
+            "/dashboard/berliz",
+            "/trainer/getActiveTrainers",
+            "/center/getActiveCenters",
+            "/media/**",
+            "/video/**",
+            "/stomp/**",
+            "/ws/**",
+            "/swagger-ui/**",
+            "/api-docs/**",
+            "/swagger-ui.html"
+    };
+
+    // public routes that still identify the caller when a valid bearer token is sent, so a signed-in user gets
+    // their own per-user limits instead of sharing those of their IP address
+    public static final String[] OPTIONAL_AUTHENTICATION = {
+            "/video/**"
+    };
+
+    private static final String ANY_SEGMENT = "*";
+
+    // patterns indexed by their first path segment, so a request is only compared to the few routes
+    // sharing its first segment
+    private final Map<String, List<PathPattern>> patternsBySegment = new HashMap<>();
+
+    private final List<PathPattern> optionalAuthenticationPatterns = new ArrayList<>();
+
+    public PublicRoutes() {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (String route : getPatterns()) {
+            patternsBySegment.computeIfAbsent(firstSegment(route), segment -> new ArrayList<>())
+                    .add(parser.parse(route));
+        }
+        for (String route : OPTIONAL_AUTHENTICATION) {
+            optionalAuthenticationPatterns.add(parser.parse(route));
+        }
+    }
+
+    /**
+     * Get every public route pattern, static resources first.
+     *
+     * @return The Ant-style patterns accepted by requestMatchers.
+     */
+    public String[] getPatterns() {
+        String[] patterns = Arrays.copyOf(STATIC_RESOURCES, STATIC_RESOURCES.length + PUBLIC_ENDPOINTS.length);
+        System.arraycopy(PUBLIC_ENDPOINTS, 0, patterns, STATIC_RESOURCES.length, PUBLIC_ENDPOINTS.length);
+        return patterns;
+    }
+
+    /**
+     * Check whether a path can be accessed without authentication.
+     *
+     * @param path The path within the application, e.g. the servlet path.
+     * @return True if the path matches one of the public routes.
+     */
+    public boolean isPublic(String path) {
+        if (path == null || path.isEmpty()) {
+            return false;
+        }
+        List<PathPattern> candidates = patternsBySegment.get(firstSegment(path));
+        List<PathPattern> wildcards = patternsBySegment.get(ANY_SEGMENT);
+        if (candidates == null && wildcards == null) {
+            return false;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return matchesAny(candidates, pathContainer) || matchesAny(wildcards, pathContainer);
+    }
+
+    /**
+     * Check whether a public path should still authenticate the caller when a bearer token is sent.
+     *
+     * @param path The path within the application, e.g. the servlet path.
+     * @return True if the path matches one of the optionally authenticated routes.
+     */
+    public boolean isOptionallyAuthenticated(String path) {
+        if (path == null || path.isEmpty()) {
+            return false;
+        }
+        return matchesAny(optionalAuthenticationPatterns, PathContainer.parsePath(path));
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, PathContainer pathContainer) {
+        if (patterns != null) {
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+        return segment.contains("*") || segment.contains("{") ? ANY_SEGMENT : segment;
+    }
+}
@@ -0,0 +1,171 @@
+package com.berliz.JWT;
+
+import com.berliz.utils.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits requests per route group, keyed by the authenticated user id or, for anonymous requests,
+ * by the client IP. It runs right after {@link JWTFilter} so the user is already known, and answers
+ * 429 Too Many Requests with a Retry-After header once a bucket is empty.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // credential endpoints that run BCrypt or send mail
+    static final String[] AUTH_ROUTES = {
+            "/user/login",
+            "/user/signup",
+            "/user/quickAdd",
+            "/user/forgotPassword",
+            "/user/resetPassword",
+            "/user/validatePasswordToken",
+            "/user/activateAccount",
+            "/user/sendActivationToken/**",
+            "/user/refreshToken"
+    };
+
+    // anonymous forms that write to the database
+    static final String[] PUBLIC_WRITE_ROUTES = {
+            "/contactUs/add",
+            "/newsletter/add",
+            "/newsletter/updateStatus"
+    };
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${berliz.rate-limit.auth.capacity:10}")
+    private long authCapacity;
+
+    @Value("${berliz.rate-limit.auth.refill-per-minute:10}")
+    private long authRefillPerMinute;
+
+    @Value("${berliz.rate-limit.public-write.capacity:5}")
+    private long publicWriteCapacity;
+
+    @Value("${berliz.rate-limit.public-write.refill-per-minute:5}")
+    private long publicWriteRefillPerMinute;
+
+    @Value("${berliz.rate-limit.default.capacity:200}")
+    private long defaultCapacity;
+
+    @Value("${berliz.rate-limit.default.refill-per-minute:600}")
+    private long defaultRefillPerMinute;
+
+    private final List<RouteGroup> routeGroups = new ArrayList<>();
+
+    private RouteGroup defaultGroup;
+
+    @PostConstruct
+    public void init() {
+        routeGroups.add(new RouteGroup("auth", AUTH_ROUTES, authCapacity, authRefillPerMinute));
+        routeGroups.add(new RouteGroup("public-write", PUBLIC_WRITE_ROUTES,
+                publicWriteCapacity, publicWriteRefillPerMinute));
+        defaultGroup = new RouteGroup("default", new String[0], defaultCapacity, defaultRefillPerMinute);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = resolveGroup(httpServletRequest.getServletPath());
+        long waitNanos = group.limiter.tryAcquire(clientKey(httpServletRequest));
+        if (waitNanos == 0) {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+            return;
+        }
+
+        group.throttled.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        httpServletResponse.setStatus(429);
+        httpServletResponse.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        httpServletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        httpServletResponse.getWriter().write("{\"message\":\"Too many requests. Please try again in "
+                + retryAfterSeconds + " seconds\"}");
+    }
+
+    /**
+     * Drop idle buckets so that one-off clients do not accumulate in memory.
+     */
+    @Scheduled(fixedDelayString = "${berliz.rate-limit.eviction-ms:60000}")
+    public void evictIdleBuckets() {
+        int evicted = defaultGroup.limiter.evictIdle();
+        for (RouteGroup group : routeGroups) {
+            evicted += group.limiter.evictIdle();
+        }
+        log.debug("Evicted {} idle rate limit buckets", evicted);
+    }
+
+    private RouteGroup resolveGroup(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path == null ? "" : path);
+        for (RouteGroup group : routeGroups) {
+            if (group.matches(pathContainer)) {
+                return group;
+            }
+        }
+        return defaultGroup;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        if (currentUser != null && currentUser.getId() != null) {
+            return "u:" + currentUser.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private class RouteGroup {
+
+        private final List<PathPattern> patterns = new ArrayList<>();
+
+        private final TokenBucketRateLimiter limiter;
+
+        private final Counter throttled;
+
+        RouteGroup(String name, String[] routes, long capacity, long refillPerMinute) {
+            for (String route : routes) {
+                patterns.add(PathPatternParser.defaultInstance.parse(route));
+            }
+            this.limiter = new TokenBucketRateLimiter(capacity, refillPerMinute);
+            this.throttled = meterRegistry.counter("berliz.ratelimit.throttled", "group", name);
+        }
+
+        boolean matches(PathContainer pathContainer) {
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
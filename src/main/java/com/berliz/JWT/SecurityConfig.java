@@ -1,6 +1,7 @@
 package com.berliz.JWT;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,6 +34,16 @@ public class SecurityConfig {
     @Autowired
     JWTAuthEntryPoint jwtAuthEntryPoint;
 
+    @Autowired
+    PublicRoutes publicRoutes;
+
+    @Autowired
+    RateLimitFilter rateLimitFilter;
+
+    // raising this re-hashes each stored password with the new cost on that user's next login
+    @Value("${berliz.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
         auth.userDetailsService(clientUserDetailsService);
     }
@@ -43,13 +54,14 @@ public class SecurityConfig {
 
         authProvider.setUserDetailsService(clientUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(clientUserDetailsService);
 
         return authProvider;
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
 
@@ -67,31 +79,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
                         auth
-                                // Allow access to static resources
-                                .requestMatchers("/images/**", "/videos/**", "/public/**", "/css/**", "/js/**", "/webjars/**").permitAll()
-                                .requestMatchers(
-                                        ("/user/login"),
-                                        ("/user/signup"),
-                                        ("/user/refreshToken"),
-                                        ("/user/forgotPassword"),
-                                        ("/newsletter/add"),
-                                        ("/newsletter/updateStatus"),
-                                        ("/user/validatePasswordToken"),
-                                        ("/user/resetPassword"),
-                                        ("/user/activateAccount"),
-                                        ("/category/getActiveCategories"),
-                                        ("/contactUs/add"),
-                                        ("/dashboard/berliz"),
-                                        ("/trainer/getActiveTrainers"),
-                                        ("/center/getActiveCenters"),
-                                        ("/stomp"),
-                                        ("/user/quickAdd"),
-                                        ("/user/sendActivationToken/**"),
-                                        ("/static/**"),
-                                        ("/swagger-ui/**"),
-                                        ("/api-docs/**"),
-                                        ("/swagger-ui.html")
-                                )
+                                // Allow access to static resources and public endpoints
+                                .requestMatchers(publicRoutes.getPatterns())
                                 .permitAll()
                                 .anyRequest().authenticated());
 
@@ -102,6 +91,8 @@ public class SecurityConfig {
 
         httpSecurity.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
+        httpSecurity.addFilterAfter(rateLimitFilter, JWTFilter.class);
+
         return httpSecurity.build();
     }
 
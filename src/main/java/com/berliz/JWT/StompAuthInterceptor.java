@@ -0,0 +1,75 @@
+package com.berliz.JWT;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions from the bearer token sent as the "Authorization" header of the CONNECT
+ * frame, so that notifications can be delivered to /user/queue/notification of that user only.
+ * <p>
+ * Sessions without a token stay anonymous and can still subscribe to the public topics; a CONNECT with
+ * an invalid, revoked or deactivated user's token is refused.
+ */
+@Slf4j
+@Component
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private JWTUtility jwtUtility;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private InactiveUserRegistry inactiveUserRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String authorizationHeader = accessor.getFirstNativeHeader("Authorization");
+            if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+                accessor.setUser(new StompPrincipal(authenticate(authorizationHeader.substring(BEARER_PREFIX.length()))));
+            }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            // queues are only reachable through /user/queue/..., which resolves to the session's own queue
+            String destination = accessor.getDestination();
+            if (destination != null && destination.startsWith("/queue/")) {
+                throw new MessageDeliveryException("Subscribe to /user" + destination + " instead");
+            }
+        }
+        return message;
+    }
+
+    private AuthenticatedUser authenticate(String token) {
+        Claims claims;
+        try {
+            claims = jwtUtility.extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.info("Refused STOMP connection with an invalid token: {}", ex.getMessage());
+            throw new MessageDeliveryException("Invalid token");
+        }
+        AuthenticatedUser user = AuthenticatedUser.fromClaims(claims);
+        if (user.getId() == null || tokenRevocationService.isRevoked(token, claims)
+                || inactiveUserRegistry.isInactive(user.getId())) {
+            throw new MessageDeliveryException("Token is no longer valid");
+        }
+        return user;
+    }
+}
@@ -0,0 +1,29 @@
+package com.berliz.JWT;
+
+import lombok.Getter;
+
+import java.security.Principal;
+
+/**
+ * Principal of an authenticated STOMP session. It is named after the user id, which is what
+ * user destinations such as /user/{id}/queue/notification are resolved against.
+ */
+@Getter
+public final class StompPrincipal implements Principal {
+
+    private final AuthenticatedUser user;
+
+    public StompPrincipal(AuthenticatedUser user) {
+        this.user = user;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(user.getId());
+    }
+
+    @Override
+    public String toString() {
+        return "StompPrincipal{" + user + "}";
+    }
+}
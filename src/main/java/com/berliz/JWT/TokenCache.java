@@ -0,0 +1,89 @@
+package com.berliz.JWT;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of verified bearer tokens, so that a token is only parsed and its user loaded
+ * once per cache lifetime instead of on every request.
+ */
+@Slf4j
+@Component
+public class TokenCache {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.jwt.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${berliz.jwt.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, VerifiedToken> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "jwtTokenCache");
+    }
+
+    /**
+     * Get the verified token for the given raw token, if it is cached and has not expired.
+     *
+     * @param token The raw bearer token.
+     * @return The cached verified token, or null on a miss.
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verifiedToken = cache.getIfPresent(token);
+        if (verifiedToken != null && verifiedToken.isExpired()) {
+            cache.invalidate(token);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(token, verifiedToken);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(token);
+    }
+
+    /**
+     * Evict every cached token belonging to the given user, e.g. after a status or role change.
+     *
+     * @param email The email (token subject) of the user.
+     */
+    public void evictUser(String email) {
+        if (email == null) {
+            return;
+        }
+        boolean removed = cache.asMap().values().removeIf(verifiedToken ->
+                email.equalsIgnoreCase(verifiedToken.getUsername()));
+        log.info("Evicted cached tokens for {}: {}", email, removed);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
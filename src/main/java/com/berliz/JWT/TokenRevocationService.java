@@ -0,0 +1,187 @@
+package com.berliz.JWT;
+
+import com.berliz.models.RevokedToken;
+import com.berliz.repositories.RevokedTokenRepo;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hashing;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Revokes access and refresh tokens before they expire. Revocations are persisted, and an in-process Bloom
+ * filter answers the common "not revoked" case without a database query; only a filter hit is confirmed
+ * against the revokedToken table.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    // refresh tokens are the longest-lived tokens, so a revocation is useless after this long
+    private static final long MAX_TOKEN_LIFETIME_MS = 1000 * 60 * 60 * 24;
+
+    @Autowired
+    RevokedTokenRepo revokedTokenRepo;
+
+    @Autowired
+    TokenCache tokenCache;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.jwt.revocation.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${berliz.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter<String> bloomFilter;
+
+    private Counter bloomHits;
+
+    private Counter revokedRejections;
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = newBloomFilter();
+        bloomHits = meterRegistry.counter("berliz.jwt.revocation.bloom.hits");
+        revokedRejections = meterRegistry.counter("berliz.jwt.revocation.rejected");
+    }
+
+    /**
+     * Revoke a single token, e.g. on logout.
+     *
+     * @param token  The raw token.
+     * @param claims The verified claims of the token.
+     */
+    public void revokeToken(String token, Claims claims) {
+        String tokenHash = hash(token);
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenHash(tokenHash);
+        revokedToken.setUserId(claims.getId() != null ? Integer.parseInt(claims.getId()) : null);
+        revokedToken.setExpiresAt(claims.getExpiration() != null ? claims.getExpiration()
+                : new Date(System.currentTimeMillis() + MAX_TOKEN_LIFETIME_MS));
+        revokedToken.setDate(new Date());
+        revokedTokenRepo.save(revokedToken);
+        synchronized (this) {
+            bloomFilter.put(tokenKey(tokenHash));
+        }
+        tokenCache.evict(token);
+        log.info("Revoked token of user {}", claims.getSubject());
+    }
+
+    /**
+     * Revoke every token issued to a user until now, e.g. on deactivation, password change or deletion.
+     *
+     * @param userId The id of the user.
+     * @param email  The email of the user, used to evict their cached tokens.
+     */
+    public void revokeUser(Integer userId, String email) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setUserId(userId);
+        revokedToken.setRevokedBefore(new Date(now));
+        revokedToken.setExpiresAt(new Date(now + MAX_TOKEN_LIFETIME_MS));
+        revokedToken.setDate(new Date(now));
+        revokedTokenRepo.save(revokedToken);
+        synchronized (this) {
+            bloomFilter.put(userKey(userId));
+        }
+        tokenCache.evictUser(email);
+        log.info("Revoked all tokens of user {}", userId);
+    }
+
+    /**
+     * Check whether a token has been revoked, either on its own or together with every token of its user.
+     *
+     * @param token  The raw token.
+     * @param claims The verified claims of the token.
+     * @return True if the token must be rejected.
+     */
+    public boolean isRevoked(String token, Claims claims) {
+        BloomFilter<String> filter = bloomFilter;
+        String tokenHash = hash(token);
+        if (filter.mightContain(tokenKey(tokenHash))) {
+            bloomHits.increment();
+            if (revokedTokenRepo.existsByTokenHash(tokenHash)) {
+                revokedRejections.increment();
+                return true;
+            }
+        }
+
+        Integer userId = claims.getId() != null ? Integer.parseInt(claims.getId()) : null;
+        if (userId != null && filter.mightContain(userKey(userId))) {
+            bloomHits.increment();
+            Date revokedBefore = revokedTokenRepo.findLatestRevocationForUser(userId);
+            // token dates only have second precision
+            if (revokedBefore != null && claims.getIssuedAt() != null
+                    && claims.getIssuedAt().getTime() < revokedBefore.getTime() / 1000 * 1000) {
+                revokedRejections.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop revocations whose tokens have expired anyway, and rebuild the Bloom filter from the remaining rows.
+     * This also picks up revocations made by other instances.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${berliz.jwt.revocation.compaction-ms:3600000}",
+            initialDelayString = "${berliz.jwt.revocation.compaction-ms:3600000}")
+    public void compact() {
+        try {
+            Date now = new Date();
+            int removed = revokedTokenRepo.deleteExpired(now);
+            // revocations are not added to the old filter while the new one is being built
+            synchronized (this) {
+                List<RevokedToken> active = revokedTokenRepo.findActive(now);
+                BloomFilter<String> filter = newBloomFilter();
+                for (RevokedToken revokedToken : active) {
+                    if (revokedToken.getTokenHash() != null) {
+                        filter.put(tokenKey(revokedToken.getTokenHash()));
+                    } else {
+                        filter.put(userKey(revokedToken.getUserId()));
+                    }
+                }
+                bloomFilter = filter;
+                log.info("Compacted token revocations: removed {}, active {}", removed, active.size());
+            }
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    private BloomFilter<String> newBloomFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+    }
+
+    private static String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+
+    private static String tokenKey(String tokenHash) {
+        return "t:" + tokenHash;
+    }
+
+    private static String userKey(Integer userId) {
+        return "u:" + userId;
+    }
+}
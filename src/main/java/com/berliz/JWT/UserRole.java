@@ -0,0 +1,50 @@
+package com.berliz.JWT;
+
+/**
+ * Roles carried in the "role" claim of an access token.
+ */
+public enum UserRole {
+
+    ADMIN("admin"),
+    USER("user"),
+    CLIENT("client"),
+    PARTNER("partner"),
+    TRAINER("trainer"),
+    CENTER("center"),
+    MEMBER("member"),
+    MEMBER_CLIENT("memberClient"),
+    STORE("store"),
+    DRIVER("driver"),
+    UNKNOWN("");
+
+    private final String value;
+
+    UserRole(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getAuthority() {
+        return "ROLE_" + name();
+    }
+
+    /**
+     * Parse a role claim, ignoring case.
+     *
+     * @param value The role as stored on the user and in the token.
+     * @return The matching role, or UNKNOWN if the value is null or not recognized.
+     */
+    public static UserRole fromValue(String value) {
+        if (value != null) {
+            for (UserRole role : values()) {
+                if (role != UNKNOWN && role.value.equalsIgnoreCase(value)) {
+                    return role;
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+}
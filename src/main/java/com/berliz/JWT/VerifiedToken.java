@@ -0,0 +1,41 @@
+package com.berliz.JWT;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+
+/**
+ * A bearer token whose signature has already been verified, together with the principal loaded for it.
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Claims claims;
+
+    private final UserDetails userDetails;
+
+    private final AuthenticatedUser authenticatedUser;
+
+    private final Date expiration;
+
+    public VerifiedToken(Claims claims, UserDetails userDetails) {
+        this.claims = claims;
+        this.userDetails = userDetails;
+        this.authenticatedUser = AuthenticatedUser.fromClaims(claims);
+        this.expiration = claims.getExpiration();
+    }
+
+    public String getUsername() {
+        return authenticatedUser.getEmail();
+    }
+
+    public Integer getUserId() {
+        return authenticatedUser.getId();
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -0,0 +1,267 @@
+package com.berliz;
+
+import com.berliz.utils.UnreadNotificationCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Prunes the notification table every night, with an age limit and a per-user count limit for each role.
+ * <p>
+ * Rows are removed in small chunks, each chunk in its own short transaction that also updates the unread
+ * counters, so the job never holds locks for long. Removed rows can be archived to a gzipped JSON lines
+ * file per run. The job deletes data for good and is off unless berliz.notifications.retention.enabled is set.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String DEFAULT_ROLE = "default";
+
+    private static final String COLUMNS = "n.id, n.user_fk, n.notification, n.is_read, n.date";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.notifications.retention.enabled:false}")
+    private boolean enabled;
+
+    // role:maxAgeDays:maxCountPerUser, comma separated; "default" covers every role not listed
+    @Value("${berliz.notifications.retention.policies:admin:30:500,default:180:1000}")
+    private String policiesProperty;
+
+    @Value("${berliz.notifications.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${berliz.notifications.retention.pause-ms:50}")
+    private long pauseMs;
+
+    // empty to delete without archiving
+    @Value("${berliz.notifications.retention.archive-dir:}")
+    private String archiveDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<RetentionPolicy> policies;
+
+    private Timer runTimer;
+
+    @PostConstruct
+    public void init() {
+        policies = parsePolicies(policiesProperty);
+        runTimer = meterRegistry.timer("berliz.notifications.retention.duration");
+    }
+
+    @Scheduled(cron = "${berliz.notifications.retention.cron:0 30 3 * * ?}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try (Archive archive = openArchive()) {
+            for (RetentionPolicy policy : policies) {
+                int removedByAge = pruneByAge(policy, archive);
+                int removedByCount = pruneByCount(policy, archive);
+                log.info("Notification retention for role {}: {} removed by age, {} by count",
+                        policy.role, removedByAge, removedByCount);
+            }
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        } finally {
+            runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int pruneByAge(RetentionPolicy policy, Archive archive) throws IOException, InterruptedException {
+        if (policy.maxAgeDays <= 0) {
+            return 0;
+        }
+        Timestamp cutoff = new Timestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(policy.maxAgeDays));
+        String sql = "SELECT " + COLUMNS + " FROM notification n JOIN users u ON u.id = n.user_fk " +
+                "WHERE " + roleCondition(policy) + " AND n.date < ? ORDER BY n.id LIMIT ?";
+        List<Object> params = roleParams(policy);
+        params.add(cutoff);
+        params.add(chunkSize);
+
+        int removed = 0;
+        List<NotificationRow> chunk;
+        do {
+            chunk = jdbcTemplate.query(sql, ROW_MAPPER, params.toArray());
+            removed += removeChunk(chunk, policy, "age", archive);
+        } while (chunk.size() == chunkSize);
+        return removed;
+    }
+
+    private int pruneByCount(RetentionPolicy policy, Archive archive) throws IOException, InterruptedException {
+        if (policy.maxCount <= 0) {
+            return 0;
+        }
+        String usersSql = "SELECT n.user_fk FROM notification n JOIN users u ON u.id = n.user_fk " +
+                "WHERE " + roleCondition(policy) + " GROUP BY n.user_fk HAVING COUNT(*) > ?";
+        List<Object> params = roleParams(policy);
+        params.add(policy.maxCount);
+        List<Integer> userIds = jdbcTemplate.queryForList(usersSql, Integer.class, params.toArray());
+
+        // everything past the newest maxCount notifications of the user
+        String sql = "SELECT " + COLUMNS + " FROM notification n WHERE n.user_fk = ? " +
+                "ORDER BY n.date DESC, n.id DESC OFFSET ? LIMIT ?";
+        int removed = 0;
+        for (Integer userId : userIds) {
+            List<NotificationRow> chunk;
+            do {
+                chunk = jdbcTemplate.query(sql, ROW_MAPPER, userId, policy.maxCount, chunkSize);
+                removed += removeChunk(chunk, policy, "count", archive);
+            } while (chunk.size() == chunkSize);
+        }
+        return removed;
+    }
+
+    private int removeChunk(List<NotificationRow> chunk, RetentionPolicy policy, String reason, Archive archive)
+            throws IOException, InterruptedException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Integer> ids = new ArrayList<>(chunk.size());
+        for (NotificationRow row : chunk) {
+            ids.add(row.id);
+        }
+        // archived and flushed before the delete commits, so a failed write (e.g. a full disk) loses nothing
+        archive.write(chunk);
+        int removed = unreadNotificationCounter.delete(ids);
+        meterRegistry.counter("berliz.notifications.retention.removed", "role", policy.role, "policy", reason)
+                .increment(removed);
+        if (pauseMs > 0) {
+            // let regular traffic through between chunks
+            Thread.sleep(pauseMs);
+        }
+        return removed;
+    }
+
+    private String roleCondition(RetentionPolicy policy) {
+        if (!DEFAULT_ROLE.equals(policy.role)) {
+            return "u.role = ?";
+        }
+        StringJoiner listed = new StringJoiner(", ", "(u.role IS NULL OR u.role NOT IN (", "))");
+        listed.setEmptyValue("TRUE");
+        for (RetentionPolicy other : policies) {
+            if (!DEFAULT_ROLE.equals(other.role)) {
+                listed.add("?");
+            }
+        }
+        return listed.toString();
+    }
+
+    private List<Object> roleParams(RetentionPolicy policy) {
+        List<Object> params = new ArrayList<>();
+        if (!DEFAULT_ROLE.equals(policy.role)) {
+            params.add(policy.role);
+            return params;
+        }
+        for (RetentionPolicy other : policies) {
+            if (!DEFAULT_ROLE.equals(other.role)) {
+                params.add(other.role);
+            }
+        }
+        return params;
+    }
+
+    static List<RetentionPolicy> parsePolicies(String property) {
+        List<RetentionPolicy> parsed = new ArrayList<>();
+        for (String entry : property.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid notification retention policy: " + entry);
+            }
+            parsed.add(new RetentionPolicy(parts[0].trim(), Integer.parseInt(parts[1].trim()),
+                    Integer.parseInt(parts[2].trim())));
+        }
+        return parsed;
+    }
+
+    private Archive openArchive() {
+        if (archiveDir == null || archiveDir.isEmpty()) {
+            return new Archive(null);
+        }
+        String name = "notifications-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".jsonl.gz";
+        return new Archive(Paths.get(archiveDir).resolve(name));
+    }
+
+    private static final RowMapper<NotificationRow> ROW_MAPPER = (rs, rowNum) -> new NotificationRow(
+            rs.getInt("id"), rs.getInt("user_fk"), rs.getString("notification"),
+            rs.getBoolean("is_read"), rs.getTimestamp("date"));
+
+    record RetentionPolicy(String role, int maxAgeDays, int maxCount) {
+    }
+
+    private record NotificationRow(int id, int userId, String notification, boolean read, Timestamp date) {
+    }
+
+    // the file is only created with the first removed row, so a run that deletes nothing leaves no archive
+    private class Archive implements AutoCloseable {
+
+        private final Path file;
+
+        private BufferedWriter writer;
+
+        Archive(Path file) {
+            this.file = file;
+        }
+
+        void write(List<NotificationRow> rows) throws IOException {
+            if (file == null || rows.isEmpty()) {
+                return;
+            }
+            if (writer == null) {
+                Files.createDirectories(file.getParent());
+                writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+            }
+            for (NotificationRow row : rows) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("id", row.id);
+                line.put("userId", row.userId);
+                line.put("notification", row.notification);
+                line.put("read", row.read);
+                line.put("date", row.date == null ? null : row.date.getTime());
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.newLine();
+            }
+            // sync flush: the compressed rows reach the file, not just the deflater
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
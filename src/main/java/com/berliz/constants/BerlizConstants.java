@@ -43,6 +43,14 @@ public class BerlizConstants {
 
     public static final String BERLIZ_SERVER_URL = "http://localhost:8001/";
 
+    public static final String VIDEO_STREAM_PATH = "video/";
+
+    public static final String VIDEO_SOURCE_FEATURE = "feature";
+
+    public static final String VIDEO_SOURCE_TRAINER_ALBUM = "trainerAlbum";
+
+    public static final String VIDEO_SOURCE_CENTER_ALBUM = "centerAlbum";
+
     public static final String BERLIZ_SUPER_ADMIN = "berlizworld@gmail.com";
 
     public static final String TRAINER_PHOTO_OWNER = "trainerPhotoAlbum";
@@ -1,5 +1,6 @@
 package com.berliz.models;
 
+import com.berliz.utils.ListingCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.DynamicInsert;
@@ -30,6 +31,7 @@ import java.util.Set;
 
 @Data
 @Entity
+@EntityListeners(ListingCacheInvalidator.class)
 @DynamicInsert
 @DynamicUpdate
 @Table(name = "category")
@@ -11,11 +11,16 @@ import java.util.Date;
 @NamedQuery(name = "CategoryLike.findByCategoryId",
         query = "SELECT cl FROM CategoryLike cl WHERE cl.category.id = :id")
 
+@NamedQuery(name = "CategoryLike.deleteByUserAndCategory",
+        query = "DELETE FROM CategoryLike cl WHERE cl.user = :user AND cl.category = :category")
+
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "categoryLike")
+@Table(name = "categoryLike", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_category_like_user_category", columnNames = {"user_fk", "category_fk"})
+})
 public class CategoryLike implements Serializable {
 
     private static final long SerialVersionUID = 1L;
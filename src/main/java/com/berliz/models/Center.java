@@ -1,7 +1,11 @@
 package com.berliz.models;
 
+import com.berliz.utils.ListingCacheInvalidator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -20,6 +24,13 @@ import java.util.Set;
 @NamedQuery(name = "Center.getActiveCenters",
         query = "SELECT c FROM Center c WHERE c.status = 'true'")
 
+@NamedQuery(name = "Center.getActiveCenterCards",
+        query = "SELECT new com.berliz.wrapper.CenterWrapper(c.id, c.name, c.motto, c.address, c.experience, " +
+                "c.location, c.photoHash, c.likes, listagg(cat.name, ';') WITHIN GROUP (ORDER BY cat.name)) " +
+                "FROM Center c LEFT JOIN c.categorySet cat WHERE c.status = 'true' " +
+                "GROUP BY c.id, c.name, c.motto, c.address, c.experience, c.location, c.photoHash, c.likes " +
+                "ORDER BY c.id")
+
 @NamedQuery(name = "Center.findByCenterId",
         query = "SELECT c FROM Center c WHERE c.id = :id")
 
@@ -38,11 +49,22 @@ import java.util.Set;
                 "where c.id = :id")
 
 // The @Data annotation generates all the boilerplate that is normally associated with simple POJOs
+
+@NamedQuery(name = "Center.findPage",
+        query = "SELECT c FROM Center c WHERE c.date IS NOT NULL ORDER BY c.date DESC, c.id DESC")
+
+@NamedQuery(name = "Center.findPageAfter",
+        query = "SELECT c FROM Center c WHERE c.date < :date OR (c.date = :date AND c.id < :id) " +
+                "ORDER BY c.date DESC, c.id DESC")
+
 @Data
 @Entity
+@EntityListeners(ListingCacheInvalidator.class)
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "center")
+@Table(name = "center", indexes = {
+        @Index(name = "idx_center_date_id", columnList = "date, id")
+})
 public class Center implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -71,8 +93,15 @@ public class Center implements Serializable {
     @Column(name = "location", columnDefinition = "TEXT")
     private String location;
 
-    @Column(name = "photo", columnDefinition = "BYTEA")
-    private byte[] photo;
+    @Column(name = "photoHash", length = 64)
+    private String photoHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "photoHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob photoBlob;
 
     @Column(name = "likes", columnDefinition = "INTEGER")
     private int likes;
@@ -102,4 +131,8 @@ public class Center implements Serializable {
     @Column(name = "status")
     private String status;
 
+    public void setPhoto(MediaBlob photo) {
+        this.photoBlob = photo;
+        this.photoHash = photo == null ? null : photo.getHash();
+    }
 }
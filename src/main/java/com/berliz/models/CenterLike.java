@@ -11,11 +11,16 @@ import java.util.Date;
 @NamedQuery(name = "CenterLike.findByCenterId",
         query = "SELECT cl FROM CenterLike cl WHERE cl.center.id = :id")
 
+@NamedQuery(name = "CenterLike.deleteByUserAndCenter",
+        query = "DELETE FROM CenterLike cl WHERE cl.user = :user AND cl.center = :center")
+
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "centerLike")
+@Table(name = "centerLike", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_center_like_user_center", columnNames = {"user_fk", "center_fk"})
+})
 public class CenterLike implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -1,8 +1,12 @@
 package com.berliz.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -50,8 +54,15 @@ public class Exercise implements Serializable {
             inverseJoinColumns = @JoinColumn(name = "categoryId"))
     private Set<Category> categories = new HashSet<>();
 
-    @Column(name = "demo", columnDefinition = "BYTEA")
-    private byte[] demo;
+    @Column(name = "demoHash", length = 64)
+    private String demoHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "demoHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob demoBlob;
 
     @Column(name = "status")
     private String status;
@@ -62,4 +73,14 @@ public class Exercise implements Serializable {
     @Column(name = "lastUpdate", columnDefinition = "TIMESTAMP")
     private Date lastUpdate;
 
+    // exercises have no custom serializer, expose the demo as a media URL in their json
+    @JsonProperty("demo")
+    public String getDemo() {
+        return MediaBlob.url(demoHash);
+    }
+
+    public void setDemo(MediaBlob demo) {
+        this.demoBlob = demo;
+        this.demoHash = demo == null ? null : demo.getHash();
+    }
 }
@@ -0,0 +1,83 @@
+package com.berliz.models;
+
+import com.berliz.constants.BerlizConstants;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.io.Serializable;
+import java.util.Date;
+
+// a blob is public when a photo, image or demo references it; partner documents are not
+@NamedNativeQuery(name = "MediaBlob.isPublic",
+        query = "SELECT EXISTS (SELECT 1 FROM trainer WHERE photo_hash = :hash) " +
+                "OR EXISTS (SELECT 1 FROM center WHERE photo_hash = :hash) " +
+                "OR EXISTS (SELECT 1 FROM users WHERE profile_photo_hash = :hash) " +
+                "OR EXISTS (SELECT 1 FROM muscle_group WHERE image_hash = :hash) " +
+                "OR EXISTS (SELECT 1 FROM exercise WHERE demo_hash = :hash)")
+
+/**
+ * Binary content (photos, documents, videos) stored once per distinct content, keyed by its sha-256.
+ * Entities only keep the hash, so loading them no longer reads the bytes.
+ */
+@Data
+@Entity
+@DynamicInsert
+@DynamicUpdate
+@Table(name = "mediaBlob")
+public class MediaBlob implements Serializable {
+
+    private static final long SerialVersionUID = 1L;
+
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(name = "contentType")
+    private String contentType;
+
+    @Column(name = "size", columnDefinition = "BIGINT")
+    private long size;
+
+    @ToString.Exclude
+    @Column(name = "data", columnDefinition = "BYTEA", nullable = false)
+    private byte[] data;
+
+    @Column(name = "date", columnDefinition = "TIMESTAMP")
+    private Date date;
+
+    /**
+     * Get the content of a possibly missing blob.
+     *
+     * @param blob The blob, or null.
+     * @return The bytes, or null when there is no blob.
+     */
+    public static byte[] dataOf(MediaBlob blob) {
+        return blob == null ? null : blob.getData();
+    }
+
+    /**
+     * Get the URL the media endpoint serves a blob at. The URL changes with the content, so clients and
+     * CDNs can cache it forever.
+     *
+     * @param hash The blob hash, or null.
+     * @return The URL, or null when there is no blob.
+     */
+    public static String url(String hash) {
+        return hash == null ? null : BerlizConstants.BERLIZ_SERVER_URL + "media/" + hash;
+    }
+
+    /**
+     * Get the URL of an image rendition of a blob (thumb, card or full). Until the rendition is ready the
+     * endpoint answers it with the original.
+     *
+     * @param hash      The blob hash, or null.
+     * @param rendition The rendition name.
+     * @return The URL, or null when there is no blob.
+     */
+    public static String url(String hash, String rendition) {
+        return hash == null ? null : url(hash) + "?size=" + rendition;
+    }
+}
@@ -2,8 +2,11 @@ package com.berliz.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -40,8 +43,15 @@ public class MuscleGroup implements Serializable {
     @Column(name = "bodyPart")
     private String bodyPart;
 
-    @Column(name = "image", columnDefinition = "BYTEA")
-    private byte[] image;
+    @Column(name = "imageHash", length = 64)
+    private String imageHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "imageHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob imageBlob;
 
     @Column(name = "status")
     private String status;
@@ -52,4 +62,14 @@ public class MuscleGroup implements Serializable {
     @Column(name = "lastUpdate", columnDefinition = "TIMESTAMP")
     private Date lastUpdate;
 
+    // muscle groups have no custom serializer, expose the image as a media URL in their json
+    @JsonProperty("image")
+    public String getImage() {
+        return MediaBlob.url(imageHash, "card");
+    }
+
+    public void setImage(MediaBlob image) {
+        this.imageBlob = image;
+        this.imageHash = image == null ? null : image.getHash();
+    }
 }
@@ -17,13 +17,37 @@ import java.util.Date;
 @NamedQuery(name = "Notification.bulkUnreadByIds",
         query = "UPDATE Notification SET read = false WHERE id IN :ids")
 
+// inbox order: unread first, then newest first. Each of the two ranges, unread and read, is read on its own:
+// one seek on idx_notification_inbox, (user_fk, is_read, date DESC, id DESC), in index order
+@NamedQuery(name = "Notification.findInbox",
+        query = "SELECT n FROM Notification n WHERE n.user.id = :userId AND n.read = :read " +
+                "ORDER BY n.date DESC, n.id DESC")
+
+// the rows of a range after the (date, id) cursor, in the same order
+@NamedQuery(name = "Notification.findInboxAfter",
+        query = "SELECT n FROM Notification n WHERE n.user.id = :userId AND n.read = :read " +
+                "AND (n.date, n.id) < (:date, :id) " +
+                "ORDER BY n.date DESC, n.id DESC")
+
+@NamedQuery(name = "Notification.countUnreadByUserId",
+        query = "SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.read = false")
+
+@NamedQuery(name = "Notification.countByIdsAndReadGroupByUser",
+        query = "SELECT n.user.id, COUNT(n) FROM Notification n " +
+                "WHERE n.id IN :ids AND n.read = :read GROUP BY n.user.id")
+
+@NamedQuery(name = "Notification.findUserIdsByIds",
+        query = "SELECT DISTINCT n.user.id FROM Notification n WHERE n.id IN :ids")
+
 
 
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_inbox", columnList = "user_fk, isRead, date DESC, id DESC")
+})
 public class Notification {
 
 
@@ -0,0 +1,33 @@
+package com.berliz.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.io.Serializable;
+
+/**
+ * Number of unread notifications of a user, kept in sync by every write to the notification table so the
+ * unread badge is a primary key lookup instead of a count.
+ */
+@NamedQuery(name = "NotificationCounter.addUnread",
+        query = "UPDATE NotificationCounter c SET c.unreadCount = c.unreadCount + :delta WHERE c.userId = :userId")
+
+@Data
+@Entity
+@DynamicInsert
+@DynamicUpdate
+@Table(name = "notificationCounter")
+public class NotificationCounter implements Serializable {
+
+    private static final long SerialVersionUID = 1L;
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "INTEGER")
+    private Integer userId;
+
+    @Column(name = "unreadCount", columnDefinition = "INTEGER DEFAULT 0", nullable = false)
+    private int unreadCount;
+
+}
@@ -26,12 +26,53 @@ import java.util.Set;
 @NamedQuery(name = "Order.countOrdersByEmail",
        query =  "SELECT COUNT(o) FROM Order o WHERE o.user.email = :email")
 
+@NamedQuery(name = "Order.findPage",
+        query = "SELECT o FROM Order o WHERE o.date IS NOT NULL ORDER BY o.date DESC, o.id DESC")
+
+@NamedQuery(name = "Order.findPageAfter",
+        query = "SELECT o FROM Order o WHERE o.date < :date OR (o.date = :date AND o.id < :id) " +
+                "ORDER BY o.date DESC, o.id DESC")
+
+@NamedQuery(name = "Order.findPageByUserId",
+        query = "SELECT o FROM Order o WHERE o.user.id = :userId AND o.date IS NOT NULL " +
+                "ORDER BY o.date DESC, o.id DESC")
+
+@NamedQuery(name = "Order.findPageByUserIdAfter",
+        query = "SELECT o FROM Order o WHERE o.user.id = :userId " +
+                "AND (o.date < :date OR (o.date = :date AND o.id < :id)) " +
+                "ORDER BY o.date DESC, o.id DESC")
+
+@NamedQuery(name = "Order.findByUserIdWithDetails",
+        query = "SELECT o FROM Order o WHERE o.user.id = :id ORDER BY o.date DESC, o.id DESC")
+
+@NamedQuery(name = "Order.findByOrderIdWithDetails",
+        query = "SELECT o FROM Order o WHERE o.id = :id")
+
+@NamedQuery(name = "Order.findByIdsWithDetails",
+        query = "SELECT o FROM Order o WHERE o.id IN :ids")
+
+// Fetch plan of the order list and detail views: the order with its user and its line items, each with its
+// product and the product's brand, read in one statement instead of one per order and one per line item
+@NamedEntityGraph(name = "Order.withDetails",
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "orderDetailsSet", subgraph = "orderDetails")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "orderDetails",
+                        attributeNodes = @NamedAttributeNode(value = "product", subgraph = "product")),
+                @NamedSubgraph(name = "product",
+                        attributeNodes = @NamedAttributeNode("brand"))
+        })
+
 // The @Data annotation generates all the boilerplate that is normally associated with simple POJOs
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_date_id", columnList = "date, id")
+})
 public class Order implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -1,7 +1,10 @@
 package com.berliz.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -46,14 +49,28 @@ public class Partner implements Serializable {
     @JoinColumn(name = "user_fk", nullable = false)
     private User user;
 
-    @Column(name = "certificate", columnDefinition = "BYTEA")
-    private byte[] certificate;
+    @Column(name = "certificateHash", length = 64)
+    private String certificateHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "certificateHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob certificateBlob;
 
     @Column(name = "motivation", columnDefinition = "TEXT")
     private String motivation;
 
-    @Column(name = "cv", columnDefinition = "BYTEA")
-    private byte[] cv;
+    @Column(name = "cvHash", length = 64)
+    private String cvHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cvHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob cvBlob;
 
     @Column(name = "facebookUrl")
     private String facebookUrl;
@@ -76,4 +93,13 @@ public class Partner implements Serializable {
     @Column(name = "status")
     private String status;
 
+    public void setCertificate(MediaBlob certificate) {
+        this.certificateBlob = certificate;
+        this.certificateHash = certificate == null ? null : certificate.getHash();
+    }
+
+    public void setCv(MediaBlob cv) {
+        this.cvBlob = cv;
+        this.cvHash = cv == null ? null : cv.getHash();
+    }
 }
@@ -15,15 +15,22 @@ import java.util.Date;
 
 @NamedQuery(
         name = "Photo.getAllTrainerPhotoAlbumPhotos",
-        query = "SELECT p FROM Photo p WHERE p.ownerType = 'trainerPhotoAlbum'"
+        query = "SELECT p FROM Photo p WHERE p.ownerType = :owner"
 )
 
+@NamedQuery(
+        name = "Photo.findByOwnerTypeAndOwnerIds",
+        query = "SELECT p FROM Photo p WHERE p.ownerType = :ownerType AND p.ownerId IN :ownerIds " +
+                "ORDER BY p.ownerId, p.id"
+)
 
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "photo")
+@Table(name = "photo", indexes = {
+        @Index(name = "idx_photo_owner", columnList = "owner_type, owner_id")
+})
 public class Photo implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -22,11 +22,20 @@ import java.util.Set;
 @NamedQuery(name = "Product.findByProductId",
         query = "SELECT p FROM Product p WHERE p.id = :id")
 
+@NamedQuery(name = "Product.findPage",
+        query = "SELECT p FROM Product p WHERE p.date IS NOT NULL ORDER BY p.date DESC, p.id DESC")
+
+@NamedQuery(name = "Product.findPageAfter",
+        query = "SELECT p FROM Product p WHERE p.date < :date OR (p.date = :date AND p.id < :id) " +
+                "ORDER BY p.date DESC, p.id DESC")
+
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_date_id", columnList = "date, id")
+})
 public class Product implements Serializable {
 
     private static final long SerialVersionUID = 1L;
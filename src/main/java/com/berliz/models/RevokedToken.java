@@ -0,0 +1,54 @@
+package com.berliz.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.io.Serializable;
+import java.util.Date;
+
+@NamedQuery(name = "RevokedToken.deleteExpired",
+        query = "DELETE FROM RevokedToken rt WHERE rt.expiresAt < :now")
+
+@NamedQuery(name = "RevokedToken.findLatestRevocationForUser",
+        query = "SELECT MAX(rt.revokedBefore) FROM RevokedToken rt WHERE rt.userId = :userId")
+
+@NamedQuery(name = "RevokedToken.findActive",
+        query = "SELECT rt FROM RevokedToken rt WHERE rt.expiresAt >= :now")
+
+@Data
+@Entity
+@DynamicInsert
+@DynamicUpdate
+@Table(name = "revokedToken", indexes = {
+        @Index(name = "idx_revoked_token_hash", columnList = "tokenHash"),
+        @Index(name = "idx_revoked_token_user", columnList = "user_id")
+})
+public class RevokedToken implements Serializable {
+
+    private static final long SerialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", columnDefinition = "INTEGER")
+    private Integer id;
+
+    // SHA-256 of a single revoked token, null for a user-wide revocation
+    @Column(name = "tokenHash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", columnDefinition = "INTEGER")
+    private Integer userId;
+
+    // for a user-wide revocation, every token issued before this time is revoked
+    @Column(name = "revokedBefore", columnDefinition = "TIMESTAMP")
+    private Date revokedBefore;
+
+    @Column(name = "expiresAt", columnDefinition = "TIMESTAMP", nullable = false)
+    private Date expiresAt;
+
+    @Column(name = "date", columnDefinition = "TIMESTAMP")
+    private Date date;
+
+}
@@ -30,11 +30,21 @@ import java.util.Set;
                 "where c.id = :id")
 
 // The @Data annotation generates all the boilerplate that is normally associated with simple POJOs
+
+@NamedQuery(name = "Store.findPage",
+        query = "SELECT s FROM Store s WHERE s.date IS NOT NULL ORDER BY s.date DESC, s.id DESC")
+
+@NamedQuery(name = "Store.findPageAfter",
+        query = "SELECT s FROM Store s WHERE s.date < :date OR (s.date = :date AND s.id < :id) " +
+                "ORDER BY s.date DESC, s.id DESC")
+
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "store")
+@Table(name = "store", indexes = {
+        @Index(name = "idx_store_date_id", columnList = "date, id")
+})
 public class Store implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -1,7 +1,11 @@
 package com.berliz.models;
 
+import com.berliz.utils.ListingCacheInvalidator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -32,12 +36,27 @@ import java.util.Set;
 @NamedQuery(name = "Trainer.getActiveTrainers",
         query = "SELECT t FROM Trainer t WHERE t.status = 'true'")
 
+@NamedQuery(name = "Trainer.getActiveTrainerCards",
+        query = "SELECT new com.berliz.wrapper.TrainerWrapper(t.id, t.name, t.motto, t.address, t.experience, " +
+                "t.photoHash, t.likes, listagg(c.name, ';') WITHIN GROUP (ORDER BY c.name)) " +
+                "FROM Trainer t LEFT JOIN t.categorySet c WHERE t.status = 'true' " +
+                "GROUP BY t.id, t.name, t.motto, t.address, t.experience, t.photoHash, t.likes ORDER BY t.id")
+
+@NamedQuery(name = "Trainer.findPage",
+        query = "SELECT t FROM Trainer t WHERE t.date IS NOT NULL ORDER BY t.date DESC, t.id DESC")
+
+@NamedQuery(name = "Trainer.findPageAfter",
+        query = "SELECT t FROM Trainer t WHERE t.date < :date OR (t.date = :date AND t.id < :id) " +
+                "ORDER BY t.date DESC, t.id DESC")
 
 @Data
 @Entity
+@EntityListeners(ListingCacheInvalidator.class)
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "trainer")
+@Table(name = "trainer", indexes = {
+        @Index(name = "idx_trainer_date_id", columnList = "date, id")
+})
 public class Trainer implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -63,8 +82,15 @@ public class Trainer implements Serializable {
     @Column(name = "experience")
     private String experience;
 
-    @Column(name = "photo", columnDefinition = "BYTEA")
-    private byte[] photo;
+    @Column(name = "photoHash", length = 64)
+    private String photoHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "photoHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob photoBlob;
 
     @Column(name = "likes", columnDefinition = "INTEGER")
     private int likes;
@@ -86,4 +112,8 @@ public class Trainer implements Serializable {
     @Column(name = "status")
     private String status;
 
+    public void setPhoto(MediaBlob photo) {
+        this.photoBlob = photo;
+        this.photoHash = photo == null ? null : photo.getHash();
+    }
 }
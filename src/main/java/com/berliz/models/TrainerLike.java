@@ -11,11 +11,25 @@ import java.util.Date;
 @NamedQuery(name = "TrainerLike.findByTrainerId",
         query = "SELECT tl FROM TrainerLike tl WHERE tl.trainer.id = :id")
 
+@NamedQuery(name = "TrainerLike.findPage",
+        query = "SELECT tl FROM TrainerLike tl WHERE tl.date IS NOT NULL ORDER BY tl.date DESC, tl.id DESC")
+
+@NamedQuery(name = "TrainerLike.findPageAfter",
+        query = "SELECT tl FROM TrainerLike tl WHERE tl.date < :date OR (tl.date = :date AND tl.id < :id) " +
+                "ORDER BY tl.date DESC, tl.id DESC")
+
+@NamedQuery(name = "TrainerLike.deleteByUserAndTrainer",
+        query = "DELETE FROM TrainerLike tl WHERE tl.user = :user AND tl.trainer = :trainer")
+
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "trainerLike")
+@Table(name = "trainerLike", indexes = {
+        @Index(name = "idx_trainer_like_date_id", columnList = "date, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trainer_like_user_trainer", columnNames = {"user_fk", "trainer_fk"})
+})
 public class TrainerLike implements Serializable {
 
     private static final long SerialVersionUID = 1L;
@@ -8,6 +8,11 @@ import org.hibernate.annotations.DynamicUpdate;
 import java.io.Serializable;
 import java.util.Date;
 
+@NamedQuery(
+        name = "TrainerPhotoAlbum.findAllWithTrainer",
+        query = "SELECT a FROM TrainerPhotoAlbum a JOIN FETCH a.trainer ORDER BY a.id"
+)
+
 @Data
 @Entity
 @DynamicInsert
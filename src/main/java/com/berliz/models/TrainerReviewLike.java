@@ -11,11 +11,16 @@ import java.util.Date;
 @NamedQuery(name = "TrainerReviewLike.findByTrainerReviewId",
         query = "SELECT trl FROM TrainerReviewLike trl WHERE trl.trainerReview.id = :id")
 
+@NamedQuery(name = "TrainerReviewLike.deleteByUserAndTrainerReview",
+        query = "DELETE FROM TrainerReviewLike trl WHERE trl.user = :user AND trl.trainerReview = :trainerReview")
+
 @Data
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "trainerReviewLike")
+@Table(name = "trainerReviewLike", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trainer_review_like_user_review", columnNames = {"user_fk", "trainerReview_fk"})
+})
 public class TrainerReviewLike implements Serializable {
 
     private static final long SerialVersionUID = 1L;
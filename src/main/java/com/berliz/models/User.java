@@ -1,8 +1,11 @@
 package com.berliz.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -29,6 +32,10 @@ import java.util.Set;
 
 @NamedQuery(name = "User.findAllAdmins", query = "select u from User u where u.role='admin'")
 
+@NamedQuery(name = "User.findAllAdminIds", query = "select u.id from User u where u.role='admin'")
+
+@NamedQuery(name = "User.getInactiveUserIds", query = "select u.id from User u where u.status is null or u.status <> 'true'")
+
 @Data
 @Entity
 @DynamicInsert
@@ -88,8 +95,15 @@ public class User implements Serializable {
     @Column(name = "token")
     private String token;
 
-    @Column(name = "profilePhoto", columnDefinition = "BYTEA")
-    private byte[] profilePhoto;
+    @Column(name = "profilePhotoHash", length = 64)
+    private String profilePhotoHash;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profilePhotoHash", referencedColumnName = "hash", insertable = false, updatable = false)
+    private MediaBlob profilePhotoBlob;
 
     @ManyToMany
     @JoinTable(
@@ -108,4 +122,8 @@ public class User implements Serializable {
     @Column(name = "lastUpdate", columnDefinition = "TIMESTAMP")
     private Date lastUpdate;
 
+    public void setProfilePhoto(MediaBlob profilePhoto) {
+        this.profilePhotoBlob = profilePhoto;
+        this.profilePhotoHash = profilePhoto == null ? null : profilePhoto.getHash();
+    }
 }
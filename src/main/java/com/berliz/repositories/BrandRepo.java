@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Brand;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -23,4 +25,6 @@ public interface BrandRepo extends JpaRepository<Brand, Integer> {
     @Modifying
     void updateBrand(@Param("name") String name, @Param("description") String description,
                     @Param("ratings") float ratings, @Param("id") Integer id);
+
+    Slice<Brand> findAllBy(Pageable pageable);
 }
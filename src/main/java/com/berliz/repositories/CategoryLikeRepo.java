@@ -3,6 +3,8 @@ package com.berliz.repositories;
 import com.berliz.models.*;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -29,9 +31,11 @@ public interface CategoryLikeRepo extends JpaRepository<CategoryLike, Integer> {
      *
      * @param user   The user for which to delete likes.
      * @param category The category for which to delete likes.
+     * @return The number of likes deleted, 0 if the user had not liked the category.
      */
     @Transactional
-    void deleteByUserAndCategory(User user, Category category);
+    @Modifying
+    int deleteByUserAndCategory(@Param("user") User user, @Param("category") Category category);
 
     /**
      * Check if a specific user has liked a specific center.
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Category;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -30,4 +32,5 @@ public interface CategoryRepo  extends JpaRepository<Category, Integer> {
 
     int countByNameExceptId(@Param("name") String name, @Param("id") Integer id);
 
+    Slice<Category> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterAnnouncement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -13,4 +15,6 @@ public interface CenterAnnouncementRepo extends JpaRepository<CenterAnnouncement
     List<CenterAnnouncement> findByCenter(Center center);
 
     List<CenterAnnouncement> getActiveCenterAnnouncements(Center center);
+
+    Slice<CenterAnnouncement> findAllBy(Pageable pageable);
 }
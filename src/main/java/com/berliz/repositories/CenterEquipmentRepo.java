@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterEquipment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -11,4 +13,6 @@ public interface CenterEquipmentRepo extends JpaRepository<CenterEquipment, Inte
     CenterEquipment findByName(String name);
 
     List<CenterEquipment> findByCenter(Center center);
+
+    Slice<CenterEquipment> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterIntroduction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -11,4 +13,6 @@ public interface CenterIntroductionRepo extends JpaRepository<CenterIntroduction
     CenterIntroduction findByIntroduction(String introduction);
 
     List<CenterIntroduction> findByCenter(Center center);
+
+    Slice<CenterIntroduction> findAllBy(Pageable pageable);
 }
@@ -2,7 +2,11 @@ package com.berliz.repositories;
 
 import com.berliz.models.*;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -13,7 +17,10 @@ public interface CenterLikeRepo extends JpaRepository<CenterLike, Integer> {
     List<Center> getByUser(User user);
 
     @Transactional
-    void deleteByUserAndCenter(User user, Center center);
+    @Modifying
+    int deleteByUserAndCenter(@Param("user") User user, @Param("center") Center center);
 
     boolean existsByUserAndCenter(User user, Center center);
+
+    Slice<CenterLike> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterLocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -11,4 +13,6 @@ public interface CenterLocationRepo extends JpaRepository<CenterLocation, Intege
     CenterLocation findBySubName(String subName);
 
     List<CenterLocation> findByCenter(Center center);
+
+    Slice<CenterLocation> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterPhotoAlbum;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -11,4 +13,6 @@ public interface CenterPhotoAlbumRepo extends JpaRepository<CenterPhotoAlbum, In
     CenterPhotoAlbum findByUuid(String uuid);
 
     List<CenterPhotoAlbum> findByCenter(Center center);
+
+    Slice<CenterPhotoAlbum> findAllBy(Pageable pageable);
 }
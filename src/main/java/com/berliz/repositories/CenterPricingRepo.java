@@ -2,9 +2,13 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterPricing;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CenterPricingRepo  extends JpaRepository<CenterPricing, Integer> {
 
     CenterPricing findByCenter(Center center);
+
+    Slice<CenterPricing> findAllBy(Pageable pageable);
 }
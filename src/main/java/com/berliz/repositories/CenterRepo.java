@@ -1,13 +1,17 @@
 package com.berliz.repositories;
 
 import com.berliz.models.Center;
+import com.berliz.wrapper.CenterWrapper;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -40,4 +44,11 @@ public interface CenterRepo extends JpaRepository<Center, Integer> {
 
     List<Center>getActiveCenters();
 
+    List<CenterWrapper> getActiveCenterCards();
+
+    List<Center> findPage(Pageable pageable);
+
+    List<Center> findPageAfter(@Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    Slice<Center> findAllBy(Pageable pageable);
 }
@@ -1,6 +1,8 @@
 package com.berliz.repositories;
 
 import com.berliz.models.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -12,4 +14,6 @@ public interface CenterTrainerRepo extends JpaRepository<CenterTrainer, Integer>
     List<CenterTrainer> findByCenter(Center center);
 
     boolean existsByCenterAndTrainer(Center center, Trainer trainer);
+
+    Slice<CenterTrainer> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Center;
 import com.berliz.models.CenterVideoAlbum;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -11,4 +13,6 @@ public interface CenterVideoAlbumRepo extends JpaRepository<CenterVideoAlbum, In
     CenterVideoAlbum findByUuid(String uuid);
 
     List<CenterVideoAlbum> findByCenter(Center center);
+
+    Slice<CenterVideoAlbum> findAllBy(Pageable pageable);
 }
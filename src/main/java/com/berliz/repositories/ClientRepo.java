@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -19,4 +21,6 @@ public interface ClientRepo extends JpaRepository<Client, Integer> {
     List<Client>getMyActiveClientsByTrainer(Trainer trainer);
 
     Integer countTrainerClientsByEmail(String email);
-}
\ No newline at end of file
+
+    Slice<Client> findAllBy(Pageable pageable);
+}
@@ -1,9 +1,13 @@
 package com.berliz.repositories;
 
 import com.berliz.models.ContactUsMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ContactUsMessageRepo extends JpaRepository<ContactUsMessage, Integer> {
 
     ContactUsMessage findByMessage(String message);
+
+    Slice<ContactUsMessage> findAllBy(Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.ContactUs;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,5 +17,6 @@ public interface ContactUsRepo extends JpaRepository<ContactUs, Integer> {
     @Transactional
     @Modifying
     Integer updateStatus(@PathVariable("id") Integer id, @PathVariable("status") String status);
-}
 
+    Slice<ContactUs> findAllBy(Pageable pageable);
+}
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Driver;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +28,6 @@ public interface DriverRepo extends JpaRepository<Driver, Integer> {
     Driver findByDriverId(Integer id);
 
     Driver findByPartnerId(Integer id);
+
+    Slice<Driver> findAllBy(Pageable pageable);
 }
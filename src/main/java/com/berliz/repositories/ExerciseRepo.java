@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.Category;
 import com.berliz.models.Exercise;
 import com.berliz.models.MuscleGroup;
@@ -40,4 +42,6 @@ public interface ExerciseRepo extends JpaRepository<Exercise, Integer> {
      * @return List of exercises whose status is true.
      */
     List<Exercise> getActiveExercises();
+
+    Slice<Exercise> findAllBy(Pageable pageable);
 }
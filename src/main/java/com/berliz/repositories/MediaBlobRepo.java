@@ -0,0 +1,10 @@
+package com.berliz.repositories;
+
+import com.berliz.models.MediaBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface MediaBlobRepo extends JpaRepository<MediaBlob, String> {
+
+    boolean isPublic(@Param("hash") String hash);
+}
@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -23,4 +25,6 @@ public interface MemberRepo extends JpaRepository<Member, Integer> {
 //    Member findByPartnerId(Integer id);
 
     Integer countCenterMembersByEmail(String email);
+
+    Slice<Member> findAllBy(Pageable pageable);
 }
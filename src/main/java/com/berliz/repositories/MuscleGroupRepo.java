@@ -1,6 +1,8 @@
 package com.berliz.repositories;
 
 import com.berliz.models.MuscleGroup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -21,4 +23,6 @@ public interface MuscleGroupRepo extends JpaRepository<MuscleGroup, Integer> {
      * @return List of muscle groups whose status is true.
      */
     List<MuscleGroup> getActiveMuscleGroups();
+
+    Slice<MuscleGroup> findAllBy(Pageable pageable);
 }
@@ -1,9 +1,13 @@
 package com.berliz.repositories;
 
 import com.berliz.models.NewsletterMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface NewsletterMessageRepo extends JpaRepository<NewsletterMessage, Integer> {
 
     NewsletterMessage findByMessage(String message);
-}
\ No newline at end of file
+
+    Slice<NewsletterMessage> findAllBy(Pageable pageable);
+}
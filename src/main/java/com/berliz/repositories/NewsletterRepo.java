@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Newsletter;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -60,4 +62,6 @@ public interface NewsletterRepo extends JpaRepository<Newsletter, Integer> {
     @Transactional
     @Modifying
     void updateNewsletter(@Param("email") String email, @Param("id") Integer id);
+
+    Slice<Newsletter> findAllBy(Pageable pageable);
 }
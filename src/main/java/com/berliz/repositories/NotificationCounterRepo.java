@@ -0,0 +1,22 @@
+package com.berliz.repositories;
+
+import com.berliz.models.NotificationCounter;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationCounterRepo extends JpaRepository<NotificationCounter, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<NotificationCounter> findByUserIdInOrderByUserId(Collection<Integer> userIds);
+
+    @Transactional
+    @Modifying
+    int addUnread(@Param("userId") Integer userId, @Param("delta") int delta);
+}
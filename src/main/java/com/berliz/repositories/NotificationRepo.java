@@ -3,10 +3,13 @@ package com.berliz.repositories;
 import com.berliz.models.Notification;
 import com.berliz.models.User;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 
 public interface NotificationRepo extends JpaRepository<Notification, Integer> {
@@ -17,6 +20,17 @@ public interface NotificationRepo extends JpaRepository<Notification, Integer> {
 
     Boolean existsByUser(User user);
 
+    List<Notification> findInbox(@Param("userId") Integer userId, @Param("read") boolean read, Pageable pageable);
+
+    List<Notification> findInboxAfter(@Param("userId") Integer userId, @Param("read") boolean read,
+                                      @Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    long countUnreadByUserId(@Param("userId") Integer userId);
+
+    List<Object[]> countByIdsAndReadGroupByUser(@Param("ids") List<Integer> ids, @Param("read") boolean read);
+
+    List<Integer> findUserIdsByIds(@Param("ids") List<Integer> ids);
+
     @Transactional
     @Modifying
     int bulkDeleteByIds(@Param("ids") List<Integer> ids);
@@ -28,4 +42,6 @@ public interface NotificationRepo extends JpaRepository<Notification, Integer> {
     @Transactional
     @Modifying
     int bulkUnreadByIds(@Param("ids") List<Integer> ids);
+
+    Slice<Notification> findAllBy(Pageable pageable);
 }
@@ -2,12 +2,17 @@ package com.berliz.repositories;
 
 import com.berliz.models.Order;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 public interface OrderRepo extends JpaRepository<Order, Integer> {
@@ -27,4 +32,25 @@ public interface OrderRepo extends JpaRepository<Order, Integer> {
     @Query()
     Integer countOrdersByEmail(@Param("email") String email);
 
+    List<Order> findPage(Pageable pageable);
+
+    List<Order> findPageAfter(@Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    List<Order> findPageByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    List<Order> findPageByUserIdAfter(@Param("userId") Integer userId, @Param("date") Date date,
+                                      @Param("id") Integer id, Pageable pageable);
+
+    Slice<Order> findAllBy(Pageable pageable);
+
+    Slice<Order> findAllByUserId(Integer userId, Pageable pageable);
+
+    @EntityGraph("Order.withDetails")
+    List<Order> findByUserIdWithDetails(@Param("id") Integer id);
+
+    @EntityGraph("Order.withDetails")
+    Order findByOrderIdWithDetails(@Param("id") Integer id);
+
+    @EntityGraph("Order.withDetails")
+    List<Order> findByIdsWithDetails(@Param("ids") Collection<Integer> ids);
 }
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.Partner;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -29,4 +31,5 @@ public interface PartnerRepo extends JpaRepository<Partner, Integer> {
 
     Integer countPartnerByEmail(@Param("email") String email);
 
+    Slice<Partner> findAllBy(Pageable pageable);
 }
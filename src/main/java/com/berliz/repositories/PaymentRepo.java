@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.Payment;
 import com.berliz.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -47,4 +49,6 @@ public interface PaymentRepo extends JpaRepository<Payment, Integer> {
      * @return List of payments whose status is true.
      */
     List<Payment> getActivePayments();
+
+    Slice<Payment> findAllBy(Pageable pageable);
 }
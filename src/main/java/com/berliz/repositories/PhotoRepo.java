@@ -5,18 +5,22 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PhotoRepo extends JpaRepository<Photo, Integer> {
 
     @Query(name = "Photo.getPhotosByTrainerPhotoAlbum")
-    List<Photo> getPhotosByTrainerPhotoAlbum(@Param("id") Integer albumId);
+    List<Photo> getPhotosByTrainerPhotoAlbum(@Param("ownerId") Integer albumId);
 
     @Query(name = "Photo.getAllTrainerPhotoAlbumPhotos")
     List<Photo> getAllTrainerPhotoAlbumPhotos(@Param("owner") String ownerType);
 
     List<Photo> findByOwnerTypeAndOwnerId(String ownerType, Integer ownerId);
 
+    List<Photo> findByOwnerTypeAndOwnerIds(@Param("ownerType") String ownerType,
+                                           @Param("ownerIds") Collection<Integer> ownerIds);
+
     void deleteByOwnerTypeAndOwnerId(String ownerType, Integer ownerId);
 
 
@@ -2,11 +2,14 @@ package com.berliz.repositories;
 
 import com.berliz.models.Product;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.Date;
 import java.util.List;
 
 public interface ProductRepo extends JpaRepository<Product, Integer> {
@@ -27,4 +30,10 @@ public interface ProductRepo extends JpaRepository<Product, Integer> {
     List<Product> findByBrandId(Integer id);
 
     Product findByProductId(Integer id);
+
+    List<Product> findPage(Pageable pageable);
+
+    List<Product> findPageAfter(@Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    Slice<Product> findAllBy(Pageable pageable);
 }
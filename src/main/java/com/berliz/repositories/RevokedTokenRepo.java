@@ -0,0 +1,23 @@
+package com.berliz.repositories;
+
+import com.berliz.models.RevokedToken;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface RevokedTokenRepo extends JpaRepository<RevokedToken, Integer> {
+
+    boolean existsByTokenHash(String tokenHash);
+
+    Date findLatestRevocationForUser(@Param("userId") Integer userId);
+
+    List<RevokedToken> findActive(@Param("now") Date now);
+
+    @Transactional
+    @Modifying
+    int deleteExpired(@Param("now") Date now);
+}
@@ -2,11 +2,14 @@ package com.berliz.repositories;
 
 import com.berliz.models.Store;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -75,4 +78,24 @@ public interface StoreRepo extends JpaRepository<Store, Integer> {
      * @return The list of stores with the specified category ID.
      */
     List<Store> getByCategoryId(@Param("id") Integer id);
+
+    /**
+     * Get the first stores, newest first.
+     *
+     * @param pageable The page size, one more than the client asked for.
+     * @return The stores of the first page.
+     */
+    List<Store> findPage(Pageable pageable);
+
+    /**
+     * Get the stores after a keyset cursor, newest first.
+     *
+     * @param date     The date of the last store of the previous page.
+     * @param id       The ID of the last store of the previous page.
+     * @param pageable The page size, one more than the client asked for.
+     * @return The stores of the next page.
+     */
+    List<Store> findPageAfter(@Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    Slice<Store> findAllBy(Pageable pageable);
 }
@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.Exercise;
 import com.berliz.models.SubTask;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,4 +28,5 @@ public interface SubTaskRepo extends JpaRepository<SubTask, Integer> {
      */
     List<SubTask> findByExercise(Exercise exercise);
 
+    Slice<SubTask> findAllBy(Pageable pageable);
 }
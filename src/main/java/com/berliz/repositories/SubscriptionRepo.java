@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.*;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,4 +38,6 @@ public interface SubscriptionRepo extends JpaRepository<Subscription, Integer> {
     @Transactional
     @Modifying
     int bulkDeleteByIds(@Param("ids") List<Integer> ids);
-}
\ No newline at end of file
+
+    Slice<Subscription> findAllBy(Pageable pageable);
+}
@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -23,4 +25,6 @@ public interface TaskRepo extends JpaRepository<Task, Integer> {
     Integer countClientTasksByEmail(String email);
 
     Integer countTrainerTasksByEmail(String email);
-}
\ No newline at end of file
+
+    Slice<Task> findAllBy(Pageable pageable);
+}
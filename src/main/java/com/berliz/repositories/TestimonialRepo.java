@@ -1,6 +1,8 @@
 
 package com.berliz.repositories;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
 import com.berliz.models.Center;
 import com.berliz.models.Testimonial;
 import com.berliz.models.User;
@@ -47,4 +49,6 @@ public interface TestimonialRepo extends JpaRepository<Testimonial, Integer> {
     Integer countUserTestimonialsByEmail(String email);
 
     Integer countCenterTestimonialsByEmail(String email);
-}
\ No newline at end of file
+
+    Slice<Testimonial> findAllBy(Pageable pageable);
+}
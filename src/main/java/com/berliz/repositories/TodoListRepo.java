@@ -3,6 +3,8 @@ package com.berliz.repositories;
 import com.berliz.models.TodoList;
 import com.berliz.models.User;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +28,6 @@ public interface TodoListRepo extends JpaRepository<TodoList, Integer> {
     @Transactional
     @Modifying
     int bulkDeleteByIds(@Param("ids") List<Integer> ids);
+
+    Slice<TodoList> findAllBy(Pageable pageable);
 }
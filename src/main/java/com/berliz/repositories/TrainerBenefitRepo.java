@@ -1,6 +1,8 @@
 package com.berliz.repositories;
 
 import com.berliz.models.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -10,4 +12,6 @@ public interface TrainerBenefitRepo extends JpaRepository<TrainerBenefit, Intege
     TrainerBenefit findByBenefits(String benefit);
 
     TrainerBenefit findByTrainer(Trainer trainer);
+
+    Slice<TrainerBenefit> findAllBy(Pageable pageable);
 }
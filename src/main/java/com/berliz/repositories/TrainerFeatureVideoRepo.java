@@ -3,6 +3,8 @@ package com.berliz.repositories;
 import com.berliz.models.Trainer;
 import com.berliz.models.TrainerFeatureVideo;
 import com.berliz.models.TrainerIntroduction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -13,4 +15,5 @@ public interface TrainerFeatureVideoRepo extends JpaRepository<TrainerFeatureVid
 
     TrainerFeatureVideo findByTrainer(Trainer trainer);
 
+    Slice<TrainerFeatureVideo> findAllBy(Pageable pageable);
 }
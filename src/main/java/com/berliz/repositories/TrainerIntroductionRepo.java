@@ -1,6 +1,8 @@
 package com.berliz.repositories;
 
 import com.berliz.models.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TrainerIntroductionRepo extends JpaRepository<TrainerIntroduction, Integer> {
@@ -8,4 +10,6 @@ public interface TrainerIntroductionRepo extends JpaRepository<TrainerIntroducti
     TrainerIntroduction findByIntroduction(String introduction);
 
     TrainerIntroduction findByTrainer(Trainer trainer);
+
+    Slice<TrainerIntroduction> findAllBy(Pageable pageable);
 }
@@ -4,8 +4,13 @@ import com.berliz.models.Trainer;
 import com.berliz.models.TrainerLike;
 import com.berliz.models.User;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 
 public interface TrainerLikeRepo extends JpaRepository<TrainerLike, Integer> {
@@ -15,7 +20,14 @@ public interface TrainerLikeRepo extends JpaRepository<TrainerLike, Integer> {
     List<TrainerLike> getByUser(User user);
 
     @Transactional
-    void deleteByUserAndTrainer(User user, Trainer trainer);
+    @Modifying
+    int deleteByUserAndTrainer(@Param("user") User user, @Param("trainer") Trainer trainer);
 
     boolean existsByUserAndTrainer(User user, Trainer trainer);
+
+    List<TrainerLike> findPage(Pageable pageable);
+
+    List<TrainerLike> findPageAfter(@Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    Slice<TrainerLike> findAllBy(Pageable pageable);
 }
@@ -1,7 +1,10 @@
 package com.berliz.repositories;
 
 import com.berliz.models.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -10,4 +13,9 @@ public interface TrainerPhotoAlbumRepo extends JpaRepository<TrainerPhotoAlbum,
 //    TrainerPhotoAlbum findByUuid(String uuid);
 
     List<TrainerPhotoAlbum> findByTrainer(Trainer trainer);
+
+    @Query(name = "TrainerPhotoAlbum.findAllWithTrainer")
+    List<TrainerPhotoAlbum> findAllWithTrainer();
+
+    Slice<TrainerPhotoAlbum> findAllBy(Pageable pageable);
 }
@@ -2,10 +2,13 @@ package com.berliz.repositories;
 
 import com.berliz.models.Trainer;
 import com.berliz.models.TrainerPricing;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TrainerPricingRepo extends JpaRepository<TrainerPricing, Integer> {
 
     TrainerPricing findByTrainer(Trainer trainer);
 
+    Slice<TrainerPricing> findAllBy(Pageable pageable);
 }
@@ -1,13 +1,17 @@
 package com.berliz.repositories;
 
 import com.berliz.models.Trainer;
+import com.berliz.wrapper.TrainerWrapper;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -37,4 +41,12 @@ public interface TrainerRepo extends JpaRepository<Trainer, Integer> {
     Trainer findByPartnerId(Integer id);
 
     List<Trainer>getActiveTrainers();
+
+    List<TrainerWrapper> getActiveTrainerCards();
+
+    List<Trainer> findPage(Pageable pageable);
+
+    List<Trainer> findPageAfter(@Param("date") Date date, @Param("id") Integer id, Pageable pageable);
+
+    Slice<Trainer> findAllBy(Pageable pageable);
 }
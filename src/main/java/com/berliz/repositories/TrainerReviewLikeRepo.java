@@ -4,7 +4,11 @@ import com.berliz.models.TrainerReview;
 import com.berliz.models.TrainerReviewLike;
 import com.berliz.models.User;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -15,8 +19,10 @@ public interface TrainerReviewLikeRepo extends JpaRepository<TrainerReviewLike,
     List<TrainerReviewLike> getByUser(User user);
 
     @Transactional
-    void deleteByUserAndTrainerReview(User user, TrainerReview trainerReview);
+    @Modifying
+    int deleteByUserAndTrainerReview(@Param("user") User user, @Param("trainerReview") TrainerReview trainerReview);
 
     boolean existsByUserAndTrainerReview(User user, TrainerReview trainerReview);
-}
 
+    Slice<TrainerReviewLike> findAllBy(Pageable pageable);
+}
@@ -1,6 +1,8 @@
 package com.berliz.repositories;
 
 import com.berliz.models.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -15,4 +17,5 @@ public interface TrainerReviewRepo extends JpaRepository<TrainerReview, Integer>
 
     List<TrainerReview> getActiveTrainerReviewsByTrainer(Trainer trainer);
 
-}
\ No newline at end of file
+    Slice<TrainerReview> findAllBy(Pageable pageable);
+}
@@ -2,6 +2,8 @@ package com.berliz.repositories;
 
 import com.berliz.models.User;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +23,10 @@ public interface UserRepo extends JpaRepository<User, Integer> {
 
     List<User> findAllAdmins();
 
+    List<Integer> findAllAdminIds();
+
+    List<Integer> getInactiveUserIds();
+
     @Transactional
     @Modifying
     Integer updateStatus(@PathVariable("id") Integer id, @PathVariable("status") String status);
@@ -32,4 +38,5 @@ public interface UserRepo extends JpaRepository<User, Integer> {
 
     User findByEmail(String email);
 
+    Slice<User> findAllBy(Pageable pageable);
 }
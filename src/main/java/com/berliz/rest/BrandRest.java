@@ -14,7 +14,9 @@ public interface BrandRest {
     ResponseEntity<String> addBrand(@RequestBody(required = true) Map<String, String> requestMap);
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Brand>> getAllBrands(@RequestParam(required = false) String filterValue);
+    ResponseEntity<List<Brand>> getAllBrands(@RequestParam(required = false) String filterValue,
+                                             @RequestParam(required = false) Integer page,
+                                             @RequestParam(required = false) Integer size);
 
     @PutMapping(path = "/update")
     ResponseEntity<String> updateBrand(@RequestBody(required = true) Map<String, String> requestMap);
@@ -15,7 +15,8 @@ public interface CategoryRest {
     ResponseEntity<String> addCategory(@RequestBody(required = true) Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Category>> getCategories();
+    ResponseEntity<List<Category>> getCategories(@RequestParam(required = false) Integer page,
+                                                 @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActiveCategories")
     ResponseEntity<List<Category>> getActiveCategories();
@@ -2,6 +2,7 @@ package com.berliz.rest;
 
 import com.berliz.DTO.*;
 import com.berliz.models.*;
+import com.berliz.wrapper.CenterWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,10 +20,15 @@ public interface CenterRest {
     ResponseEntity<String> addCenter(@ModelAttribute CenterRequest centerRequest) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Center>> getAllCenters();
+    ResponseEntity<List<Center>> getAllCenters(@RequestParam(required = false) Integer page,
+                                               @RequestParam(required = false) Integer size);
+
+    @GetMapping(path = "/getPage")
+    ResponseEntity<CursorPage<Center>> getCentersPage(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer limit);
 
     @GetMapping(path = "/getActiveCenters")
-    ResponseEntity<List<Center>> getActiveCenters();
+    ResponseEntity<List<CenterWrapper>> getActiveCenters();
 
     @PutMapping(path = "/update")
     ResponseEntity<String> updateCenter(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
@@ -46,7 +52,9 @@ public interface CenterRest {
     ResponseEntity<String> likeCenter(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getCenterLikes")
-    ResponseEntity<List<CenterLike>> getCenterLikes() throws JsonProcessingException;
+    ResponseEntity<List<CenterLike>> getCenterLikes(@RequestParam(required = false) Integer page,
+                                                    @RequestParam(required = false) Integer size)
+            throws JsonProcessingException;
 
     @PutMapping(path = "/updatePhoto")
     ResponseEntity<String> updatePhoto(@ModelAttribute CenterRequest centerRequest) throws JsonProcessingException;
@@ -64,7 +72,8 @@ public interface CenterRest {
     ResponseEntity<String> updateCenterAnnouncementStatus(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterAnnouncements")
-    ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements();
+    ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements(@RequestParam(required = false) Integer page,
+                                                                       @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterAnnouncements")
     ResponseEntity<List<CenterAnnouncement>> getMyCenterAnnouncements();
@@ -82,7 +91,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterEquipment(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterEquipments")
-    ResponseEntity<List<CenterEquipment>> getAllCenterEquipments();
+    ResponseEntity<List<CenterEquipment>> getAllCenterEquipments(@RequestParam(required = false) Integer page,
+                                                                 @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterEquipments")
     ResponseEntity<List<CenterEquipment>> getMyCenterEquipments();
@@ -97,7 +107,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterIntroduction(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterIntroductions")
-    ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions();
+    ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions(@RequestParam(required = false) Integer page,
+                                                                       @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterIntroductions")
     ResponseEntity<List<CenterIntroduction>> getMyCenterIntroductions();
@@ -112,7 +123,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterLocation(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterLocations")
-    ResponseEntity<List<CenterLocation>> getAllCenterLocations();
+    ResponseEntity<List<CenterLocation>> getAllCenterLocations(@RequestParam(required = false) Integer page,
+                                                               @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterLocations")
     ResponseEntity<List<CenterLocation>> getMyCenterLocations();
@@ -127,7 +139,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterPhotoAlbum(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterPhotoAlbums")
-    ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums();
+    ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums(@RequestParam(required = false) Integer page,
+                                                                   @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterPhotoAlbums")
     ResponseEntity<List<CenterPhotoAlbum>> getMyCenterPhotoAlbums();
@@ -142,7 +155,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterPricing(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterPricing")
-    ResponseEntity<List<CenterPricing>> getAllCenterPricing();
+    ResponseEntity<List<CenterPricing>> getAllCenterPricing(@RequestParam(required = false) Integer page,
+                                                            @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterPricing")
     ResponseEntity<CenterPricing> getMyCenterPricing();
@@ -157,7 +171,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterTrainer(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterTrainers")
-    ResponseEntity<List<CenterTrainer>> getAllCenterTrainers();
+    ResponseEntity<List<CenterTrainer>> getAllCenterTrainers(@RequestParam(required = false) Integer page,
+                                                             @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterTrainers")
     ResponseEntity<List<CenterTrainer>> getMyCenterTrainers();
@@ -172,7 +187,8 @@ public interface CenterRest {
     ResponseEntity<String> deleteCenterVideoAlbum(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllCenterVideoAlbums")
-    ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums();
+    ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums(@RequestParam(required = false) Integer page,
+                                                                   @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterVideoAlbums")
     ResponseEntity<List<CenterVideoAlbum>> getMyCenterVideoAlbums();
@@ -196,7 +212,8 @@ public interface CenterRest {
     ResponseEntity<List<CenterReview>> getMyCenterReviews();
 
     @GetMapping(path = "/getAllCenterReviews")
-    ResponseEntity<List<CenterReview>> getAllCenterReviews();
+    ResponseEntity<List<CenterReview>> getAllCenterReviews(@RequestParam(required = false) Integer page,
+                                                           @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActiveCenterReviews/{id}")
     ResponseEntity<List<CenterReview>> getActiveCenterReviews(@PathVariable Integer id);
@@ -20,7 +20,8 @@ public interface ClientRest {
     ResponseEntity<String> addClient(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Client>> getAllClients();
+    ResponseEntity<List<Client>> getAllClients(@RequestParam(required = false) Integer page,
+                                               @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActiveClients")
     ResponseEntity<List<Client>> getActiveClients();
@@ -16,10 +16,12 @@ public interface ContactUsRest {
     ResponseEntity<String> addContactUs(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<ContactUs>> getAllContactUs();
+    ResponseEntity<List<ContactUs>> getAllContactUs(@RequestParam(required = false) Integer page,
+                                                    @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getContactUsMessages")
-    ResponseEntity<List<ContactUsMessage>> getContactUsMessages();
+    ResponseEntity<List<ContactUsMessage>> getContactUsMessages(@RequestParam(required = false) Integer page,
+                                                                @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getContactUs/{id}")
     ResponseEntity<?> getContactUs(@PathVariable Integer id) throws JsonProcessingException;
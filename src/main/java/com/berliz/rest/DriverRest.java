@@ -14,7 +14,8 @@ public interface DriverRest {
     ResponseEntity<String> addDriver(@RequestBody Map<String, String> requestMap);
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Driver>> getAllDrivers();
+    ResponseEntity<List<Driver>> getAllDrivers(@RequestParam(required = false) Integer page,
+                                               @RequestParam(required = false) Integer size);
 
     @PutMapping(path = "/update")
     ResponseEntity<String> updateDriver(@RequestBody Map<String, String> requestMap);
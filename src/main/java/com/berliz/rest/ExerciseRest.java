@@ -29,7 +29,8 @@ public interface ExerciseRest {
      * @return ResponseEntity containing the list of all exercises.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Exercise>> getAllExercises();
+    ResponseEntity<List<Exercise>> getAllExercises(@RequestParam(required = false) Integer page,
+                                                   @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active exercises.
@@ -0,0 +1,19 @@
+package com.berliz.rest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * REST API endpoint serving the public photos and demos kept in the media store.
+ */
+@RequestMapping(path = "/media")
+public interface MediaRest {
+
+    @GetMapping(path = "/{hash}")
+    ResponseEntity<byte[]> getMedia(@PathVariable String hash, @RequestParam(required = false) String size,
+                                   WebRequest webRequest);
+}
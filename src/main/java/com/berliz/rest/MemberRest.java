@@ -22,7 +22,8 @@ public interface MemberRest {
     ResponseEntity<String> addMember(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Member>> getAllMembers();
+    ResponseEntity<List<Member>> getAllMembers(@RequestParam(required = false) Integer page,
+                                               @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActiveMembers")
     ResponseEntity<List<Member>> getActiveMembers();
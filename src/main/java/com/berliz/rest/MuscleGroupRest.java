@@ -28,7 +28,8 @@ public interface MuscleGroupRest {
      * @return ResponseEntity containing the list of all muscle groups.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<MuscleGroup>> getAllMuscleGroups();
+    ResponseEntity<List<MuscleGroup>> getAllMuscleGroups(@RequestParam(required = false) Integer page,
+                                                         @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active muscle groups.
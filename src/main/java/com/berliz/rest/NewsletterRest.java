@@ -27,7 +27,9 @@ public interface NewsletterRest {
      * @return ResponseEntity containing the list of all newsletters.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Newsletter>> getAllNewsletters(@RequestParam(required = false) String filterValue);
+    ResponseEntity<List<Newsletter>> getAllNewsletters(@RequestParam(required = false) String filterValue,
+                                                       @RequestParam(required = false) Integer page,
+                                                       @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active newsletters.
@@ -43,7 +45,8 @@ public interface NewsletterRest {
      * @return ResponseEntity containing the list of active newsletters.
      */
     @GetMapping(path = "/getNewsletterMessages")
-    ResponseEntity<List<NewsletterMessage>> getNewsletterMessages();
+    ResponseEntity<List<NewsletterMessage>> getNewsletterMessages(@RequestParam(required = false) Integer page,
+                                                                  @RequestParam(required = false) Integer size);
 
     /**
      * Get a specific newsletter by ID.
@@ -1,5 +1,6 @@
 package com.berliz.rest;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Notification;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.ResponseEntity;
@@ -18,11 +19,20 @@ public interface NotificationRest {
     ResponseEntity<String> addNotification(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Notification>> getAllNotifications();
+    ResponseEntity<List<Notification>> getAllNotifications(@RequestParam(required = false) Integer page,
+                                                           @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyNotifications")
     ResponseEntity<List<Notification>> getMyNotifications();
 
+    @GetMapping(path = "/inbox")
+    ResponseEntity<CursorPage<Notification>> getInbox(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) Boolean unreadOnly);
+
+    @GetMapping(path = "/unreadCount")
+    ResponseEntity<Map<String, Integer>> getUnreadCount();
+
     @PutMapping(path = "/bulkAction")
     ResponseEntity<String> bulkAction(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
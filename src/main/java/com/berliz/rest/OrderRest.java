@@ -1,5 +1,6 @@
 package com.berliz.rest;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Order;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,7 +15,12 @@ public interface OrderRest {
     ResponseEntity<String> addOrder(@RequestBody Map<String, Object> requestMap);
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Order>> getAllOrders();
+    ResponseEntity<List<Order>> getAllOrders(@RequestParam(required = false) Integer page,
+                                            @RequestParam(required = false) Integer size);
+
+    @GetMapping(path = "/getPage")
+    ResponseEntity<CursorPage<Order>> getOrdersPage(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer limit);
 
     @PutMapping(path = "/update")
     ResponseEntity<String> updateOrder(@RequestBody Map<String, Object> requestMap);
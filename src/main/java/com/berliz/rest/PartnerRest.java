@@ -15,7 +15,8 @@ public interface PartnerRest {
     ResponseEntity<String> addPartner(@ModelAttribute PartnerRequest request);
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Partner>> getAllPartners();
+    ResponseEntity<List<Partner>> getAllPartners(@RequestParam(required = false) Integer page,
+                                                 @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActivePartners")
     ResponseEntity<List<Partner>> getActivePartners();
@@ -66,4 +67,14 @@ public interface PartnerRest {
      */
     @GetMapping(path = "/getPartner")
     ResponseEntity<Partner> getPartner();
+
+    /**
+     * Retrieves a partner's CV or certificate. Only the partner and admins can read them.
+     *
+     * @param id       The ID of the partner.
+     * @param document The document to retrieve, "cv" or "certificate".
+     * @return ResponseEntity containing the document.
+     */
+    @GetMapping(path = "/getDocument/{id}/{document}")
+    ResponseEntity<byte[]> getDocument(@PathVariable Integer id, @PathVariable String document);
 }
@@ -31,7 +31,8 @@ public interface PaymentRest {
      * @return ResponseEntity containing the list of all payments.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Payment>> getAllPayments();
+    ResponseEntity<List<Payment>> getAllPayments(@RequestParam(required = false) Integer page,
+                                                 @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active payments.
@@ -1,6 +1,7 @@
 package com.berliz.rest;
 
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Product;
 import com.berliz.wrapper.ProductWrapper;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +17,12 @@ public interface ProductRest {
     ResponseEntity<String> addProduct(@RequestBody Map<String, String> requestMap);
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Product>> getAllProducts();
+    ResponseEntity<List<Product>> getAllProducts(@RequestParam(required = false) Integer page,
+                                                 @RequestParam(required = false) Integer size);
+
+    @GetMapping(path = "/getPage")
+    ResponseEntity<CursorPage<Product>> getProductsPage(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit);
 
     @PutMapping(path = "/update")
     ResponseEntity<String> updateProduct(@RequestBody Map<String, String> requestMap);
@@ -1,5 +1,6 @@
 package com.berliz.rest;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Store;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,7 +29,19 @@ public interface StoreRest {
      * @return ResponseEntity containing the list of all stores.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Store>> getAllStores();
+    ResponseEntity<List<Store>> getAllStores(@RequestParam(required = false) Integer page,
+                                             @RequestParam(required = false) Integer size);
+
+    /**
+     * Get one page of the stores, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or empty for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity containing the page of stores.
+     */
+    @GetMapping(path = "/getPage")
+    ResponseEntity<CursorPage<Store>> getStoresPage(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer limit);
 
     /**
      * Update an existing store's details.
@@ -30,7 +30,8 @@ public interface SubscriptionRest {
      * @return ResponseEntity containing the list of all subscriptions.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Subscription>> getAllSubscriptions();
+    ResponseEntity<List<Subscription>> getAllSubscriptions(@RequestParam(required = false) Integer page,
+                                                           @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active subscriptions.
@@ -36,7 +36,8 @@ public interface TaskRest {
      * @return ResponseEntity containing the list of all tasks.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Task>> getAllTasks();
+    ResponseEntity<List<Task>> getAllTasks(@RequestParam(required = false) Integer page,
+                                           @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of all subtasks.
@@ -44,7 +45,8 @@ public interface TaskRest {
      * @return ResponseEntity containing the list of all subtasks.
      */
     @GetMapping(path = "/getSubTasks")
-    ResponseEntity<List<SubTask>> getAllSubTasks();
+    ResponseEntity<List<SubTask>> getAllSubTasks(@RequestParam(required = false) Integer page,
+                                                 @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active tasks.
@@ -52,7 +54,8 @@ public interface TaskRest {
      * @return ResponseEntity containing the list of active tasks.
      */
     @GetMapping(path = "/getActiveTasks")
-    ResponseEntity<List<Task>> getActiveTasks();
+    ResponseEntity<List<Task>> getActiveTasks(@RequestParam(required = false) Integer page,
+                                              @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active tasks.
@@ -30,7 +30,8 @@ public interface TestimonialRest {
      * @return ResponseEntity containing the list of all testimonials.
      */
     @GetMapping(path = "/get")
-    ResponseEntity<List<Testimonial>> getAllTestimonials();
+    ResponseEntity<List<Testimonial>> getAllTestimonials(@RequestParam(required = false) Integer page,
+                                                         @RequestParam(required = false) Integer size);
 
     /**
      * Get a list of active testimonials.
@@ -38,7 +39,8 @@ public interface TestimonialRest {
      * @return ResponseEntity containing the list of all testimonials whose status is true.
      */
     @GetMapping(path = "/getActiveTestimonials")
-    ResponseEntity<List<Testimonial>> getActiveTestimonials();
+    ResponseEntity<List<Testimonial>> getActiveTestimonials(@RequestParam(required = false) Integer page,
+                                                            @RequestParam(required = false) Integer size);
 
     /**
      * Update an existing testimonial's details.
@@ -17,7 +17,9 @@ public interface TodoListRest {
     ResponseEntity<String> addTodo(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<TodoList>> getAllTodos() throws JsonProcessingException;
+    ResponseEntity<List<TodoList>> getAllTodos(@RequestParam(required = false) Integer page,
+                                               @RequestParam(required = false) Integer size)
+            throws JsonProcessingException;
 
     @GetMapping(path = "/getMyTodos")
     ResponseEntity<List<TodoList>> getMyTodo() throws JsonProcessingException;
@@ -3,6 +3,7 @@ package com.berliz.rest;
 import com.berliz.DTO.*;
 import com.berliz.models.*;
 import com.berliz.models.TrainerReview;
+import com.berliz.wrapper.TrainerWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,10 +21,15 @@ public interface TrainerRest {
     ResponseEntity<String> addTrainer(@ModelAttribute TrainerRequest trainerRequest) throws JsonProcessingException;
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<Trainer>> getAllTrainers();
+    ResponseEntity<List<Trainer>> getAllTrainers(@RequestParam(required = false) Integer page,
+                                                 @RequestParam(required = false) Integer size);
+
+    @GetMapping(path = "/getPage")
+    ResponseEntity<CursorPage<Trainer>> getTrainersPage(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit);
 
     @GetMapping(path = "/getActiveTrainers")
-    ResponseEntity<List<Trainer>> getActiveTrainers();
+    ResponseEntity<List<TrainerWrapper>> getActiveTrainers();
 
     @PutMapping(path = "/update")
     ResponseEntity<String> updateTrainer(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
@@ -44,7 +50,13 @@ public interface TrainerRest {
     ResponseEntity<String> likeTrainer(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getTrainerLikes")
-    ResponseEntity<List<TrainerLike>> getTrainerLikes() throws JsonProcessingException;
+    ResponseEntity<List<TrainerLike>> getTrainerLikes(@RequestParam(required = false) Integer page,
+                                                      @RequestParam(required = false) Integer size)
+            throws JsonProcessingException;
+
+    @GetMapping(path = "/getTrainerLikesPage")
+    ResponseEntity<CursorPage<TrainerLike>> getTrainerLikesPage(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer limit);
 
     @PostMapping(path = "/addTrainerPricing")
     ResponseEntity<String> addTrainerPricing(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
@@ -53,7 +65,8 @@ public interface TrainerRest {
     ResponseEntity<String> updateTrainerPricing(@RequestBody Map<String, String> requestMap) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllTrainerPricing")
-    ResponseEntity<List<TrainerPricing>> getAllTrainerPricing();
+    ResponseEntity<List<TrainerPricing>> getAllTrainerPricing(@RequestParam(required = false) Integer page,
+                                                              @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyTrainerPricing")
     ResponseEntity<TrainerPricing> getMyTrainerPricing();
@@ -71,7 +84,8 @@ public interface TrainerRest {
     ResponseEntity<String> deleteTrainerPhotoAlbum(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllTrainerPhotoAlbums")
-    ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums();
+    ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums(@RequestParam(required = false) Integer page,
+                                                                     @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getAllTrainerPhotoAlbumsWithPhotos")
     ResponseEntity<List<TrainerPhotoAlbumResponse>> getAllTrainerPhotoAlbumsWithPhotos();
@@ -92,7 +106,8 @@ public interface TrainerRest {
     ResponseEntity<String> deleteTrainerBenefit(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllTrainerBenefits")
-    ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits();
+    ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits(@RequestParam(required = false) Integer page,
+                                                               @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyTrainerBenefit")
     ResponseEntity<TrainerBenefit> getMyTrainerBenefit();
@@ -107,7 +122,8 @@ public interface TrainerRest {
     ResponseEntity<String> deleteTrainerIntroduction(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllTrainerIntroductions")
-    ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions();
+    ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions(@RequestParam(required = false) Integer page,
+                                                                         @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyTrainerIntroduction")
     ResponseEntity<TrainerIntroduction> getMyTrainerIntroduction();
@@ -122,7 +138,8 @@ public interface TrainerRest {
     ResponseEntity<String> deleteTrainerVideoAlbum(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllTrainerVideoAlbums")
-    ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums();
+    ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums(@RequestParam(required = false) Integer page,
+                                                                     @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyTrainerVideoAlbums")
     ResponseEntity<List<TrainerVideoAlbum>> getMyTrainerVideoAlbums();
@@ -143,7 +160,8 @@ public interface TrainerRest {
     ResponseEntity<String> deleteTrainerFeatureVideo(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getAllTrainerFeatureVideos")
-    ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos();
+    ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos(@RequestParam(required = false) Integer page,
+                                                                         @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyTrainerFeatureVideo")
     ResponseEntity<TrainerFeatureVideo> getMyTrainerFeatureVideo();
@@ -152,7 +170,8 @@ public interface TrainerRest {
     ResponseEntity<String> likeTrainerReview(@PathVariable Integer id) throws JsonProcessingException;
 
     @GetMapping(path = "/getTrainerReviewLikes")
-    ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes();
+    ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes(@RequestParam(required = false) Integer page,
+                                                                  @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getMyCenterTrainers")
     ResponseEntity<List<CenterTrainer>> getMyCenterTrainers() throws JsonProcessingException;
@@ -176,7 +195,8 @@ public interface TrainerRest {
     ResponseEntity<List<TrainerReview>> getMyTrainerReviews();
 
     @GetMapping(path = "/getAllTrainerReviews")
-    ResponseEntity<List<TrainerReview>> getAllTrainerReviews();
+    ResponseEntity<List<TrainerReview>> getAllTrainerReviews(@RequestParam(required = false) Integer page,
+                                                             @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActiveTrainerReviews/{id}")
     ResponseEntity<List<TrainerReview>> getActiveTrainerReviews(@PathVariable Integer id);
@@ -26,7 +26,8 @@ public interface UserRest {
     ResponseEntity<String> login(@RequestBody() Map<String, String> requestMap);
 
     @GetMapping(path = "/get")
-    ResponseEntity<List<User>> getAllUsers();
+    ResponseEntity<List<User>> getAllUsers(@RequestParam(required = false) Integer page,
+                                           @RequestParam(required = false) Integer size);
 
     @GetMapping(path = "/getActiveUsers")
     ResponseEntity<List<User>> getActiveUsers();
@@ -40,6 +41,10 @@ public interface UserRest {
     @PostMapping(path = "/refreshToken")
     ResponseEntity<String> refreshToken(@RequestBody Map<String, String> requestMap);
 
+    @PostMapping(path = "/logout")
+    ResponseEntity<String> logout(@RequestHeader("Authorization") String authorization,
+                                  @RequestBody(required = false) Map<String, String> requestMap);
+
     @PutMapping(path = "/changePassword")
     ResponseEntity<String> changePassword(@RequestBody() Map<String, String> requestMap);
 
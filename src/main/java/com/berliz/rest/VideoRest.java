@@ -0,0 +1,19 @@
+package com.berliz.rest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST API endpoint streaming trainer feature videos and trainer and center video albums.
+ */
+@RequestMapping(path = "/video")
+public interface VideoRest {
+
+    @GetMapping(path = "/{source}/{name}")
+    ResponseEntity<StreamingResponseBody> streamVideo(@PathVariable String source, @PathVariable String name,
+                                                      NativeWebRequest webRequest);
+}
@@ -32,9 +32,9 @@ public class BrandRestImplement implements BrandRest {
     }
 
     @Override
-    public ResponseEntity<List<Brand>> getAllBrands(String filterValue) {
+    public ResponseEntity<List<Brand>> getAllBrands(String filterValue, Integer page, Integer size) {
         try {
-            return brandService.getAllBrands(filterValue);
+            return brandService.getAllBrands(filterValue, page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -32,9 +32,9 @@ public class CategoryRestImplement implements CategoryRest {
     }
 
     @Override
-    public ResponseEntity<List<Category>> getCategories() {
+    public ResponseEntity<List<Category>> getCategories(Integer page, Integer size) {
         try {
-            return categoryService.getCategories();
+            return categoryService.getCategories(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
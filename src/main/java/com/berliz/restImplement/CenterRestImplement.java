@@ -6,6 +6,8 @@ import com.berliz.models.*;
 import com.berliz.rest.CenterRest;
 import com.berliz.services.CenterService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.wrapper.CenterWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -36,9 +38,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<Center>> getAllCenters() {
+    public ResponseEntity<List<Center>> getAllCenters(Integer page, Integer size) {
         try {
-            return centerService.getAllCenters();
+            return centerService.getAllCenters(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -46,7 +48,17 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<Center>> getActiveCenters() {
+    public ResponseEntity<CursorPage<Center>> getCentersPage(String cursor, Integer limit) {
+        try {
+            return centerService.getCentersPage(cursor, limit);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Override
+    public ResponseEntity<List<CenterWrapper>> getActiveCenters() {
         try {
             return centerService.getActiveCenters();
         } catch (Exception ex) {
@@ -129,9 +141,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterLike>> getCenterLikes() {
+    public ResponseEntity<List<CenterLike>> getCenterLikes(Integer page, Integer size) {
         try {
-            return centerService.getCenterLikes();
+            return centerService.getCenterLikes(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -189,9 +201,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements() {
+    public ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterAnnouncements();
+            return centerService.getAllCenterAnnouncements(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -249,9 +261,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterEquipment>> getAllCenterEquipments() {
+    public ResponseEntity<List<CenterEquipment>> getAllCenterEquipments(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterEquipments();
+            return centerService.getAllCenterEquipments(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -299,9 +311,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions() {
+    public ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterIntroductions();
+            return centerService.getAllCenterIntroductions(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -349,9 +361,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterLocation>> getAllCenterLocations() {
+    public ResponseEntity<List<CenterLocation>> getAllCenterLocations(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterLocations();
+            return centerService.getAllCenterLocations(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -399,9 +411,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums() {
+    public ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterPhotoAlbums();
+            return centerService.getAllCenterPhotoAlbums(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -449,9 +461,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterPricing>> getAllCenterPricing() {
+    public ResponseEntity<List<CenterPricing>> getAllCenterPricing(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterPricing();
+            return centerService.getAllCenterPricing(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -499,9 +511,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterTrainer>> getAllCenterTrainers() {
+    public ResponseEntity<List<CenterTrainer>> getAllCenterTrainers(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterTrainers();
+            return centerService.getAllCenterTrainers(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -549,9 +561,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums() {
+    public ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterVideoAlbums();
+            return centerService.getAllCenterVideoAlbums(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -629,9 +641,9 @@ public class CenterRestImplement implements CenterRest {
     }
 
     @Override
-    public ResponseEntity<List<CenterReview>> getAllCenterReviews() {
+    public ResponseEntity<List<CenterReview>> getAllCenterReviews(Integer page, Integer size) {
         try {
-            return centerService.getAllCenterReviews();
+            return centerService.getAllCenterReviews(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
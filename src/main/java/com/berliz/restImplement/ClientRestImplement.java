@@ -33,9 +33,9 @@ public class ClientRestImplement implements ClientRest {
     }
 
     @Override
-    public ResponseEntity<List<Client>> getAllClients() {
+    public ResponseEntity<List<Client>> getAllClients(Integer page, Integer size) {
         try {
-            return clientService.getAllClients();
+            return clientService.getAllClients(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -45,9 +45,9 @@ public class ContactUsRestImplement implements ContactUsRest {
      * @return ResponseEntity containing a list of ContactUs objects.
      */
     @Override
-    public ResponseEntity<List<ContactUs>> getAllContactUs() {
+    public ResponseEntity<List<ContactUs>> getAllContactUs(Integer page, Integer size) {
         try {
-            return contactUsService.getAllContactUs();
+            return contactUsService.getAllContactUs(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -55,9 +55,9 @@ public class ContactUsRestImplement implements ContactUsRest {
     }
 
     @Override
-    public ResponseEntity<List<ContactUsMessage>> getContactUsMessages() {
+    public ResponseEntity<List<ContactUsMessage>> getContactUsMessages(Integer page, Integer size) {
         try {
-            return contactUsService.getContactUsMessages();
+            return contactUsService.getContactUsMessages(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
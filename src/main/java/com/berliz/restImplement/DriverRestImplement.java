@@ -30,9 +30,9 @@ public class DriverRestImplement implements DriverRest {
     }
 
     @Override
-    public ResponseEntity<List<Driver>> getAllDrivers() {
+    public ResponseEntity<List<Driver>> getAllDrivers(Integer page, Integer size) {
         try {
-            return driverService.getAllDrivers();
+            return driverService.getAllDrivers(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -34,9 +34,9 @@ public class ExerciseRestImplement implements ExerciseRest {
 }
 
     @Override
-    public ResponseEntity<List<Exercise>> getAllExercises() {
+    public ResponseEntity<List<Exercise>> getAllExercises(Integer page, Integer size) {
         try {
-            return exerciseService.getAllExercises();
+            return exerciseService.getAllExercises(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
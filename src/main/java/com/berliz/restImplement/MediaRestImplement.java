@@ -0,0 +1,26 @@
+package com.berliz.restImplement;
+
+import com.berliz.rest.MediaRest;
+import com.berliz.services.MediaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+public class MediaRestImplement implements MediaRest {
+
+    @Autowired
+    MediaService mediaService;
+
+    @Override
+    public ResponseEntity<byte[]> getMedia(String hash, String size, WebRequest webRequest) {
+        try {
+            return mediaService.getMedia(hash, size, webRequest);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
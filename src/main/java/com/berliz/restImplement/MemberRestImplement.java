@@ -32,9 +32,9 @@ public class MemberRestImplement implements MemberRest {
     }
 
     @Override
-    public ResponseEntity<List<Member>> getAllMembers() {
+    public ResponseEntity<List<Member>> getAllMembers(Integer page, Integer size) {
         try {
-            return memberService.getAllMembers();
+            return memberService.getAllMembers(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
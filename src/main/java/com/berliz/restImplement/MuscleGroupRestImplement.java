@@ -33,9 +33,9 @@ public class MuscleGroupRestImplement implements MuscleGroupRest {
     }
 
     @Override
-    public ResponseEntity<List<MuscleGroup>> getAllMuscleGroups() {
+    public ResponseEntity<List<MuscleGroup>> getAllMuscleGroups(Integer page, Integer size) {
         try {
-            return muscleGroupService.getAllMuscleGroups();
+            return muscleGroupService.getAllMuscleGroups(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -32,9 +32,9 @@ public class NewsletterRestImplement implements NewsletterRest {
     }
 
     @Override
-    public ResponseEntity<List<Newsletter>> getAllNewsletters(String filterValue) {
+    public ResponseEntity<List<Newsletter>> getAllNewsletters(String filterValue, Integer page, Integer size) {
         try {
-            return newsletterService.getAllNewsletters(filterValue);
+            return newsletterService.getAllNewsletters(filterValue, page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -52,9 +52,9 @@ public class NewsletterRestImplement implements NewsletterRest {
     }
 
     @Override
-    public ResponseEntity<List<NewsletterMessage>> getNewsletterMessages() {
+    public ResponseEntity<List<NewsletterMessage>> getNewsletterMessages(Integer page, Integer size) {
         try {
-            return newsletterService.getNewsletterMessages();
+            return newsletterService.getNewsletterMessages(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
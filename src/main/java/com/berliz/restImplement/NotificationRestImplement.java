@@ -1,5 +1,6 @@
 package com.berliz.restImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Notification;
 import com.berliz.rest.NotificationRest;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,9 +34,9 @@ public class NotificationRestImplement implements NotificationRest {
     }
 
     @Override
-    public ResponseEntity<List<Notification>> getAllNotifications() {
+    public ResponseEntity<List<Notification>> getAllNotifications(Integer page, Integer size) {
         try {
-            return notificationService.getAllNotifications();
+            return notificationService.getAllNotifications(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -51,6 +53,26 @@ public class NotificationRestImplement implements NotificationRest {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Notification>> getInbox(String cursor, Integer limit, Boolean unreadOnly) {
+        try {
+            return notificationService.getInbox(cursor, limit, unreadOnly);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(new CursorPage<>(new ArrayList<>(), null, false), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Override
+    public ResponseEntity<Map<String, Integer>> getUnreadCount() {
+        try {
+            return notificationService.getUnreadCount();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(new HashMap<>(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> bulkAction(Map<String, String> requestMap) throws JsonProcessingException {
         try {
@@ -1,10 +1,12 @@
 package com.berliz.restImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Order;
 import com.berliz.rest.OrderRest;
 import com.berliz.services.OrderService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,9 +33,9 @@ public class OrderRestImplement implements OrderRest {
     }
 
     @Override
-    public ResponseEntity<List<Order>> getAllOrders() {
+    public ResponseEntity<List<Order>> getAllOrders(Integer page, Integer size) {
         try {
-            return orderService.getAllOrders();
+            return orderService.getAllOrders(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -41,6 +43,16 @@ public class OrderRestImplement implements OrderRest {
 
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Order>> getOrdersPage(String cursor, Integer limit) {
+        try {
+            return orderService.getOrdersPage(cursor, limit);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> updateOrder(Map<String, Object> requestMap) {
         try {
@@ -33,9 +33,9 @@ public class PartnerRestImplement implements PartnerRest {
     }
 
     @Override
-    public ResponseEntity<List<Partner>> getAllPartners() {
+    public ResponseEntity<List<Partner>> getAllPartners(Integer page, Integer size) {
         try {
-            return partnerService.getAllPartners();
+            return partnerService.getAllPartners(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -112,4 +112,14 @@ public class PartnerRestImplement implements PartnerRest {
         }
         return new ResponseEntity<>(new Partner(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    @Override
+    public ResponseEntity<byte[]> getDocument(Integer id, String document) {
+        try {
+            return partnerService.getDocument(id, document);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
 }
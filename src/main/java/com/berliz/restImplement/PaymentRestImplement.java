@@ -30,9 +30,9 @@ public class PaymentRestImplement implements PaymentRest {
     }
 
     @Override
-    public ResponseEntity<List<Payment>> getAllPayments() {
+    public ResponseEntity<List<Payment>> getAllPayments(Integer page, Integer size) {
         try {
-            return paymentService.getAllPayments();
+            return paymentService.getAllPayments(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
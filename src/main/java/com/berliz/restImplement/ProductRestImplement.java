@@ -1,10 +1,12 @@
 package com.berliz.restImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Product;
 import com.berliz.rest.ProductRest;
 import com.berliz.services.ProductService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import com.berliz.wrapper.ProductWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -32,15 +34,25 @@ public class ProductRestImplement implements ProductRest {
     }
 
     @Override
-    public ResponseEntity<List<Product>> getAllProducts() {
+    public ResponseEntity<List<Product>> getAllProducts(Integer page, Integer size) {
         try {
-            return productService.getAllProducts();
+            return productService.getAllProducts(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Product>> getProductsPage(String cursor, Integer limit) {
+        try {
+            return productService.getProductsPage(cursor, limit);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> updateProduct(Map<String, String> requestMap) {
         try {
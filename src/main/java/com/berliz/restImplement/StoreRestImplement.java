@@ -1,11 +1,13 @@
 package com.berliz.restImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Center;
 import com.berliz.models.Store;
 import com.berliz.rest.StoreRest;
 import com.berliz.services.StoreService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,16 +39,26 @@ public class StoreRestImplement implements StoreRest {
     }
 
     @Override
-    public ResponseEntity<List<Store>> getAllStores() {
+    public ResponseEntity<List<Store>> getAllStores(Integer page, Integer size) {
         try {
             // Delegate the store getAllStores operation to the service
-            return storeService.getAllStores();
+            return storeService.getAllStores(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Store>> getStoresPage(String cursor, Integer limit) {
+        try {
+            return storeService.getStoresPage(cursor, limit);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> updateStore(Map<String, String> requestMap) {
         try {
@@ -30,9 +30,9 @@ public class SubscriptionRestImplement implements SubscriptionRest {
     }
 
     @Override
-    public ResponseEntity<List<Subscription>> getAllSubscriptions() {
+    public ResponseEntity<List<Subscription>> getAllSubscriptions(Integer page, Integer size) {
         try {
-            return subscriptionService.getAllSubscriptions();
+            return subscriptionService.getAllSubscriptions(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -42,9 +42,9 @@ public class TaskRestImplement implements TaskRest {
     }
 
     @Override
-    public ResponseEntity<List<Task>> getAllTasks() {
+    public ResponseEntity<List<Task>> getAllTasks(Integer page, Integer size) {
         try {
-            return taskService.getAllTasks();
+            return taskService.getAllTasks(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -53,9 +53,9 @@ public class TaskRestImplement implements TaskRest {
 
 
     @Override
-    public ResponseEntity<List<SubTask>> getAllSubTasks() {
+    public ResponseEntity<List<SubTask>> getAllSubTasks(Integer page, Integer size) {
         try {
-            return taskService.getAllSubTasks();
+            return taskService.getAllSubTasks(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -63,9 +63,9 @@ public class TaskRestImplement implements TaskRest {
     }
 
     @Override
-    public ResponseEntity<List<Task>> getActiveTasks() {
+    public ResponseEntity<List<Task>> getActiveTasks(Integer page, Integer size) {
         try {
-            return taskService.getActiveTasks();
+            return taskService.getActiveTasks(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -30,9 +30,9 @@ public class TestimonialRestImplement implements TestimonialRest {
     }
 
     @Override
-    public ResponseEntity<List<Testimonial>> getAllTestimonials() {
+    public ResponseEntity<List<Testimonial>> getAllTestimonials(Integer page, Integer size) {
         try {
-            return testimonialService.getAllTestimonials();
+            return testimonialService.getAllTestimonials(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -40,9 +40,9 @@ public class TestimonialRestImplement implements TestimonialRest {
     }
 
     @Override
-    public ResponseEntity<List<Testimonial>> getActiveTestimonials() {
+    public ResponseEntity<List<Testimonial>> getActiveTestimonials(Integer page, Integer size) {
         try {
-            return testimonialService.getActiveTestimonials();
+            return testimonialService.getActiveTestimonials(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -32,9 +32,9 @@ public class TodoListRestImplement implements TodoListRest {
     }
 
     @Override
-    public ResponseEntity<List<TodoList>> getAllTodos() throws JsonProcessingException {
+    public ResponseEntity<List<TodoList>> getAllTodos(Integer page, Integer size) throws JsonProcessingException {
         try {
-            return todoListService.getAllTodos();
+            return todoListService.getAllTodos(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -7,6 +7,8 @@ import com.berliz.models.TrainerReview;
 import com.berliz.rest.TrainerRest;
 import com.berliz.services.TrainerService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.wrapper.TrainerWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -37,9 +39,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<Trainer>> getAllTrainers() {
+    public ResponseEntity<List<Trainer>> getAllTrainers(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainers();
+            return trainerService.getAllTrainers(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -47,7 +49,17 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<Trainer>> getActiveTrainers() {
+    public ResponseEntity<CursorPage<Trainer>> getTrainersPage(String cursor, Integer limit) {
+        try {
+            return trainerService.getTrainersPage(cursor, limit);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Override
+    public ResponseEntity<List<TrainerWrapper>> getActiveTrainers() {
         try {
             return trainerService.getActiveTrainers();
         } catch (Exception ex) {
@@ -117,15 +129,26 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerLike>> getTrainerLikes() throws JsonProcessingException {
+    public ResponseEntity<List<TrainerLike>> getTrainerLikes(Integer page, Integer size)
+            throws JsonProcessingException {
         try {
-            return trainerService.getTrainerLikes();
+            return trainerService.getTrainerLikes(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Override
+    public ResponseEntity<CursorPage<TrainerLike>> getTrainerLikesPage(String cursor, Integer limit) {
+        try {
+            return trainerService.getTrainerLikesPage(cursor, limit);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> addTrainerPricing(Map<String, String> requestMap) throws JsonProcessingException {
         try {
@@ -147,9 +170,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerPricing>> getAllTrainerPricing() {
+    public ResponseEntity<List<TrainerPricing>> getAllTrainerPricing(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerPricing();
+            return trainerService.getAllTrainerPricing(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -207,9 +230,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums() {
+    public ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerPhotoAlbums();
+            return trainerService.getAllTrainerPhotoAlbums(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -278,9 +301,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits() {
+    public ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerBenefits();
+            return trainerService.getAllTrainerBenefits(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -328,9 +351,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions() {
+    public ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerIntroductions();
+            return trainerService.getAllTrainerIntroductions(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -378,9 +401,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums() {
+    public ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerVideoAlbums();
+            return trainerService.getAllTrainerVideoAlbums(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -398,9 +421,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerReview>> getAllTrainerReviews() {
+    public ResponseEntity<List<TrainerReview>> getAllTrainerReviews(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerReviews();
+            return trainerService.getAllTrainerReviews(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -469,9 +492,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos() {
+    public ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos(Integer page, Integer size) {
         try {
-            return trainerService.getAllTrainerFeatureVideos();
+            return trainerService.getAllTrainerFeatureVideos(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -499,9 +522,9 @@ public class TrainerRestImplement implements TrainerRest {
     }
 
     @Override
-    public ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes() {
+    public ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes(Integer page, Integer size) {
         try {
-            return trainerService.getTrainerReviewLikes();
+            return trainerService.getTrainerReviewLikes(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
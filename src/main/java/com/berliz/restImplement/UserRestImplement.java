@@ -66,9 +66,9 @@ public class UserRestImplement implements UserRest {
     }
 
     @Override
-    public ResponseEntity<List<User>> getAllUsers() {
+    public ResponseEntity<List<User>> getAllUsers(Integer page, Integer size) {
         try {
-            return userService.getAllUsers();
+            return userService.getAllUsers(page, size);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -117,6 +117,16 @@ public class UserRestImplement implements UserRest {
         return BerlizUtilities.getResponseEntity(BerlizConstants.SOMETHING_WENT_WRONG, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Override
+    public ResponseEntity<String> logout(String authorization, Map<String, String> requestMap) {
+        try {
+            return userService.logout(authorization, requestMap);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return BerlizUtilities.getResponseEntity(BerlizConstants.SOMETHING_WENT_WRONG, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> changePassword(Map<String, String> requestMap) {
         try {
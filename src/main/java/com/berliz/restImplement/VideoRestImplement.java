@@ -0,0 +1,28 @@
+package com.berliz.restImplement;
+
+import com.berliz.rest.VideoRest;
+import com.berliz.services.VideoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+public class VideoRestImplement implements VideoRest {
+
+    @Autowired
+    VideoService videoService;
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamVideo(String source, String name,
+                                                             NativeWebRequest webRequest) {
+        try {
+            return videoService.streamVideo(source, name, webRequest);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
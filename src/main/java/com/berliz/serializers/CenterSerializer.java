@@ -2,6 +2,7 @@ package com.berliz.serializers;
 
 import com.berliz.models.Category;
 import com.berliz.models.Center;
+import com.berliz.models.MediaBlob;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -24,7 +25,8 @@ public class CenterSerializer extends JsonSerializer<Center> {
         jsonGenerator.writeStringField("motto", center.getMotto());
         jsonGenerator.writeStringField("address", center.getAddress());
         jsonGenerator.writeStringField("experience", center.getExperience());
-        jsonGenerator.writeBinaryField("photo", center.getPhoto());
+        jsonGenerator.writeStringField("photo", MediaBlob.url(center.getPhotoHash(), "card"));
+        jsonGenerator.writeStringField("thumbnail", MediaBlob.url(center.getPhotoHash(), "thumb"));
         jsonGenerator.writeStringField("location", center.getLocation());
         jsonGenerator.writeNumberField("likes", center.getLikes());
 
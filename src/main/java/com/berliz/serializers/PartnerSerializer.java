@@ -1,5 +1,6 @@
 package com.berliz.serializers;
 
+import com.berliz.models.MediaBlob;
 import com.berliz.models.Partner;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -23,9 +24,9 @@ public class PartnerSerializer extends JsonSerializer<Partner> {
         orderUserSerializer.serialize(partner.getUser(), jsonGenerator, serializerProvider);
 
         jsonGenerator.writeStringField("role", partner.getRole());
-        jsonGenerator.writeBinaryField("certificate", partner.getCertificate());
+        jsonGenerator.writeBinaryField("certificate", MediaBlob.dataOf(partner.getCertificateBlob()));
         jsonGenerator.writeStringField("motivation", partner.getMotivation());
-        jsonGenerator.writeBinaryField("cv", partner.getCv());
+        jsonGenerator.writeBinaryField("cv", MediaBlob.dataOf(partner.getCvBlob()));
         jsonGenerator.writeStringField("facebookUrl", partner.getFacebookUrl());
         jsonGenerator.writeStringField("instagramUrl", partner.getInstagramUrl());
         jsonGenerator.writeStringField("youtubeUrl", partner.getYoutubeUrl());
@@ -7,9 +7,11 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.apache.commons.io.FileUtils;
 import org.hibernate.proxy.HibernateProxy;
+import org.springframework.web.util.UriUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 public class TrainerFeatureVideoSerializer extends JsonSerializer<TrainerFeatureVideo> {
@@ -26,7 +28,7 @@ public class TrainerFeatureVideoSerializer extends JsonSerializer<TrainerFeature
         jsonGenerator.writeObjectField("trainer", featureVideo.getTrainer());
         jsonGenerator.writeStringField("motivation", featureVideo.getMotivation());
 
-        // Load photo content from the project folder
+        // Streamed by the video endpoint, with range support
         jsonGenerator.writeStringField("video", generateVideoUrl(featureVideo.getVideo()));
 
         jsonGenerator.writeStringField("date", featureVideo.getDate().toString());
@@ -46,11 +48,8 @@ public class TrainerFeatureVideoSerializer extends JsonSerializer<TrainerFeature
     }
 
     private String generateVideoUrl(String videoName) {
-        // Base URL for your Heroku app
-        return BerlizConstants.BERLIZ_SERVER_URL
-                + BerlizConstants.TRAINER_FEATURE_VIDEO_PATH
-                + videoName ;
-//                + "?t=" + System.currentTimeMillis();
+        return videoName == null ? null : BerlizConstants.BERLIZ_SERVER_URL + BerlizConstants.VIDEO_STREAM_PATH
+                + BerlizConstants.VIDEO_SOURCE_FEATURE + "/" + UriUtils.encodePathSegment(videoName, StandardCharsets.UTF_8);
     }
 }
 
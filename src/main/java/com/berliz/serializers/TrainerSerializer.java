@@ -1,6 +1,7 @@
 package com.berliz.serializers;
 
 import com.berliz.models.Category;
+import com.berliz.models.MediaBlob;
 import com.berliz.models.Trainer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -25,7 +26,8 @@ public class TrainerSerializer extends JsonSerializer<Trainer> {
         jsonGenerator.writeStringField("motto", trainer.getMotto());
         jsonGenerator.writeStringField("address", trainer.getAddress());
         jsonGenerator.writeStringField("experience", trainer.getExperience());
-        jsonGenerator.writeBinaryField("photo", trainer.getPhoto());
+        jsonGenerator.writeStringField("photo", MediaBlob.url(trainer.getPhotoHash(), "card"));
+        jsonGenerator.writeStringField("thumbnail", MediaBlob.url(trainer.getPhotoHash(), "thumb"));
         jsonGenerator.writeNumberField("likes", trainer.getLikes());
 
         // Serialize the partner using the PartnerObjectSerializer
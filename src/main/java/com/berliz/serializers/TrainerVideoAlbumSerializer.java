@@ -6,11 +6,11 @@ import com.berliz.models.TrainerVideoAlbum;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import org.apache.commons.io.FileUtils;
 import org.hibernate.proxy.HibernateProxy;
+import org.springframework.web.util.UriUtils;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 public class TrainerVideoAlbumSerializer extends JsonSerializer<TrainerVideoAlbum> {
 
@@ -27,28 +27,17 @@ public class TrainerVideoAlbumSerializer extends JsonSerializer<TrainerVideoAlbu
         jsonGenerator.writeStringField("uuid", album.getUuid());
         jsonGenerator.writeStringField("comment", album.getComment());
 
-        // Load photo content from the project folder
-        byte[] videoContent = loadPhotoFromFolder(album.getVideo());
-        if (videoContent != null) {
-            jsonGenerator.writeBinaryField("video", videoContent);
-        } else {
-            jsonGenerator.writeNullField("video");
-        }
+        // Streamed by the video endpoint, with range support
+        jsonGenerator.writeStringField("video", generateVideoUrl(album.getVideo()));
 
         jsonGenerator.writeStringField("date", album.getDate().toString());
         jsonGenerator.writeStringField("lastUpdate", album.getLastUpdate().toString());
         jsonGenerator.writeEndObject();
     }
 
-    private byte[] loadPhotoFromFolder(String videoName) throws IOException {
-        // Specify the folder path where photos are stored
-        String videoFolderPath = BerlizConstants.TRAINER_VIDEO_ALBUM_LOCATION;
-
-        // Create a File instance for the photo
-        File videoFile = new File(videoFolderPath + videoName);
-
-        // Read the photo content into a byte array
-        return FileUtils.readFileToByteArray(videoFile);
+    private String generateVideoUrl(String videoName) {
+        return videoName == null ? null : BerlizConstants.BERLIZ_SERVER_URL + BerlizConstants.VIDEO_STREAM_PATH
+                + BerlizConstants.VIDEO_SOURCE_TRAINER_ALBUM + "/" + UriUtils.encodePathSegment(videoName, StandardCharsets.UTF_8);
     }
 }
 
@@ -3,6 +3,7 @@ package com.berliz.serializers;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.berliz.models.MediaBlob;
 import com.berliz.models.User;
 import org.hibernate.proxy.HibernateProxy;
 
@@ -21,7 +22,7 @@ public class UserObjectSerializer extends JsonSerializer<User> {
         jsonGenerator.writeNumberField("id", user.getId());
         jsonGenerator.writeStringField("email", user.getEmail());
         jsonGenerator.writeStringField("role", user.getRole());
-        jsonGenerator.writeBinaryField("photo", user.getProfilePhoto());
+        jsonGenerator.writeStringField("photo", MediaBlob.url(user.getProfilePhotoHash(), "thumb"));
         // Add more fields as needed
         jsonGenerator.writeEndObject();
     }
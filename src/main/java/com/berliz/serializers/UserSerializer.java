@@ -26,7 +26,7 @@ public class UserSerializer extends JsonSerializer<User> {
         jsonGenerator.writeStringField("email", user.getEmail());
         jsonGenerator.writeStringField("role", user.getRole());
         jsonGenerator.writeStringField("bio", user.getBio());
-        jsonGenerator.writeBinaryField("profilePhoto", user.getProfilePhoto());
+        jsonGenerator.writeStringField("profilePhoto", MediaBlob.url(user.getProfilePhotoHash(), "card"));
 
         // Serialize the category like using a loop
         jsonGenerator.writeArrayFieldStart("likedCategoriesSet");
@@ -8,6 +8,7 @@ import com.berliz.repositories.BrandRepo;
 import com.berliz.repositories.UserRepo;
 import com.berliz.services.BrandService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,13 +61,14 @@ public class BrandServiceImplement implements BrandService {
 
 
     @Override
-    public ResponseEntity<List<Brand>> getAllBrands(String filterValue) {
+    public ResponseEntity<List<Brand>> getAllBrands(String filterValue, Integer page, Integer size) {
         try {
             if (!Strings.isNullOrEmpty(filterValue) && filterValue.equalsIgnoreCase("true")) {
                 log.info("inside if block for filterValue{}", filterValue);
                 return new ResponseEntity<>(brandRepo.getAllBrands(), HttpStatus.OK);
             }
-            return new ResponseEntity<>(brandRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(brandRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
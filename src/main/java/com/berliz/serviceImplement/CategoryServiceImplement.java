@@ -12,6 +12,8 @@ import com.berliz.repositories.TagRepo;
 import com.berliz.repositories.UserRepo;
 import com.berliz.services.CategoryService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.LikeCounterBuffer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
@@ -44,6 +46,9 @@ public class CategoryServiceImplement implements CategoryService {
     @Autowired
     CategoryLikeRepo categoryLikeRepo;
 
+    @Autowired
+    LikeCounterBuffer likeCounterBuffer;
+
     @Autowired
     SimpMessagingTemplate simpMessagingTemplate;
 
@@ -84,13 +89,16 @@ public class CategoryServiceImplement implements CategoryService {
     /**
      * Retrieves a list of all categories from the database.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity containing the list of categories if successful, or an empty list if there was an error.
      */
     @Override
-    public ResponseEntity<List<Category>> getCategories() {
+    public ResponseEntity<List<Category>> getCategories(Integer page, Integer size) {
         try {
             log.info("Inside getCategories 'ADMIN'");
-            return new ResponseEntity<>(categoryRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(categoryRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -347,18 +355,19 @@ public class CategoryServiceImplement implements CategoryService {
                 return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, "Category id not found");
             }
             Category category = optional.get();
-            boolean hasLiked = categoryLikeRepo.existsByUserAndCategory(user, category);
+            // an unlike if the user had liked the category, a like otherwise
+            boolean hasLiked = likeCounterBuffer.unlike(LikeCounterBuffer.Target.CATEGORY, category.getId(),
+                    () -> categoryLikeRepo.deleteByUserAndCategory(user, category));
 
             if (hasLiked) {
                 // dislike category
-                categoryLikeRepo.deleteByUserAndCategory(user, category);
-                category.setLikes(category.getLikes() - 1);
-                categoryRepo.save(category);
                 String adminNotificationMessage = "Category with id: " + category.getId() +
                         ", has been disliked ";
                 String notificationMessage = "You have just disliked category : " + category.getName();
                 jwtFilter.sendNotifications("/topic/likeCategory", adminNotificationMessage,
-                        user, notificationMessage, category);
+                        user, notificationMessage, category,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.CATEGORY,
+                                category.getId(), category.getLikes())));
                 return BerlizUtilities.buildResponse(HttpStatus.OK, "Hello, " + user.getFirstname() + " you have disliked " + category.getName() + " category");
 
             } else {
@@ -367,14 +376,19 @@ public class CategoryServiceImplement implements CategoryService {
                 categoryLike.setUser(user);
                 categoryLike.setCategory(category);
                 categoryLike.setDate(new Date());
-                categoryLikeRepo.save(categoryLike);
-                category.setLikes(category.getLikes() + 1);
-                categoryRepo.save(category);
+                if (!likeCounterBuffer.like(LikeCounterBuffer.Target.CATEGORY, category.getId(),
+                        () -> categoryLikeRepo.save(categoryLike))) {
+                    // a concurrent request of this user saved the like first
+                    return BerlizUtilities.buildResponse(HttpStatus.OK, "Hello, " +
+                            user.getFirstname() + " you already like " + category.getName() + " category");
+                }
                 String adminNotificationMessage = "Category with id: " + category.getId() +
                         ", has been liked ";
                 String notificationMessage = "You have just liked category : " + category.getName();
                 jwtFilter.sendNotifications("/topic/likeCategory", adminNotificationMessage,
-                        user, notificationMessage, category);
+                        user, notificationMessage, category,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.CATEGORY,
+                                category.getId(), category.getLikes())));
                 return BerlizUtilities.buildResponse(HttpStatus.OK, "Hello, " +
                         user.getFirstname() + " you just liked " + category.getName() + " category");
             }
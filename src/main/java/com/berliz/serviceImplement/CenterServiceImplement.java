@@ -9,6 +9,11 @@ import com.berliz.services.CenterService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
 import com.berliz.utils.FileUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.LikeCounterBuffer;
+import com.berliz.utils.ListingCache;
+import com.berliz.utils.MediaStore;
+import com.berliz.wrapper.CenterWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -88,9 +93,18 @@ public class CenterServiceImplement implements CenterService {
     @Autowired
     FileUtilities fileUtilities;
 
+    @Autowired
+    MediaStore mediaStore;
+
     @Autowired
     SimpMessagingTemplate simpMessagingTemplate;
 
+    @Autowired
+    ListingCache listingCache;
+
+    @Autowired
+    LikeCounterBuffer likeCounterBuffer;
+
     /**
      * adds a center based on data provided
      *
@@ -181,14 +195,16 @@ public class CenterServiceImplement implements CenterService {
     /**
      * Returns a list of centers
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity with a success message or an error message
      */
     @Override
-    public ResponseEntity<List<Center>> getAllCenters() {
+    public ResponseEntity<List<Center>> getAllCenters(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenters");
             if (jwtFilter.isAdmin()) {
-                List<Center> centers = centerRepo.findAll();
+                List<Center> centers = centerRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
                 return new ResponseEntity<>(centers, HttpStatus.OK);
             } else {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
@@ -199,6 +215,29 @@ public class CenterServiceImplement implements CenterService {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Returns one page of the centers, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity with the page, or 400 for an invalid cursor.
+     */
+    @Override
+    public ResponseEntity<CursorPage<Center>> getCentersPage(String cursor, Integer limit) {
+        try {
+            log.info("Inside getCentersPage {} {}", cursor, limit);
+            if (!jwtFilter.isAdmin()) {
+                return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.UNAUTHORIZED);
+            }
+            return KeysetPage.fetch(cursor, limit, centerRepo::findPage,
+                    (after, pageable) -> centerRepo.findPageAfter(after.date(), after.id(), pageable),
+                    Center::getDate, Center::getId);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Deletes a center based on the provided center ID.
      *
@@ -378,35 +417,42 @@ public class CenterServiceImplement implements CenterService {
                 return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, "Center id not found");
             }
 
-            boolean hasLiked = centerLikeRepo.existsByUserAndCenter(user, center);
+            // an unlike if the user had liked the center, a like otherwise
+            boolean hasLiked = likeCounterBuffer.unlike(LikeCounterBuffer.Target.CENTER, center.getId(),
+                    () -> centerLikeRepo.deleteByUserAndCenter(user, center));
             String responseMessage;
             if (hasLiked) {
                 // dislike center
-                centerLikeRepo.deleteByUserAndCenter(user, center);
-                center.setLikes(center.getLikes() - 1);
                 responseMessage = "Hello, " + user.getFirstname() + " you have disliked " + center.getName();
                 String adminNotificationMessage = "Center with id: " + center.getId() +
                         ", and name: " + center.getName() + " has just been disliked by: " + user.getEmail();
                 String notificationMessage = "You have successfully disliked center : " + center.getName();
                 jwtFilter.sendNotifications("/topic/likeCenter", adminNotificationMessage,
-                        jwtFilter.getCurrentUser(), notificationMessage, center);
+                        jwtFilter.getCurrentUser(), notificationMessage, center,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.CENTER,
+                                center.getId(), center.getLikes())));
             } else {
                 // like center
                 CenterLike centerLike = new CenterLike();
                 centerLike.setUser(user);
                 centerLike.setCenter(center);
                 centerLike.setDate(new Date());
-                centerLikeRepo.save(centerLike);
-                center.setLikes(center.getLikes() + 1);
+                if (!likeCounterBuffer.like(LikeCounterBuffer.Target.CENTER, center.getId(),
+                        () -> centerLikeRepo.save(centerLike))) {
+                    // a concurrent request of this user saved the like first
+                    return BerlizUtilities.buildResponse(HttpStatus.OK, "Hello, " + user.getFirstname() +
+                            " you already like " + center.getName());
+                }
                 responseMessage = "Hello, " + user.getFirstname() + " you just liked " + center.getName();
                 String adminNotificationMessage = "Center with id: " + center.getId() +
                         ", and name: " + center.getName() + " has just been liked by: " + user.getEmail();
                 String notificationMessage = "You have successfully liked center : " + center.getName();
                 jwtFilter.sendNotifications("/topic/likeCenter", adminNotificationMessage,
-                        jwtFilter.getCurrentUser(), notificationMessage, center);
+                        jwtFilter.getCurrentUser(), notificationMessage, center,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.CENTER,
+                                center.getId(), center.getLikes())));
             }
 
-            centerRepo.save(center);
             return BerlizUtilities.buildResponse(HttpStatus.OK, responseMessage);
 
         } catch (Exception ex) {
@@ -418,13 +464,15 @@ public class CenterServiceImplement implements CenterService {
     /**
      * Retrieves a list of all center likes.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity containing the list of center likes.
      */
     @Override
-    public ResponseEntity<List<CenterLike>> getCenterLikes() {
+    public ResponseEntity<List<CenterLike>> getCenterLikes(Integer page, Integer size) {
         try {
             log.info("Inside getCenterLikes");
-            List<CenterLike> centerLikes = centerLikeRepo.findAll();
+            List<CenterLike> centerLikes = centerLikeRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerLikes, HttpStatus.OK);
         } catch (Exception ex) {
             log.error("Something went wrong while performing operation", ex);
@@ -464,7 +512,7 @@ public class CenterServiceImplement implements CenterService {
             }
 
             String responseMessage;
-            center.setPhoto(file.getBytes());
+            center.setPhoto(mediaStore.storeImage(file));
             centerRepo.save(center);
             if (jwtFilter.isAdmin()) {
                 responseMessage = center.getName() + "'s center photo updated successfully";
@@ -485,10 +533,11 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<Center>> getActiveCenters() {
+    public ResponseEntity<List<CenterWrapper>> getActiveCenters() {
         try {
-            log.info("Inside getActiveTrainers");
-            List<Center> centers = centerRepo.getActiveCenters();
+            log.info("Inside getActiveCenters");
+            List<CenterWrapper> centers = listingCache.get(ListingCache.ACTIVE_CENTERS,
+                    centerRepo::getActiveCenterCards);
             return new ResponseEntity<>(centers, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -673,13 +722,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements() {
+    public ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterAnnouncements");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterAnnouncement> centerAnnouncements = centerAnnouncementRepo.findAll();
+            List<CenterAnnouncement> centerAnnouncements =
+                    centerAnnouncementRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerAnnouncements, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -863,13 +913,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterEquipment>> getAllCenterEquipments() {
+    public ResponseEntity<List<CenterEquipment>> getAllCenterEquipments(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterEquipments");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterEquipment> centerEquipments = centerEquipmentRepo.findAll();
+            List<CenterEquipment> centerEquipments =
+                    centerEquipmentRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerEquipments, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1044,13 +1095,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions() {
+    public ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterIntroductions");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterIntroduction> centerIntroductions = centerIntroductionRepo.findAll();
+            List<CenterIntroduction> centerIntroductions =
+                    centerIntroductionRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerIntroductions, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1228,13 +1280,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterLocation>> getAllCenterLocations() {
+    public ResponseEntity<List<CenterLocation>> getAllCenterLocations(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterLocations");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterLocation> centerLocations = centerLocationRepo.findAll();
+            List<CenterLocation> centerLocations =
+                    centerLocationRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerLocations, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1406,13 +1459,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums() {
+    public ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterPhotoAlbums");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterPhotoAlbum> centerPhotoAlbums = centerPhotoAlbumRepo.findAll();
+            List<CenterPhotoAlbum> centerPhotoAlbums =
+                    centerPhotoAlbumRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerPhotoAlbums, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1600,13 +1654,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterPricing>> getAllCenterPricing() {
+    public ResponseEntity<List<CenterPricing>> getAllCenterPricing(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterPricing");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterPricing> centerPricing = centerPricingRepo.findAll();
+            List<CenterPricing> centerPricing =
+                    centerPricingRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerPricing, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1822,13 +1877,14 @@ public class CenterServiceImplement implements CenterService {
 
 
     @Override
-    public ResponseEntity<List<CenterTrainer>> getAllCenterTrainers() {
+    public ResponseEntity<List<CenterTrainer>> getAllCenterTrainers(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterTrainers");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterTrainer> centerTrainers = centerTrainerRepo.findAll();
+            List<CenterTrainer> centerTrainers =
+                    centerTrainerRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerTrainers, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1999,13 +2055,14 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums() {
+    public ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterVideoAlbums");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterVideoAlbum> centerVideoAlbums = centerVideoAlbumRepo.findAll();
+            List<CenterVideoAlbum> centerVideoAlbums =
+                    centerVideoAlbumRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerVideoAlbums, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -2271,13 +2328,13 @@ public class CenterServiceImplement implements CenterService {
     }
 
     @Override
-    public ResponseEntity<List<CenterReview>> getAllCenterReviews() {
+    public ResponseEntity<List<CenterReview>> getAllCenterReviews(Integer page, Integer size) {
         try {
             log.info("Inside getAllCenterReviews");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<CenterReview> centerReviews = centerReviewRepo.findAll();
+            List<CenterReview> centerReviews = centerReviewRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(centerReviews, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -2347,7 +2404,7 @@ public class CenterServiceImplement implements CenterService {
         user.setRole("center");
         userRepo.save(user);
 
-        byte[] photo = centerRequest.getPhoto().getBytes();
+        MediaBlob photo = mediaStore.storeImage(centerRequest.getPhoto());
 
         // Parse tagIds as a comma-separated string
         String categoryIdsString = centerRequest.getCategoryIds();
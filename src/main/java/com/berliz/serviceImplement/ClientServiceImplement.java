@@ -10,6 +10,7 @@ import com.berliz.repositories.*;
 import com.berliz.services.ClientService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -113,13 +114,13 @@ public class ClientServiceImplement implements ClientService {
     }
 
     @Override
-    public ResponseEntity<List<Client>> getAllClients() {
+    public ResponseEntity<List<Client>> getAllClients(Integer page, Integer size) {
         try {
             log.info("Inside getAllClients");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Client> clients = clientRepo.findAll();
+            List<Client> clients = clientRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(clients, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
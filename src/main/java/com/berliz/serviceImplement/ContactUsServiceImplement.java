@@ -10,6 +10,7 @@ import com.berliz.repositories.UserRepo;
 import com.berliz.services.ContactUsService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -82,16 +83,19 @@ public class ContactUsServiceImplement implements ContactUsService {
     /**
      * Retrieves a list of all contact us requests.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity containing a list of contact us requests and an HTTP status code.
      */
     @Override
-    public ResponseEntity<List<ContactUs>> getAllContactUs() {
+    public ResponseEntity<List<ContactUs>> getAllContactUs(Integer page, Integer size) {
         try {
             log.info("Inside getAllContactUs");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            return new ResponseEntity<>(contactUsRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(contactUsRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -331,16 +335,19 @@ public class ContactUsServiceImplement implements ContactUsService {
     /**
      * Retrieves a list of all contact us requests.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity containing a list of contact us requests and an HTTP status code.
      */
     @Override
-    public ResponseEntity<List<ContactUsMessage>> getContactUsMessages() {
+    public ResponseEntity<List<ContactUsMessage>> getContactUsMessages(Integer page, Integer size) {
         try {
             log.info("Inside getContactUsMessages");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            return new ResponseEntity<>(contactUsMessageRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(contactUsMessageRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
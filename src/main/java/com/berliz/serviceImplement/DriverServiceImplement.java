@@ -11,6 +11,7 @@ import com.berliz.repositories.UserRepo;
 import com.berliz.services.DriverService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -122,17 +123,19 @@ public class DriverServiceImplement implements DriverService {
     /**
      * Returns a list of Drivers
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity with a success message or an error message
      */
     @Override
-    public ResponseEntity<List<Driver>> getAllDrivers() {
+    public ResponseEntity<List<Driver>> getAllDrivers(Integer page, Integer size) {
         try {
             log.info("Inside getAllDrivers");
 
             // Check if the user is an admin
             if (jwtFilter.isAdmin()) {
                 // Retrieve all Drivers from the repository
-                List<Driver> drivers = driverRepo.findAll();
+                List<Driver> drivers = driverRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
                 return new ResponseEntity<>(drivers, HttpStatus.OK);
             } else {
                 // Return an unauthorized response for non-admin users
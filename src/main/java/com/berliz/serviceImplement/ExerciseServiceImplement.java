@@ -6,6 +6,7 @@ import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Category;
 import com.berliz.models.Exercise;
+import com.berliz.models.MediaBlob;
 import com.berliz.models.MuscleGroup;
 import com.berliz.repositories.CategoryRepo;
 import com.berliz.repositories.ExerciseRepo;
@@ -13,6 +14,8 @@ import com.berliz.repositories.MuscleGroupRepo;
 import com.berliz.services.ExerciseService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.FileUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.MediaStore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +45,9 @@ public class ExerciseServiceImplement implements ExerciseService {
     @Autowired
     FileUtilities fileUtilities;
 
+    @Autowired
+    MediaStore mediaStore;
+
     @Autowired
     CategoryRepo categoryRepo;
 
@@ -77,14 +83,15 @@ public class ExerciseServiceImplement implements ExerciseService {
     }
 
     @Override
-    public ResponseEntity<List<Exercise>> getAllExercises() {
+    public ResponseEntity<List<Exercise>> getAllExercises(Integer page, Integer size) {
         try {
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
 
             log.info("Inside getAllExercises 'ADMIN'");
-            return new ResponseEntity<>(exerciseRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(exerciseRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -147,7 +154,7 @@ public class ExerciseServiceImplement implements ExerciseService {
             }
 
             Exercise exercise = optional.get();
-            exercise.setDemo(file.getBytes());
+            exercise.setDemo(mediaStore.store(file));
             exerciseRepo.save(exercise);
             String adminNotificationMessage = "Exercise with id: " + exercise.getId() + ", and info: "
                     + exercise.getName() + ", demo has been updated";
@@ -306,7 +313,7 @@ public class ExerciseServiceImplement implements ExerciseService {
     private void getExerciseFromMap(ExerciseRequest request) throws IOException {
         Exercise exercise = new Exercise();
         MultipartFile demoFile = request.getDemo();
-        byte[] video = demoFile.getBytes();
+        MediaBlob video = mediaStore.store(demoFile);
         exercise.setDescription(request.getDescription());
         exercise.setDemo(video);
         exercise.setName(request.getName());
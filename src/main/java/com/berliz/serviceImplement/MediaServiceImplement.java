@@ -0,0 +1,158 @@
+package com.berliz.serviceImplement;
+
+import com.berliz.models.MediaBlob;
+import com.berliz.services.MediaService;
+import com.berliz.utils.ImageRenditions;
+import com.berliz.utils.MediaStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class MediaServiceImplement implements MediaService {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    // a media URL names its content, so a response never goes stale
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private static final CacheControl PENDING_CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.MINUTES);
+
+    @Autowired
+    MediaStore mediaStore;
+
+    @Autowired
+    ImageRenditions imageRenditions;
+
+    /**
+     * Serve a public blob of the media store, or one of its image renditions. The hash is the ETag, so a client
+     * revalidating a URL it already has gets a 304 without the blob being read. Blobs that are not public,
+     * such as partner documents, are answered with 404 (see PartnerService.getDocument).
+     *
+     * @param hash       The blob hash from the URL.
+     * @param size       The rendition (thumb, card or full), or null for the original.
+     * @param webRequest The request, for its conditional headers.
+     * @return The content with caching headers, 304 if the client's copy is current, or 404.
+     */
+    @Override
+    public ResponseEntity<byte[]> getMedia(String hash, String size, WebRequest webRequest) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        if (size != null) {
+            Optional<ImageRenditions.Rendition> rendition = ImageRenditions.Rendition.of(size);
+            if (rendition.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            ResponseEntity<byte[]> response = getRendition(hash, rendition.get(), webRequest);
+            if (response != null) {
+                return response;
+            }
+            // not rendered yet: the original, without letting anyone cache it under the rendition URL
+            return getOriginal(hash, webRequest, PENDING_CACHE_CONTROL, false);
+        }
+        return getOriginal(hash, webRequest, CACHE_CONTROL, true);
+    }
+
+    private ResponseEntity<byte[]> getRendition(String hash, ImageRenditions.Rendition rendition,
+                                                WebRequest webRequest) {
+        String eTag = "\"" + hash + "-" + rendition.key() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        if (!mediaStore.isPublic(hash)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        Optional<Path> path = imageRenditions.find(hash, rendition);
+        if (path.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] data = Files.readAllBytes(path.get());
+            return ResponseEntity.ok()
+                    .cacheControl(CACHE_CONTROL)
+                    .eTag(eTag)
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .contentLength(data.length)
+                    .body(data);
+        } catch (IOException ex) {
+            log.warn("Could not read rendition {} of media {}", rendition.key(), hash);
+            return null;
+        }
+    }
+
+    private ResponseEntity<byte[]> getOriginal(String hash, WebRequest webRequest, CacheControl cacheControl,
+                                               boolean conditional) {
+        String eTag = "\"" + hash + "\"";
+        if (conditional && webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        if (!mediaStore.isPublic(hash)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Optional<MediaBlob> optional = mediaStore.find(hash);
+        if (optional.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        MediaBlob blob = optional.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(contentType(blob))
+                .contentLength(blob.getData().length);
+        if (!conditional) {
+            return response.body(blob.getData());
+        }
+
+        long lastModified = blob.getDate() == null ? -1 : blob.getDate().getTime();
+        if (lastModified > 0 && webRequest.checkNotModified(eTag, lastModified)) {
+            return notModified(eTag);
+        }
+        response.eTag(eTag);
+        if (lastModified > 0) {
+            response.lastModified(lastModified);
+        }
+        return response.body(blob.getData());
+    }
+
+    private static ResponseEntity<byte[]> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CACHE_CONTROL)
+                .eTag(eTag)
+                .build();
+    }
+
+    // blobs moved from the old BYTEA columns have no content type, guess it from the magic bytes
+    static MediaType contentType(MediaBlob blob) {
+        String contentType = blob.getContentType();
+        if (contentType == null) {
+            try {
+                contentType = URLConnection.guessContentTypeFromStream(new ByteArrayInputStream(blob.getData()));
+            } catch (IOException ex) {
+                log.warn("Could not guess the content type of media {}", blob.getHash());
+            }
+        }
+        try {
+            return contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType);
+        } catch (Exception ex) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
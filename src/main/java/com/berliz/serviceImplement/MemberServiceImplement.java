@@ -7,6 +7,7 @@ import com.berliz.repositories.*;
 import com.berliz.services.MemberService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -110,13 +111,13 @@ public class MemberServiceImplement implements MemberService {
     }
 
     @Override
-    public ResponseEntity<List<Member>> getAllMembers() {
+    public ResponseEntity<List<Member>> getAllMembers(Integer page, Integer size) {
         try {
             log.info("Inside getAllMembers");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Member> members = memberRepo.findAll();
+            List<Member> members = memberRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(members, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
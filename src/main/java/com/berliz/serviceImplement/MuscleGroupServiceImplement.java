@@ -4,12 +4,15 @@ import com.berliz.DTO.FileRequest;
 import com.berliz.DTO.MuscleGroupRequest;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
+import com.berliz.models.MediaBlob;
 import com.berliz.models.MuscleGroup;
 import com.berliz.repositories.ExerciseRepo;
 import com.berliz.repositories.MuscleGroupRepo;
 import com.berliz.services.MuscleGroupService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.FileUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.MediaStore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +41,9 @@ public class MuscleGroupServiceImplement implements MuscleGroupService {
     @Autowired
     FileUtilities fileUtilities;
 
+    @Autowired
+    MediaStore mediaStore;
+
     @Autowired
     JWTFilter jwtFilter;
 
@@ -71,14 +77,15 @@ public class MuscleGroupServiceImplement implements MuscleGroupService {
 
 
     @Override
-    public ResponseEntity<List<MuscleGroup>> getAllMuscleGroups() {
+    public ResponseEntity<List<MuscleGroup>> getAllMuscleGroups(Integer page, Integer size) {
         try {
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
 
             log.info("Inside getAllMuscleGroups 'ADMIN'");
-            return new ResponseEntity<>(muscleGroupRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(muscleGroupRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -141,7 +148,7 @@ public class MuscleGroupServiceImplement implements MuscleGroupService {
             }
 
             MuscleGroup muscleGroup = optional.get();
-            muscleGroup.setImage(file.getBytes());
+            muscleGroup.setImage(mediaStore.storeImage(file));
             muscleGroupRepo.save(muscleGroup);
             String adminNotificationMessage = "Muscle group image with id: " + muscleGroup.getId() + ", and info: "
                     + muscleGroup.getName() + ", information has been updated";
@@ -273,7 +280,7 @@ public class MuscleGroupServiceImplement implements MuscleGroupService {
 
     private void getMuscleGroupFromMap(MuscleGroupRequest request) throws IOException {
         MuscleGroup muscleGroup = new MuscleGroup();
-        byte[] image = request.getImage().getBytes();
+        MediaBlob image = mediaStore.storeImage(request.getImage());
 
         muscleGroup.setDescription(request.getDescription());
         muscleGroup.setImage(image);
@@ -9,6 +9,7 @@ import com.berliz.repositories.NewsletterRepo;
 import com.berliz.repositories.UserRepo;
 import com.berliz.services.NewsletterService;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -127,13 +128,16 @@ public class NewsletterServiceImplement implements NewsletterService {
      * Retrieves a list of newsletters based on the provided filter value.
      *
      * @param filterValue The filter value to apply when fetching newsletters
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity containing the list of newsletters and the HTTP status
      */
     @Override
-    public ResponseEntity<List<Newsletter>> getAllNewsletters(String filterValue) {
+    public ResponseEntity<List<Newsletter>> getAllNewsletters(String filterValue, Integer page, Integer size) {
         try {
             if (jwtFilter.isAdmin()) {
-                return new ResponseEntity<>(newsletterRepo.findAll(), HttpStatus.OK);
+                return new ResponseEntity<>(newsletterRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                        HttpStatus.OK);
             } else {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
@@ -342,14 +346,18 @@ public class NewsletterServiceImplement implements NewsletterService {
     /**
      * Retrieves list of all newsletterMessages.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity containing the newsletterMessages or an error message along with the HTTP status
      */
     @Override
-    public ResponseEntity<List<NewsletterMessage>> getNewsletterMessages() {
+    public ResponseEntity<List<NewsletterMessage>> getNewsletterMessages(Integer page, Integer size) {
         try {
             log.info("Inside getNewsletterMessages {}");
             if (jwtFilter.isAdmin()) {
-                return new ResponseEntity<>(newsletterMessageRepo.findAll(), HttpStatus.OK);
+                List<NewsletterMessage> newsletterMessages =
+                        newsletterMessageRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
+                return new ResponseEntity<>(newsletterMessages, HttpStatus.OK);
             } else {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
@@ -1,5 +1,6 @@
 package com.berliz.serviceImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.*;
@@ -8,15 +9,20 @@ import com.berliz.repositories.UserRepo;
 import com.berliz.services.NotificationService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.UnreadNotificationCounter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.*;
 
@@ -39,6 +45,13 @@ public class NotificationServiceImplement implements NotificationService {
     @Autowired
     SimpMessagingTemplate simpMessagingTemplate;
 
+    @Autowired
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    private static final int DEFAULT_INBOX_LIMIT = 20;
+
+    private static final int MAX_INBOX_LIMIT = 100;
+
     @Override
     public ResponseEntity<String> addNotification(Map<String, String> requestMap) throws JsonProcessingException {
         try {
@@ -71,13 +84,13 @@ public class NotificationServiceImplement implements NotificationService {
     }
 
     @Override
-    public ResponseEntity<List<Notification>> getAllNotifications() {
+    public ResponseEntity<List<Notification>> getAllNotifications(Integer page, Integer size) {
         try {
             log.info("Inside getAllNotifications");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Notification> notifications = notificationRepo.findAll();
+            List<Notification> notifications = notificationRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(notifications, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -106,6 +119,54 @@ public class NotificationServiceImplement implements NotificationService {
         }
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Notification>> getInbox(String cursor, Integer limit, Boolean unreadOnly) {
+        try {
+            log.info("Inside getInbox {} {} {}", cursor, limit, unreadOnly);
+            if (!jwtFilter.isBerlizUser()) {
+                return new ResponseEntity<>(new CursorPage<>(new ArrayList<>(), null, false), HttpStatus.UNAUTHORIZED);
+            }
+
+            int pageSize = Math.min(Math.max(limit == null ? DEFAULT_INBOX_LIMIT : limit, 1), MAX_INBOX_LIMIT);
+            boolean onlyUnread = Boolean.TRUE.equals(unreadOnly);
+            Integer userId = jwtFilter.getCurrentUserId();
+            InboxCursor after = null;
+            if (cursor != null && !cursor.isEmpty()) {
+                after = InboxCursor.decode(cursor);
+                if (after == null) {
+                    return new ResponseEntity<>(new CursorPage<>(new ArrayList<>(), null, false), HttpStatus.BAD_REQUEST);
+                }
+            }
+            // fetch one extra row to know whether there is a next page
+            List<Notification> notifications = readInbox(userId, onlyUnread, after, pageSize + 1);
+
+            boolean hasMore = notifications.size() > pageSize;
+            if (hasMore) {
+                notifications = new ArrayList<>(notifications.subList(0, pageSize));
+            }
+            String nextCursor = hasMore ? InboxCursor.of(notifications.get(notifications.size() - 1)).encode() : null;
+            return new ResponseEntity<>(new CursorPage<>(notifications, nextCursor, hasMore), HttpStatus.OK);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(new CursorPage<>(new ArrayList<>(), null, false), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Override
+    public ResponseEntity<Map<String, Integer>> getUnreadCount() {
+        try {
+            log.info("Inside getUnreadCount");
+            if (!jwtFilter.isBerlizUser()) {
+                return new ResponseEntity<>(new HashMap<>(), HttpStatus.UNAUTHORIZED);
+            }
+            int unreadCount = unreadNotificationCounter.get(jwtFilter.getCurrentUserId());
+            return new ResponseEntity<>(Map.of("unreadCount", unreadCount), HttpStatus.OK);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(new HashMap<>(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public ResponseEntity<String> bulkAction(Map<String, String> requestMap) throws JsonProcessingException {
         try {
@@ -163,7 +224,7 @@ public class NotificationServiceImplement implements NotificationService {
             }
 
             if (isDelete) {
-                int updatedCount = notificationRepo.bulkDeleteByIds(idList);
+                int updatedCount = unreadNotificationCounter.delete(idList);
                 if (updatedCount < 0) {
                     return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, BerlizConstants.SOMETHING_WENT_WRONG);
                 }
@@ -171,7 +232,7 @@ public class NotificationServiceImplement implements NotificationService {
             }
 
             if (isRead) {
-                int updatedCount = notificationRepo.bulkReadByIds(idList);
+                int updatedCount = unreadNotificationCounter.markRead(idList);
                 if (updatedCount < 0) {
                     return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, BerlizConstants.SOMETHING_WENT_WRONG);
                 }
@@ -179,14 +240,15 @@ public class NotificationServiceImplement implements NotificationService {
             }
 
             if (isUnread) {
-                int updatedCount = notificationRepo.bulkUnreadByIds(idList);
+                int updatedCount = unreadNotificationCounter.markUnread(idList);
                 if (updatedCount < 0) {
                     return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, BerlizConstants.SOMETHING_WENT_WRONG);
                 }
                 successMessage = "Notifications are now unread";
             }
 
-            simpMessagingTemplate.convertAndSend("/topic/notificationBulkAction", notifications);
+            simpMessagingTemplate.convertAndSendToUser(String.valueOf(jwtFilter.getCurrentUserId()),
+                    "/queue/notificationBulkAction", notifications);
             return BerlizUtilities.buildResponse(HttpStatus.OK, successMessage);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -209,8 +271,9 @@ public class NotificationServiceImplement implements NotificationService {
             log.info("inside optional {}", optional);
             try {
                 Notification notification = optional.get();
-                notificationRepo.deleteById(id);
-                simpMessagingTemplate.convertAndSend("/topic/deleteNotification", notification);
+                unreadNotificationCounter.delete(List.of(id));
+                simpMessagingTemplate.convertAndSendToUser(String.valueOf(notification.getUser().getId()),
+                        "/queue/deleteNotification", notification);
                 return BerlizUtilities.buildResponse(HttpStatus.OK, "notification deleted successfully");
             } catch (DataIntegrityViolationException ex) {
                 // Handle foreign key constraint violation when deleting
@@ -237,9 +300,10 @@ public class NotificationServiceImplement implements NotificationService {
             }
             log.info("inside optional {}", optional);
             Notification notification = optional.get();
+            unreadNotificationCounter.markRead(List.of(id));
             notification.setRead(true);
-            notificationRepo.save(notification);
-            simpMessagingTemplate.convertAndSend("/topic/readNotification", notification);
+            simpMessagingTemplate.convertAndSendToUser(String.valueOf(notification.getUser().getId()),
+                    "/queue/readNotification", notification);
             return BerlizUtilities.buildResponse(HttpStatus.OK, "notification read successfully");
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -252,6 +316,8 @@ public class NotificationServiceImplement implements NotificationService {
         notification.setUser(user);
         notification.setNotification(requestMap.get("notification"));
         Notification savedNotification = notificationRepo.save(notification);
+        List<Integer> recipientIds = new ArrayList<>();
+        recipientIds.add(user.getId());
         List<User> admins = userRepo.findAllAdmins();
         for (User admin : admins) {
             Notification adminNotification = new Notification();
@@ -259,12 +325,67 @@ public class NotificationServiceImplement implements NotificationService {
             adminNotification.setUser(admin);
             adminNotification.setDate(new Date());
             notificationRepo.save(adminNotification);
+            recipientIds.add(admin.getId());
         }
+        unreadNotificationCounter.addUnread(UnreadNotificationCounter.oneEach(recipientIds));
+
+        simpMessagingTemplate.convertAndSendToUser(String.valueOf(user.getId()),
+                "/queue/getNotificationFromMap", savedNotification);
+    }
 
-        simpMessagingTemplate.convertAndSend("/topic/getNotificationFromMap", savedNotification);
+    /**
+     * Read up to limit inbox rows after the cursor: the rest of the unread range, then, unless only unread
+     * notifications are asked for, the read range. Each range is a single seek on idx_notification_inbox.
+     */
+    private List<Notification> readInbox(Integer userId, boolean onlyUnread, InboxCursor after, int limit) {
+        List<Notification> notifications = new ArrayList<>();
+        if (after == null || !after.read()) {
+            notifications.addAll(readInboxRange(userId, false, after, limit));
+        }
+        if (!onlyUnread && notifications.size() < limit) {
+            InboxCursor readAfter = after != null && after.read() ? after : null;
+            notifications.addAll(readInboxRange(userId, true, readAfter, limit - notifications.size()));
+        }
+        return notifications;
+    }
+
+    private List<Notification> readInboxRange(Integer userId, boolean read, InboxCursor after, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (after == null) {
+            return notificationRepo.findInbox(userId, read, pageable);
+        }
+        return notificationRepo.findInboxAfter(userId, read, after.date(), after.id(), pageable);
     }
 
     private boolean validateRequestFromMap(Map<String, String> requestMap) {
         return requestMap.containsKey("notification");
     }
+
+    /**
+     * Position in the inbox: the (read, date, id) of the last notification of a page, as url-safe base64.
+     */
+    private record InboxCursor(boolean read, Date date, Integer id) {
+
+        static InboxCursor of(Notification notification) {
+            return new InboxCursor(notification.isRead(), notification.getDate(), notification.getId());
+        }
+
+        String encode() {
+            String value = (read ? 1 : 0) + ":" + date.getTime() + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static InboxCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+                if (parts.length != 3) {
+                    return null;
+                }
+                return new InboxCursor("1".equals(parts[0]), new Date(Long.parseLong(parts[1])),
+                        Integer.valueOf(parts[2]));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.berliz.serviceImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Order;
@@ -11,12 +12,12 @@ import com.berliz.repositories.OrderRepo;
 import com.berliz.repositories.ProductRepo;
 import com.berliz.services.OrderService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -142,10 +143,12 @@ public class OrderServiceImplement implements OrderService {
     /**
      * Retrieves a list of all orders.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity containing the list of orders or an error response
      */
     @Override
-    public ResponseEntity<List<Order>> getAllOrders() {
+    public ResponseEntity<List<Order>> getAllOrders(Integer page, Integer size) {
         try {
             log.info("Inside getAllOrders");
             Integer userId = jwtFilter.getCurrentUserId();
@@ -153,30 +156,14 @@ public class OrderServiceImplement implements OrderService {
 
             // case for admin
             if (jwtFilter.isAdmin()) {
-                List<Order> orders = orderRepo.findAll();
-
-                // Initialize user and product associations for each order
-                for (Order order : orders) {
-                    Hibernate.initialize(order.getUser());  // Initialize the user association
-                    for (OrderDetails orderDetails : order.getOrderDetailsSet()) {
-                        Hibernate.initialize(orderDetails.getProduct());  // Initialize product associations
-                    }
-                }
-
+                // user, line items, products and brands come with the orders
+                List<Order> orders = withDetails(orderRepo.findAllBy(KeysetPage.listPage(page, size)).getContent());
                 return new ResponseEntity<>(orders, HttpStatus.OK);
             }
             // case for currently logged-in user
             else if (userId.equals(orderUser.getUser().getId())) {
-                List<Order> orders = orderRepo.findByUserId(userId);
-
-                // Initialize user and product associations for each order
-                for (Order order : orders) {
-                    Hibernate.initialize(order.getUser());  // Initialize the user association
-                    for (OrderDetails orderDetails : order.getOrderDetailsSet()) {
-                        Hibernate.initialize(orderDetails.getProduct());  // Initialize product associations
-                    }
-                }
-
+                List<Order> orders = withDetails(
+                        orderRepo.findAllByUserId(userId, KeysetPage.listPage(page, size)).getContent());
                 return new ResponseEntity<>(orders, HttpStatus.OK);
             } else {
                 return new ResponseEntity(BerlizConstants.UNAUTHORIZED_REQUEST, HttpStatus.UNAUTHORIZED);
@@ -187,6 +174,60 @@ public class OrderServiceImplement implements OrderService {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Returns one page of the orders, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity with the page, or 400 for an invalid cursor.
+     */
+    @Override
+    public ResponseEntity<CursorPage<Order>> getOrdersPage(String cursor, Integer limit) {
+        try {
+            log.info("Inside getOrdersPage {} {}", cursor, limit);
+            if (jwtFilter.isAdmin()) {
+                return KeysetPage.fetch(cursor, limit,
+                        pageable -> withDetails(orderRepo.findPage(pageable)),
+                        (after, pageable) -> withDetails(orderRepo.findPageAfter(after.date(), after.id(), pageable)),
+                        Order::getDate, Order::getId);
+            }
+            if (!jwtFilter.isBerlizUser()) {
+                return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.UNAUTHORIZED);
+            }
+            // everyone else only pages through their own orders
+            Integer userId = jwtFilter.getCurrentUserId();
+            return KeysetPage.fetch(cursor, limit,
+                    pageable -> withDetails(orderRepo.findPageByUserId(userId, pageable)),
+                    (after, pageable) -> withDetails(
+                            orderRepo.findPageByUserIdAfter(userId, after.date(), after.id(), pageable)),
+                    Order::getDate, Order::getId);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * Reloads a page of orders with their user, line items, products and brands.
+     * <p>
+     * The page itself is read without the line items, as a limit cannot be applied to a query that fetches a
+     * collection, then the orders of the page are read again by id with the full fetch plan: two statements
+     * whatever the page size.
+     *
+     * @param page The orders of a page, in page order.
+     * @return The same orders, in the same order, with their associations loaded.
+     */
+    private List<Order> withDetails(List<Order> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+        Map<Integer, Order> loaded = new HashMap<>();
+        for (Order order : orderRepo.findByIdsWithDetails(page.stream().map(Order::getId).toList())) {
+            loaded.put(order.getId(), order);
+        }
+        return page.stream().map(order -> loaded.get(order.getId())).toList();
+    }
+
     /**
      * Deletes an order by its ID.
      *
@@ -255,7 +296,7 @@ public class OrderServiceImplement implements OrderService {
         try {
             log.info("Inside getByUser {}", id);
             if (jwtFilter.isAdmin() || !jwtFilter.getCurrentUserEmail().isEmpty()) {
-                List<Order> order = orderRepo.findByUserId(id);
+                List<Order> order = orderRepo.findByUserIdWithDetails(id);
                 if (order != null) {
                     log.info("Inside optional {}", order);
                     return new ResponseEntity<>(order, HttpStatus.OK);
@@ -282,7 +323,7 @@ public class OrderServiceImplement implements OrderService {
         try {
             log.info("Inside getOrder {}", id);
 
-            Order order = orderRepo.findByOrderId(id);
+            Order order = orderRepo.findByOrderIdWithDetails(id);
             Integer userId = order.getUser().getId();
             if (order == null) {
                 return new ResponseEntity("Order id not found", HttpStatus.BAD_REQUEST);
@@ -332,8 +373,8 @@ public class OrderServiceImplement implements OrderService {
         try {
             log.info("Inside generateBill for orderId: {}", orderId);
 
-            // Find the order by ID
-            Order order = orderRepo.findByOrderId(orderId);
+            // Find the order by ID, with the products the bill lists
+            Order order = orderRepo.findByOrderIdWithDetails(orderId);
             if (order == null) {
                 return new ResponseEntity<>("Order id not found or is null", HttpStatus.NOT_FOUND);
             }
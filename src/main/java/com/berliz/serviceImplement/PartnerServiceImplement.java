@@ -4,6 +4,7 @@ import com.berliz.DTO.PartnerRequest;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.Center;
+import com.berliz.models.MediaBlob;
 import com.berliz.models.Partner;
 import com.berliz.models.Trainer;
 import com.berliz.models.User;
@@ -13,11 +14,14 @@ import com.berliz.repositories.TrainerRepo;
 import com.berliz.repositories.UserRepo;
 import com.berliz.services.PartnerService;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.MediaStore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -49,6 +53,9 @@ public class PartnerServiceImplement implements PartnerService {
     @Autowired
     EmailUtilities emailUtilities;
 
+    @Autowired
+    MediaStore mediaStore;
+
     @Autowired
     SimpMessagingTemplate simpMessagingTemplate;
 
@@ -204,13 +211,13 @@ public class PartnerServiceImplement implements PartnerService {
     }
 
     @Override
-    public ResponseEntity<List<Partner>> getAllPartners() {
+    public ResponseEntity<List<Partner>> getAllPartners(Integer page, Integer size) {
         try {
             log.info("Inside getAllPartners");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Partner> partners = partnerRepo.findAll();
+            List<Partner> partners = partnerRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(partners, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -338,11 +345,8 @@ public class PartnerServiceImplement implements PartnerService {
             }
 
             // Update the partner's information based on the request data
-            byte[] certificate = request.getCertificate().getBytes();
-            existingPartner.setCertificate(certificate);
-            byte[] cv = request.getCv().getBytes();
-            existingPartner.setCv(cv);
-            existingPartner.setCertificate(certificate);
+            existingPartner.setCertificate(mediaStore.store(request.getCertificate()));
+            existingPartner.setCv(mediaStore.store(request.getCv()));
             existingPartner.setLastUpdate(new Date());
 
             // Save the updated partner in the repository
@@ -392,6 +396,47 @@ public class PartnerServiceImplement implements PartnerService {
         }
     }
 
+    @Override
+    public ResponseEntity<byte[]> getDocument(Integer id, String document) {
+        try {
+            log.info("Inside getDocument {} {}", id, document);
+            Optional<Partner> optional = partnerRepo.findById(id);
+            if (optional.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+
+            // Only the partner and admins can read the documents of an application
+            Partner partner = optional.get();
+            Integer userId = jwtFilter.getCurrentUserId();
+            if (!jwtFilter.isAdmin() && (userId == null || !userId.equals(partner.getUser().getId()))) {
+                return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+            }
+
+            String hash;
+            if ("cv".equals(document)) {
+                hash = partner.getCvHash();
+            } else if ("certificate".equals(document)) {
+                hash = partner.getCertificateHash();
+            } else {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            Optional<MediaBlob> blob = mediaStore.find(hash);
+            if (blob.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+
+            // never kept by shared caches, the response depends on who asks
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .contentType(MediaServiceImplement.contentType(blob.get()))
+                    .contentLength(blob.get().getData().length)
+                    .body(blob.get().getData());
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Override
     public ResponseEntity<String> rejectApplication(Integer id) throws JsonProcessingException {
         try {
@@ -453,11 +498,9 @@ public class PartnerServiceImplement implements PartnerService {
         partner.setUser(user);
 
         // Set partner attributes from the requestMap
-        byte[] certificate = request.getCertificate().getBytes();
-        partner.setCertificate(certificate);
+        partner.setCertificate(mediaStore.store(request.getCertificate()));
         partner.setMotivation(request.getMotivation());
-        byte[] cv = request.getCv().getBytes();
-        partner.setCv(cv);
+        partner.setCv(mediaStore.store(request.getCv()));
         partner.setFacebookUrl(request.getFacebookUrl());
         partner.setInstagramUrl(request.getInstagramUrl());
         partner.setYoutubeUrl(request.getYoutubeUrl());
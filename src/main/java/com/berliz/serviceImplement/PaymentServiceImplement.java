@@ -9,6 +9,7 @@ import com.berliz.repositories.*;
 import com.berliz.services.PaymentService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -114,13 +115,13 @@ public class PaymentServiceImplement implements PaymentService {
     }
 
     @Override
-    public ResponseEntity<List<Payment>> getAllPayments() {
+    public ResponseEntity<List<Payment>> getAllPayments(Integer page, Integer size) {
         try {
             log.info("Inside getAllPayments");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Payment> payments = paymentRepo.findAll();
+            List<Payment> payments = paymentRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(payments, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1,11 +1,13 @@
 package com.berliz.serviceImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.*;
 import com.berliz.repositories.*;
 import com.berliz.services.ProductService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -112,14 +114,16 @@ public class ProductServiceImplement implements ProductService {
     /**
      * Retrieves a list of all products.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity containing the list of products or an error response
      */
     @Override
-    public ResponseEntity<List<Product>> getAllProducts() {
+    public ResponseEntity<List<Product>> getAllProducts(Integer page, Integer size) {
         try {
             log.info("Inside getAllProducts");
             if (jwtFilter.isAdmin()) {
-                List<Product> products = productRepo.findAll();
+                List<Product> products = productRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
                 return new ResponseEntity<>(products, HttpStatus.OK);
             } else {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
@@ -130,6 +134,29 @@ public class ProductServiceImplement implements ProductService {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Returns one page of the products, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity with the page, or 400 for an invalid cursor.
+     */
+    @Override
+    public ResponseEntity<CursorPage<Product>> getProductsPage(String cursor, Integer limit) {
+        try {
+            log.info("Inside getProductsPage {} {}", cursor, limit);
+            if (!jwtFilter.isAdmin()) {
+                return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.UNAUTHORIZED);
+            }
+            return KeysetPage.fetch(cursor, limit, productRepo::findPage,
+                    (after, pageable) -> productRepo.findPageAfter(after.date(), after.id(), pageable),
+                    Product::getDate, Product::getId);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Deletes a product with the specified ID.
      *
@@ -1,5 +1,6 @@
 package com.berliz.serviceImplement;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.constants.BerlizConstants;
 import com.berliz.models.*;
@@ -10,6 +11,7 @@ import com.berliz.repositories.UserRepo;
 import com.berliz.services.StoreService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -126,17 +128,19 @@ public class StoreServiceImplement implements StoreService {
     /**
      * Returns a list of Stores
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity with a success message or an error message
      */
     @Override
-    public ResponseEntity<List<Store>> getAllStores() {
+    public ResponseEntity<List<Store>> getAllStores(Integer page, Integer size) {
         try {
             log.info("Inside getAllStore");
 
             // Check if the user is an admin
             if (jwtFilter.isAdmin()) {
                 // Retrieve all Store from the repository
-                List<Store> Store = storeRepo.findAll();
+                List<Store> Store = storeRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
                 return new ResponseEntity<>(Store, HttpStatus.OK);
             } else {
                 // Return an unauthorized response for non-admin users
@@ -150,6 +154,29 @@ public class StoreServiceImplement implements StoreService {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Returns one page of the stores, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity with the page, or 400 for an invalid cursor.
+     */
+    @Override
+    public ResponseEntity<CursorPage<Store>> getStoresPage(String cursor, Integer limit) {
+        try {
+            log.info("Inside getStoresPage {} {}", cursor, limit);
+            if (!jwtFilter.isAdmin()) {
+                return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.UNAUTHORIZED);
+            }
+            return KeysetPage.fetch(cursor, limit, storeRepo::findPage,
+                    (after, pageable) -> storeRepo.findPageAfter(after.date(), after.id(), pageable),
+                    Store::getDate, Store::getId);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Updates a Store partner ID based on the existing id and new id provided
      *
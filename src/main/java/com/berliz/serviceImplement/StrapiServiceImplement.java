@@ -1,27 +1,65 @@
 package com.berliz.serviceImplement;
 
 import com.berliz.DTO.StrapiPhotoMetadata;
+import com.berliz.utils.CircuitBreaker;
 import com.berliz.utils.MultipartInputStreamFileResource;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Slf4j
 @Service
 public class StrapiServiceImplement {
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Value("${strapi.base-url}")
     private String strapiBaseUrl;
 
@@ -31,14 +69,155 @@ public class StrapiServiceImplement {
     @Value("${strapi.password}")
     private String password;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private String jwtToken;
-    private Instant tokenExpiry = Instant.now(); // force refresh on first use
+    @Value("${berliz.strapi.upload.threads:4}")
+    private int uploadThreads;
+
+    @Value("${berliz.strapi.upload.queue-capacity:64}")
+    private int uploadQueueCapacity;
+
+    @Value("${berliz.strapi.metadata-cache.max-size:10000}")
+    private long metadataCacheMaxSize;
+
+    @Value("${berliz.strapi.metadata-cache.ttl-minutes:60}")
+    private long metadataCacheTtlMinutes;
+
+    @Value("${berliz.strapi.http.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${berliz.strapi.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${berliz.strapi.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    // how long a call waits for a free pooled connection before giving up; with max-connections this is the
+    // bulkhead that keeps a slow Strapi from tying up more than that many request threads
+    @Value("${berliz.strapi.http.pool-wait-ms:1000}")
+    private long poolWaitMs;
+
+    @Value("${berliz.strapi.circuit.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${berliz.strapi.circuit.open-ms:30000}")
+    private long circuitOpenMs;
+
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private CircuitBreaker circuitBreaker;
+    private volatile String jwtToken;
+    private volatile Instant tokenExpiry = Instant.now(); // force refresh on first use
 
     private static final String PHOTO_FOLDER_ID = "2"; // 🔐 Folder ID for "photos"
 
+    // ids per filters[id][$in] request, keeps the query string well under common URL limits
+    private static final int METADATA_BATCH_SIZE = 100;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // shared by every album upload, so Strapi never sees more than uploadThreads uploads from us at once;
+    // when the queue is full the request thread uploads the file itself instead of failing the album
+    private ThreadPoolExecutor uploadExecutor;
+
+    // photo metadata hardly changes after the upload; filled on upload and lookup, dropped on update and delete
+    private Cache<Integer, StrapiPhotoMetadata> metadataCache;
+
+    @PostConstruct
+    public void init() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        circuitBreaker = new CircuitBreaker(circuitFailureThreshold, circuitOpenMs, TimeUnit.MILLISECONDS);
+        Gauge.builder("berliz.strapi.pool.leased", connectionManager, m -> m.getTotalStats().getLeased())
+                .register(meterRegistry);
+        Gauge.builder("berliz.strapi.pool.pending", connectionManager, m -> m.getTotalStats().getPending())
+                .register(meterRegistry);
+        Gauge.builder("berliz.strapi.circuit.open", circuitBreaker,
+                        c -> c.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+
+        metadataCache = CacheBuilder.newBuilder()
+                .maximumSize(metadataCacheMaxSize)
+                .expireAfterWrite(metadataCacheTtlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, metadataCache, "strapiPhotoMetadata");
+
+        uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(uploadQueueCapacity),
+                new CustomizableThreadFactory("strapi-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Gauge.builder("berliz.strapi.upload.queue.depth", uploadExecutor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("berliz.strapi.upload.active", uploadExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+        try {
+            httpClient.close();
+        } catch (IOException ex) {
+            log.warn("Could not close the Strapi HTTP client", ex);
+        }
+    }
+
+    /**
+     * Make one call to Strapi through the circuit breaker, timing it as berliz.strapi.requests with its
+     * operation and outcome. Connection failures, timeouts and 5xx responses count against the circuit;
+     * 4xx responses are answers, not failures.
+     *
+     * @throws ResourceAccessException If the circuit is open and the call was not made.
+     */
+    private <T> T call(String operation, Supplier<T> request) {
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter("berliz.strapi.requests.rejected", "operation", operation).increment();
+            throw new ResourceAccessException("Strapi is unavailable, " + operation + " was not attempted");
+        }
+        long started = System.nanoTime();
+        String outcome = "error";
+        try {
+            T response = request.get();
+            outcome = "success";
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (ResourceAccessException | HttpServerErrorException ex) {
+            circuitBreaker.onFailure();
+            throw ex;
+        } catch (HttpClientErrorException ex) {
+            outcome = "client_error";
+            circuitBreaker.onSuccess();
+            throw ex;
+        } catch (RuntimeException ex) {
+            circuitBreaker.onFailure();
+            throw ex;
+        } finally {
+            Timer.builder("berliz.strapi.requests")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
     // ✅ Authenticate and store token
-    public String authenticateAndGetToken() {
+    public synchronized String authenticateAndGetToken() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -49,15 +228,14 @@ public class StrapiServiceImplement {
 
         HttpEntity<Map<String, String>> request = new HttpEntity<>(loginPayload, headers);
 
-        ResponseEntity<String> response = restTemplate.postForEntity(
+        ResponseEntity<String> response = call("auth", () -> restTemplate.postForEntity(
                 strapiBaseUrl + "/api/auth/local",
                 request,
                 String.class
-        );
+        ));
 
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(response.getBody());
+            JsonNode root = MAPPER.readTree(response.getBody());
             jwtToken = root.get("jwt").asText();
             tokenExpiry = Instant.now().plusSeconds(3600 * 24 * 7); // 7-day token lifespan
             return jwtToken;
@@ -67,7 +245,7 @@ public class StrapiServiceImplement {
     }
 
     // ✅ Auto-refresh token if expired
-    public String getValidToken() {
+    public synchronized String getValidToken() {
         if (jwtToken == null || Instant.now().isAfter(tokenExpiry)) {
             return authenticateAndGetToken();
         }
@@ -95,30 +273,96 @@ public class StrapiServiceImplement {
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<String> response = restTemplate.postForEntity(
+        ResponseEntity<String> response = call("upload", () -> restTemplate.postForEntity(
                 strapiBaseUrl + "/api/upload",
                 requestEntity,
                 String.class
-        );
+        ));
 
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode node = mapper.readTree(response.getBody()).get(0); // Strapi returns an array
+        JsonNode node = MAPPER.readTree(response.getBody()).get(0); // Strapi returns an array
 
         StrapiPhotoMetadata metadata = new StrapiPhotoMetadata();
+        metadata.setId(node.get("id").asInt());
         metadata.setPhotoUrl(node.get("url").asText());
         metadata.setName(node.get("name").asText());
         metadata.setMimeType(node.get("mime").asText());
         metadata.setByteSize(node.get("size").asLong());
         metadata.setCaption(""); // optional
 
+        metadataCache.put(metadata.getId(), metadata);
         return metadata;
     }
 
-    // ✅ Upload multiple photos
-    public List<StrapiPhotoMetadata> uploadMultiplePhotos(MultipartFile[] files) throws IOException {
-        List<StrapiPhotoMetadata> results = new ArrayList<>();
+    /**
+     * Upload several photos in parallel on the upload pool.
+     * <p>
+     * The result is in the order of the files. If any upload fails, the uploads not started yet are skipped,
+     * the ones that went through are deleted from Strapi again, and the first failure is thrown, so the caller
+     * never has to clean up half an album.
+     *
+     * @param files The photos to upload.
+     * @return The Strapi metadata of each photo, in the order of the files.
+     * @throws IOException If any of the uploads failed.
+     */
+    public List<StrapiPhotoMetadata> uploadMultiplePhotos(List<MultipartFile> files) throws IOException {
+        // set on the first failure, so the uploads that have not started yet skip themselves
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<StrapiPhotoMetadata>> futures = new ArrayList<>(files.size());
         for (MultipartFile file : files) {
-            results.add(uploadPhoto(file));
+            futures.add(uploadExecutor.submit(() -> {
+                if (failed.get()) {
+                    return null;
+                }
+                try {
+                    return uploadPhoto(file);
+                } catch (Exception ex) {
+                    failed.set(true);
+                    throw ex;
+                }
+            }));
+        }
+
+        // wait for every upload, even after a failure, so none finishes unseen and is left behind in Strapi
+        List<StrapiPhotoMetadata> results = new ArrayList<>(files.size());
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (Future<StrapiPhotoMetadata> future : futures) {
+            while (true) {
+                try {
+                    results.add(future.get());
+                    break;
+                } catch (ExecutionException ex) {
+                    if (failure == null) {
+                        failure = ex.getCause();
+                    }
+                    break;
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                    failed.set(true);
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            if (failure == null) {
+                failure = new InterruptedException("Interrupted while uploading photos");
+            }
+        }
+
+        if (failure != null) {
+            List<StrapiPhotoMetadata> uploaded = results.stream().filter(Objects::nonNull).toList();
+            log.warn("Photo upload failed, deleting the {} photo(s) already uploaded", uploaded.size());
+            for (StrapiPhotoMetadata metadata : uploaded) {
+                try {
+                    deletePhotoFromStrapi(metadata.getId());
+                } catch (Exception ex) {
+                    log.error("Could not delete Strapi photo {} after a failed upload", metadata.getId(), ex);
+                }
+            }
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to upload photos to Strapi", failure);
         }
         return results;
     }
@@ -129,13 +373,15 @@ public class StrapiServiceImplement {
             headers.setBearerAuth(getValidToken());
 
             HttpEntity<Void> entity = new HttpEntity<>(headers);
-            restTemplate.exchange(
+            call("delete", () -> restTemplate.exchange(
                     strapiBaseUrl + "/api/upload/files/" + strapiPhotoId,
                     HttpMethod.DELETE,
                     entity,
                     Void.class
-            );
+            ));
+            metadataCache.invalidate(strapiPhotoId);
         } catch (HttpClientErrorException.NotFound e) {
+            metadataCache.invalidate(strapiPhotoId);
             // Log or ignore if already deleted
             System.out.println("Strapi file not found for deletion: " + strapiPhotoId);
         } catch (Exception e) {
@@ -156,19 +402,32 @@ public class StrapiServiceImplement {
 
             HttpEntity<Map<String, String>> entity = new HttpEntity<>(updates, headers);
 
-            restTemplate.exchange(
+            call("update", () -> restTemplate.exchange(
                     strapiBaseUrl + "/api/upload/files/" + strapiPhotoId,
                     HttpMethod.PUT,
                     entity,
                     String.class
-            );
+            ));
+            metadataCache.invalidate(strapiPhotoId);
         } catch (Exception e) {
             throw new RuntimeException("Error updating photo metadata in Strapi", e);
         }
     }
 
 
+    /**
+     * Get the metadata of a photo, from the cache when it is there.
+     * <p>
+     * The returned object is shared with the cache and must not be modified.
+     *
+     * @param photoId The Strapi file id.
+     * @return The photo metadata.
+     */
     public StrapiPhotoMetadata getPhotoFromStrapiById(Integer photoId) {
+        StrapiPhotoMetadata cached = metadataCache.getIfPresent(photoId);
+        if (cached != null) {
+            return cached;
+        }
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setBearerAuth(getValidToken());
@@ -178,80 +437,93 @@ public class StrapiServiceImplement {
             // URL for a single photo by its ID
             String url = strapiBaseUrl + "/api/upload/files/" + photoId;
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = call("metadata", () -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     String.class
-            );
+            ));
 
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode node = mapper.readTree(response.getBody()).get("data");
+            JsonNode node = MAPPER.readTree(response.getBody()).get("data");
 
             if (node == null) {
                 throw new RuntimeException("Photo not found with ID: " + photoId);
             }
 
-            JsonNode attributes = node.get("attributes");
-            StrapiPhotoMetadata photo = new StrapiPhotoMetadata();
-            photo.setId(node.get("id").asInt());
-            photo.setName(attributes.get("name").asText());
-            photo.setCaption(attributes.has("caption") ? attributes.get("caption").asText() : "");
-            photo.setMimeType(attributes.get("mime").asText());
-            photo.setByteSize((long) attributes.get("size").asDouble());
-            photo.setPhotoUrl(attributes.get("url").asText());
-
+            StrapiPhotoMetadata photo = toMetadata(node);
+            metadataCache.put(photo.getId(), photo);
             return photo;
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve photo from Strapi", e);
         }
     }
 
+    /**
+     * Get the metadata of several photos. Photos already in the cache cost nothing, the others are fetched
+     * with one filters[id][$in] request per hundred ids.
+     * <p>
+     * The returned objects are shared with the cache and must not be modified.
+     *
+     * @param photoIds The Strapi file ids.
+     * @return The metadata of the photos found, in the order of the ids.
+     */
     public List<StrapiPhotoMetadata> getPhotosFromStrapiByIds(List<Integer> photoIds) {
+        Map<Integer, StrapiPhotoMetadata> found = new HashMap<>(metadataCache.getAllPresent(photoIds));
+        List<Integer> missing = new ArrayList<>(new LinkedHashSet<>(photoIds));
+        missing.removeAll(found.keySet());
+
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(getValidToken());
+            for (List<Integer> batch : Lists.partition(missing, METADATA_BATCH_SIZE)) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setBearerAuth(getValidToken());
 
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
+                HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-            // Generate the URL to fetch multiple photos using an array of IDs
-            StringBuilder urlBuilder = new StringBuilder(strapiBaseUrl + "/api/upload/files?filters[id][$in]=");
-            for (int i = 0; i < photoIds.size(); i++) {
-                urlBuilder.append(photoIds.get(i));
-                if (i < photoIds.size() - 1) {
-                    urlBuilder.append(",");
+                // one filters[id][$in][i] parameter per id, and a page big enough for all of them
+                StringBuilder urlBuilder = new StringBuilder(strapiBaseUrl + "/api/upload/files?pagination[pageSize]=")
+                        .append(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    urlBuilder.append("&filters[id][$in][").append(i).append("]=").append(batch.get(i));
                 }
-            }
 
-            // Add pagination or other parameters as needed
-            String url = urlBuilder.toString();
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode data = mapper.readTree(response.getBody()).get("data");
-
-            List<StrapiPhotoMetadata> photoList = new ArrayList<>();
-            for (JsonNode node : data) {
-                JsonNode attributes = node.get("attributes");
-                StrapiPhotoMetadata photo = new StrapiPhotoMetadata();
-                photo.setId(node.get("id").asInt());
-                photo.setName(attributes.get("name").asText());
-                photo.setCaption(attributes.has("caption") ? attributes.get("caption").asText() : "");
-                photo.setMimeType(attributes.get("mime").asText());
-                photo.setByteSize((long) attributes.get("size").asDouble());
-                photo.setPhotoUrl(attributes.get("url").asText());
-                photoList.add(photo);
+                ResponseEntity<String> response = call("metadata", () -> restTemplate.exchange(
+                        urlBuilder.toString(),
+                        HttpMethod.GET,
+                        entity,
+                        String.class
+                ));
+
+                JsonNode data = MAPPER.readTree(response.getBody()).get("data");
+                for (JsonNode node : data) {
+                    StrapiPhotoMetadata photo = toMetadata(node);
+                    metadataCache.put(photo.getId(), photo);
+                    found.put(photo.getId(), photo);
+                }
             }
-
-            return photoList;
         } catch (Exception e) {
             throw new RuntimeException("Failed to retrieve photos from Strapi", e);
         }
+
+        List<StrapiPhotoMetadata> photoList = new ArrayList<>();
+        for (Integer photoId : photoIds) {
+            StrapiPhotoMetadata photo = found.get(photoId);
+            if (photo != null) {
+                photoList.add(photo);
+            }
+        }
+        return photoList;
+    }
+
+    private static StrapiPhotoMetadata toMetadata(JsonNode node) {
+        JsonNode attributes = node.get("attributes");
+        StrapiPhotoMetadata photo = new StrapiPhotoMetadata();
+        photo.setId(node.get("id").asInt());
+        photo.setName(attributes.get("name").asText());
+        photo.setCaption(attributes.has("caption") ? attributes.get("caption").asText() : "");
+        photo.setMimeType(attributes.get("mime").asText());
+        photo.setByteSize((long) attributes.get("size").asDouble());
+        photo.setPhotoUrl(attributes.get("url").asText());
+        return photo;
     }
 
     public void deleteMultiplePhotosFromStrapi(List<Integer> strapiPhotoIds) {
@@ -7,6 +7,7 @@ import com.berliz.repositories.*;
 import com.berliz.services.SubscriptionService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -133,13 +134,13 @@ public class SubscriptionServiceImplement implements SubscriptionService {
     }
 
     @Override
-    public ResponseEntity<List<Subscription>> getAllSubscriptions() {
+    public ResponseEntity<List<Subscription>> getAllSubscriptions(Integer page, Integer size) {
         try {
             log.info("Inside getAllSubscriptions");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Subscription> subscriptions = subscriptionRepo.findAll();
+            List<Subscription> subscriptions = subscriptionRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(subscriptions, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
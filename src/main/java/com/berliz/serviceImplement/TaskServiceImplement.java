@@ -7,6 +7,7 @@ import com.berliz.repositories.*;
 import com.berliz.services.TaskService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONArray;
@@ -148,13 +149,13 @@ public class TaskServiceImplement implements TaskService {
     }
 
     @Override
-    public ResponseEntity<List<Task>> getAllTasks() {
+    public ResponseEntity<List<Task>> getAllTasks(Integer page, Integer size) {
         try {
             log.info("Inside getAllTasks");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Task> tasks = taskRepo.findAll();
+            List<Task> tasks = taskRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(tasks, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -163,13 +164,13 @@ public class TaskServiceImplement implements TaskService {
     }
 
     @Override
-    public ResponseEntity<List<SubTask>> getAllSubTasks() {
+    public ResponseEntity<List<SubTask>> getAllSubTasks(Integer page, Integer size) {
         try {
             log.info("Inside getAllSubTasks");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<SubTask> subTasks = subTaskRepo.findAll();
+            List<SubTask> subTasks = subTaskRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(subTasks, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -212,13 +213,13 @@ public class TaskServiceImplement implements TaskService {
     }
 
     @Override
-    public ResponseEntity<List<Task>> getActiveTasks() {
+    public ResponseEntity<List<Task>> getActiveTasks(Integer page, Integer size) {
         try {
             log.info("Inside getActiveTasks");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Task> tasks = taskRepo.findAll();
+            List<Task> tasks = taskRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(tasks, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -11,6 +11,7 @@ import com.berliz.repositories.UserRepo;
 import com.berliz.services.TestimonialService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -101,13 +102,13 @@ public class TestimonialServiceImplement implements TestimonialService {
 
 
     @Override
-    public ResponseEntity<List<Testimonial>> getAllTestimonials() {
+    public ResponseEntity<List<Testimonial>> getAllTestimonials(Integer page, Integer size) {
         try {
             log.info("Inside getAllTestimonials");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Testimonial> testimonials = testimonialRepo.findAll();
+            List<Testimonial> testimonials = testimonialRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(testimonials, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -116,13 +117,13 @@ public class TestimonialServiceImplement implements TestimonialService {
     }
 
     @Override
-    public ResponseEntity<List<Testimonial>> getActiveTestimonials() {
+    public ResponseEntity<List<Testimonial>> getActiveTestimonials(Integer page, Integer size) {
         try {
             log.info("Inside getActiveTestimonials");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Testimonial> testimonials = testimonialRepo.findAll();
+            List<Testimonial> testimonials = testimonialRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(testimonials, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
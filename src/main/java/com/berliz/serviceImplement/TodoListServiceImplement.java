@@ -8,6 +8,7 @@ import com.berliz.repositories.TodoListRepo;
 import com.berliz.repositories.UserRepo;
 import com.berliz.services.TodoListService;
 import com.berliz.utils.BerlizUtilities;
+import com.berliz.utils.KeysetPage;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -69,13 +70,14 @@ public class TodoListServiceImplement implements TodoListService {
     }
 
     @Override
-    public ResponseEntity<List<TodoList>> getAllTodos() {
+    public ResponseEntity<List<TodoList>> getAllTodos(Integer page, Integer size) {
         try {
             log.info("inside getAllTodos");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
             }
-            return new ResponseEntity<>(todoListRepo.findAll(), HttpStatus.OK);
+            return new ResponseEntity<>(todoListRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                    HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
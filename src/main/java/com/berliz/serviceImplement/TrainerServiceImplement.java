@@ -11,7 +11,13 @@ import com.berliz.services.TrainerService;
 import com.berliz.utils.BerlizUtilities;
 import com.berliz.utils.EmailUtilities;
 import com.berliz.utils.FileUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.LikeCounterBuffer;
+import com.berliz.utils.ListingCache;
+import com.berliz.utils.MediaStore;
+import com.berliz.utils.PhotoLoader;
 import com.berliz.utils.TrainerUtilities;
+import com.berliz.wrapper.TrainerWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -77,6 +83,9 @@ public class TrainerServiceImplement implements TrainerService {
     @Autowired
     FileUtilities fileUtilities;
 
+    @Autowired
+    MediaStore mediaStore;
+
     @Autowired
     JWTUtility jwtUtility;
 
@@ -95,6 +104,15 @@ public class TrainerServiceImplement implements TrainerService {
     @Autowired
     PhotoRepo photoRepo;
 
+    @Autowired
+    PhotoLoader photoLoader;
+
+    @Autowired
+    ListingCache listingCache;
+
+    @Autowired
+    LikeCounterBuffer likeCounterBuffer;
+
     @Autowired
     StrapiServiceImplement strapiService;
 
@@ -202,16 +220,18 @@ public class TrainerServiceImplement implements TrainerService {
     /**
      * Returns a list of Trainers
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity with a success message or an error message
      */
     @Override
-    public ResponseEntity<List<Trainer>> getAllTrainers() {
+    public ResponseEntity<List<Trainer>> getAllTrainers(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainers");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<Trainer> Trainers = trainerRepo.findAll();
+            List<Trainer> Trainers = trainerRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(Trainers, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -219,6 +239,29 @@ public class TrainerServiceImplement implements TrainerService {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Returns one page of the trainers, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity with the page, or 400 for an invalid cursor.
+     */
+    @Override
+    public ResponseEntity<CursorPage<Trainer>> getTrainersPage(String cursor, Integer limit) {
+        try {
+            log.info("Inside getTrainersPage {} {}", cursor, limit);
+            if (!jwtFilter.isAdmin()) {
+                return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.UNAUTHORIZED);
+            }
+            return KeysetPage.fetch(cursor, limit, trainerRepo::findPage,
+                    (after, pageable) -> trainerRepo.findPageAfter(after.date(), after.id(), pageable),
+                    Trainer::getDate, Trainer::getId);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Deletes a Trainer based on the provided Trainer ID.
      *
@@ -351,10 +394,11 @@ public class TrainerServiceImplement implements TrainerService {
     }
 
     @Override
-    public ResponseEntity<List<Trainer>> getActiveTrainers() {
+    public ResponseEntity<List<TrainerWrapper>> getActiveTrainers() {
         try {
             log.info("Inside getActiveTrainers");
-            List<Trainer> trainers = trainerRepo.getActiveTrainers();
+            List<TrainerWrapper> trainers = listingCache.get(ListingCache.ACTIVE_TRAINERS,
+                    trainerRepo::getActiveTrainerCards);
             return new ResponseEntity<>(trainers, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -385,35 +429,42 @@ public class TrainerServiceImplement implements TrainerService {
                 return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, "Trainer id not found");
             }
 
-            boolean hasLiked = trainerLikeRepo.existsByUserAndTrainer(user, trainer);
+            // an unlike if the user had liked the trainer, a like otherwise
+            boolean hasLiked = likeCounterBuffer.unlike(LikeCounterBuffer.Target.TRAINER, trainer.getId(),
+                    () -> trainerLikeRepo.deleteByUserAndTrainer(user, trainer));
             String responseMessage;
             if (hasLiked) {
                 // dislike trainer
-                trainerLikeRepo.deleteByUserAndTrainer(user, trainer);
-                trainer.setLikes(trainer.getLikes() - 1);
                 responseMessage = "Hello, " + user.getFirstname() + " you have disliked " + trainer.getName() + " profile";
                 String adminNotificationMessage = "Trainer with id: " + trainer.getId() +
                         ", and name: " + trainer.getName() + " has just been disliked by: " + user.getEmail();
                 String notificationMessage = "You have successfully disliked trainer : " + trainer.getName();
                 jwtFilter.sendNotifications("/topic/likeTrainer", adminNotificationMessage,
-                        jwtFilter.getCurrentUser(), notificationMessage, trainer);
+                        jwtFilter.getCurrentUser(), notificationMessage, trainer,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.TRAINER,
+                                trainer.getId(), trainer.getLikes())));
             } else {
                 // like trainer
                 TrainerLike trainerLike = new TrainerLike();
                 trainerLike.setUser(user);
                 trainerLike.setTrainer(trainer);
                 trainerLike.setDate(new Date());
-                trainerLikeRepo.save(trainerLike);
-                trainer.setLikes(trainer.getLikes() + 1);
+                if (!likeCounterBuffer.like(LikeCounterBuffer.Target.TRAINER, trainer.getId(),
+                        () -> trainerLikeRepo.save(trainerLike))) {
+                    // a concurrent request of this user saved the like first
+                    return BerlizUtilities.buildResponse(HttpStatus.OK, "Hello, " + user.getFirstname() +
+                            " you already like " + trainer.getName() + " profile");
+                }
                 responseMessage = "Hello, " + user.getFirstname() + " you just liked " + trainer.getName() + " profile";
                 String adminNotificationMessage = "Trainer with id: " + trainer.getId() +
                         ", and name: " + trainer.getName() + " has just been liked by: " + user.getEmail();
                 String notificationMessage = "You have successfully liked trainer : " + trainer.getName();
                 jwtFilter.sendNotifications("/topic/likeTrainer", adminNotificationMessage,
-                        jwtFilter.getCurrentUser(), notificationMessage, trainer);
+                        jwtFilter.getCurrentUser(), notificationMessage, trainer,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.TRAINER,
+                                trainer.getId(), trainer.getLikes())));
             }
 
-            trainerRepo.save(trainer);
             return BerlizUtilities.buildResponse(HttpStatus.OK, responseMessage);
 
         } catch (Exception ex) {
@@ -425,13 +476,15 @@ public class TrainerServiceImplement implements TrainerService {
     /**
      * Retrieves a list of all trainer likes.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return ResponseEntity containing the list of trainer likes.
      */
     @Override
-    public ResponseEntity<List<TrainerLike>> getTrainerLikes() {
+    public ResponseEntity<List<TrainerLike>> getTrainerLikes(Integer page, Integer size) {
         try {
             log.info("Inside getTrainerLikes");
-            List<TrainerLike> trainerLikes = trainerLikeRepo.findAll();
+            List<TrainerLike> trainerLikes = trainerLikeRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerLikes, HttpStatus.OK);
         } catch (Exception ex) {
             log.error("Something went wrong while performing operation", ex);
@@ -439,6 +492,26 @@ public class TrainerServiceImplement implements TrainerService {
         return new ResponseEntity<>(new ArrayList<>(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Returns one page of the trainer likes, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The page size, 20 by default and at most 100.
+     * @return ResponseEntity with the page, or 400 for an invalid cursor.
+     */
+    @Override
+    public ResponseEntity<CursorPage<TrainerLike>> getTrainerLikesPage(String cursor, Integer limit) {
+        try {
+            log.info("Inside getTrainerLikesPage {} {}", cursor, limit);
+            return KeysetPage.fetch(cursor, limit, trainerLikeRepo::findPage,
+                    (after, pageable) -> trainerLikeRepo.findPageAfter(after.date(), after.id(), pageable),
+                    TrainerLike::getDate, TrainerLike::getId);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new ResponseEntity<>(KeysetPage.empty(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Updates the photo of a trainer.
      *
@@ -477,7 +550,7 @@ public class TrainerServiceImplement implements TrainerService {
                 return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, "Invalid file type");
             }
 
-            trainer.setPhoto(file.getBytes());
+            trainer.setPhoto(mediaStore.storeImage(file));
             trainerRepo.save(trainer);
             String responseMessage;
             if (jwtFilter.isAdmin()) {
@@ -649,17 +722,20 @@ public class TrainerServiceImplement implements TrainerService {
     /**
      * Retrieves the pricing information for trainers.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity<List<TrainerPricing>> containing the list of TrainerPricing objects,
      * indicating the success or failure of the retrieval operation.
      */
     @Override
-    public ResponseEntity<List<TrainerPricing>> getAllTrainerPricing() {
+    public ResponseEntity<List<TrainerPricing>> getAllTrainerPricing(Integer page, Integer size) {
         try {
             log.info("Inside getTrainerPricing");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerPricing> trainerPricing = trainerPricingRepo.findAll();
+            List<TrainerPricing> trainerPricing =
+                    trainerPricingRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerPricing, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -839,8 +915,7 @@ public class TrainerServiceImplement implements TrainerService {
             photoRepo.deleteByOwnerTypeAndOwnerId(BerlizConstants.TRAINER_PHOTO_OWNER, ownerId);
 
             // 5. Upload new photos and save metadata
-            for (MultipartFile file : photoAlbumRequest.getPhotos()) {
-                StrapiPhotoMetadata meta = strapiService.uploadPhoto(file);
+            for (StrapiPhotoMetadata meta : strapiService.uploadMultiplePhotos(photoAlbumRequest.getPhotos())) {
 
                 Photo photo = new Photo();
                 photo.setPhotoUrl(meta.getPhotoUrl());
@@ -929,13 +1004,14 @@ public class TrainerServiceImplement implements TrainerService {
 
 
     @Override
-    public ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums() {
+    public ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainerPhotoAlbums");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerPhotoAlbum> trainerPhotoAlbum = trainerPhotoAlbumRepo.findAll();
+            List<TrainerPhotoAlbum> trainerPhotoAlbum =
+                    trainerPhotoAlbumRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerPhotoAlbum, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -952,12 +1028,15 @@ public class TrainerServiceImplement implements TrainerService {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
             }
 
-            List<TrainerPhotoAlbum> albums = trainerPhotoAlbumRepo.findAll();
+            // one query for the albums and their trainers, one for all their photos
+            List<TrainerPhotoAlbum> albums = trainerPhotoAlbumRepo.findAllWithTrainer();
+            Map<Integer, List<Photo>> photosByAlbum = photoLoader.loadByOwners(BerlizConstants.TRAINER_PHOTO_OWNER,
+                    albums.stream().map(TrainerPhotoAlbum::getId).toList());
             List<TrainerPhotoAlbumResponse> responseList = new ArrayList<>();
 
             for (TrainerPhotoAlbum album : albums) {
-                List<Photo> photos = photoRepo.getPhotosByTrainerPhotoAlbum(album.getId());
-                TrainerPhotoAlbumResponse response = TrainerUtilities.trainerPhotoAlbumResponseWithPhotos(album, photos);
+                TrainerPhotoAlbumResponse response = TrainerUtilities.trainerPhotoAlbumResponseWithPhotos(album,
+                        photosByAlbum.get(album.getId()));
                 responseList.add(response);
             }
 
@@ -1169,13 +1248,14 @@ public class TrainerServiceImplement implements TrainerService {
     }
 
     @Override
-    public ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits() {
+    public ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainerBenefits");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerBenefit> trainerBenefits = trainerBenefitRepo.findAll();
+            List<TrainerBenefit> trainerBenefits =
+                    trainerBenefitRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerBenefits, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1340,13 +1420,14 @@ public class TrainerServiceImplement implements TrainerService {
     }
 
     @Override
-    public ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions() {
+    public ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainerIntroductions");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerIntroduction> trainerIntroductions = trainerIntroductionRepo.findAll();
+            List<TrainerIntroduction> trainerIntroductions =
+                    trainerIntroductionRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerIntroductions, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1523,13 +1604,14 @@ public class TrainerServiceImplement implements TrainerService {
     }
 
     @Override
-    public ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums() {
+    public ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainerVideoAlbums");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerVideoAlbum> trainerVideoAlbums = trainerVideoAlbumRepo.findAll();
+            List<TrainerVideoAlbum> trainerVideoAlbums =
+                    trainerVideoAlbumRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerVideoAlbums, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1758,13 +1840,14 @@ public class TrainerServiceImplement implements TrainerService {
     }
 
     @Override
-    public ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos() {
+    public ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainerFeatureVideos");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerFeatureVideo> trainerFeatureVideos = trainerFeatureVideoRepo.findAll();
+            List<TrainerFeatureVideo> trainerFeatureVideos =
+                    trainerFeatureVideoRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerFeatureVideos, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -1810,12 +1893,12 @@ public class TrainerServiceImplement implements TrainerService {
                 return BerlizUtilities.buildResponse(HttpStatus.BAD_REQUEST, "Trainer review id not found");
             }
 
-            boolean hasLiked = trainerReviewLikeRepo.existsByUserAndTrainerReview(user, trainerReview);
+            // an unlike if the user had liked the review, a like otherwise
+            boolean hasLiked = likeCounterBuffer.unlike(LikeCounterBuffer.Target.TRAINER_REVIEW, trainerReview.getId(),
+                    () -> trainerReviewLikeRepo.deleteByUserAndTrainerReview(user, trainerReview));
             String responseMessage;
             if (hasLiked) {
                 // dislike trainer
-                trainerReviewLikeRepo.deleteByUserAndTrainerReview(user, trainerReview);
-                trainerReview.setLikes(trainerReview.getLikes() - 1);
                 responseMessage = "Hello, " + user.getFirstname() + " you have disliked " +
                         trainerReview.getClient().getUser().getFirstname() + " review on" +
                         trainerReview.getTrainer().getName() + "'s profile";
@@ -1825,15 +1908,22 @@ public class TrainerServiceImplement implements TrainerService {
                 String notificationMessage = "You have successfully disliked a trainer review  : "
                         + trainerReview.getReview();
                 jwtFilter.sendNotifications("/topic/likeTrainerReview", adminNotificationMessage,
-                        jwtFilter.getCurrentUser(), notificationMessage, trainerReview);
+                        jwtFilter.getCurrentUser(), notificationMessage, trainerReview,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.TRAINER_REVIEW,
+                                trainerReview.getId(), trainerReview.getLikes())));
             } else {
                 // like trainer
                 TrainerReviewLike trainerReviewLike = new TrainerReviewLike();
                 trainerReviewLike.setUser(user);
                 trainerReviewLike.setTrainerReview(trainerReview);
                 trainerReviewLike.setDate(new Date());
-                trainerReviewLikeRepo.save(trainerReviewLike);
-                trainerReview.setLikes(trainerReview.getLikes() + 1);
+                if (!likeCounterBuffer.like(LikeCounterBuffer.Target.TRAINER_REVIEW, trainerReview.getId(),
+                        () -> trainerReviewLikeRepo.save(trainerReviewLike))) {
+                    // a concurrent request of this user saved the like first
+                    return BerlizUtilities.buildResponse(HttpStatus.OK, "Hello, " + user.getFirstname() +
+                            " you already like " + trainerReview.getClient().getUser().getFirstname() +
+                            " review on " + trainerReview.getTrainer().getName() + "'s profile");
+                }
                 responseMessage = "Hello, " + user.getFirstname() + " you just liked " +
                         trainerReview.getClient().getUser().getFirstname() + " review on" +
                         trainerReview.getTrainer().getName() + "'s profile";
@@ -1843,10 +1933,11 @@ public class TrainerServiceImplement implements TrainerService {
                 String notificationMessage = "You have successfully liked a trainer review  : "
                         + trainerReview.getReview();
                 jwtFilter.sendNotifications("/topic/likeTrainerReview", adminNotificationMessage,
-                        jwtFilter.getCurrentUser(), notificationMessage, trainerReview);
+                        jwtFilter.getCurrentUser(), notificationMessage, trainerReview,
+                        Map.of("likes", likeCounterBuffer.likes(LikeCounterBuffer.Target.TRAINER_REVIEW,
+                                trainerReview.getId(), trainerReview.getLikes())));
             }
 
-            TrainerReview savedTrainerReview = trainerReviewRepo.save(trainerReview);
             return BerlizUtilities.buildResponse(HttpStatus.OK, responseMessage);
 
         } catch (Exception ex) {
@@ -1857,10 +1948,11 @@ public class TrainerServiceImplement implements TrainerService {
 
 
     @Override
-    public ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes() {
+    public ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes(Integer page, Integer size) {
         try {
             log.info("Inside getTrainerLikes");
-            List<TrainerReviewLike> trainerReviewLikes = trainerReviewLikeRepo.findAll();
+            List<TrainerReviewLike> trainerReviewLikes =
+                    trainerReviewLikeRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerReviewLikes, HttpStatus.OK);
         } catch (Exception ex) {
             log.error("Something went wrong while performing operation", ex);
@@ -2153,13 +2245,14 @@ public class TrainerServiceImplement implements TrainerService {
 
 
     @Override
-    public ResponseEntity<List<TrainerReview>> getAllTrainerReviews() {
+    public ResponseEntity<List<TrainerReview>> getAllTrainerReviews(Integer page, Integer size) {
         try {
             log.info("Inside getAllTrainerReviews");
             if (!jwtFilter.isAdmin()) {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
-            List<TrainerReview> trainerTrainerReviews = trainerReviewRepo.findAll();
+            List<TrainerReview> trainerTrainerReviews =
+                    trainerReviewRepo.findAllBy(KeysetPage.listPage(page, size)).getContent();
             return new ResponseEntity<>(trainerTrainerReviews, HttpStatus.OK);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -2239,7 +2332,7 @@ public class TrainerServiceImplement implements TrainerService {
         }
         user.setRole("trainer");
         userRepo.save(user);
-        byte[] photo = trainerRequest.getPhoto().getBytes();
+        MediaBlob photo = mediaStore.storeImage(trainerRequest.getPhoto());
 
         // Parse tagIds as a comma-separated string
         String categoryIdsString = trainerRequest.getCategoryIds();
@@ -2454,9 +2547,8 @@ public class TrainerServiceImplement implements TrainerService {
         trainerPhotoAlbum.setLastUpdate(new Date());
         trainerPhotoAlbum = trainerPhotoAlbumRepo.save(trainerPhotoAlbum); // get generated ID
 
-        // Upload each photo to Strapi and save its metadata
-        for (MultipartFile file : photoAlbumRequest.getPhotos()) {
-           StrapiPhotoMetadata meta = strapiService.uploadPhoto(file); // extract metadata from Strapi response
+        // Upload the photos to Strapi in parallel and save their metadata, in the order they were sent
+        for (StrapiPhotoMetadata meta : strapiService.uploadMultiplePhotos(photoAlbumRequest.getPhotos())) {
 
             Photo photo = new Photo();
             photo.setPhotoUrl(meta.getPhotoUrl());
@@ -3,19 +3,28 @@ package com.berliz.serviceImplement;
 import com.berliz.DTO.ProfilePhotoRequest;
 import com.berliz.DTO.SignupRequest;
 import com.berliz.JWT.ClientUserDetailsService;
+import com.berliz.JWT.InactiveUserRegistry;
 import com.berliz.JWT.JWTFilter;
 import com.berliz.JWT.JWTUtility;
+import com.berliz.JWT.PasswordHashingExecutor;
+import com.berliz.JWT.TokenCache;
+import com.berliz.JWT.TokenRevocationService;
 import com.berliz.constants.BerlizConstants;
+import com.berliz.models.MediaBlob;
 import com.berliz.models.User;
 import com.berliz.repositories.UserRepo;
 import com.berliz.services.UserService;
 import com.berliz.utils.EmailUtilities;
 import com.berliz.utils.FileUtilities;
+import com.berliz.utils.KeysetPage;
+import com.berliz.utils.MediaStore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +40,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Service
@@ -60,9 +70,24 @@ public class UserServiceImplement implements UserService {
     @Autowired
     FileUtilities fileUtilities;
 
+    @Autowired
+    MediaStore mediaStore;
+
     @Autowired
     SimpMessagingTemplate simpMessagingTemplate;
 
+    @Autowired
+    TokenCache tokenCache;
+
+    @Autowired
+    InactiveUserRegistry inactiveUserRegistry;
+
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    PasswordHashingExecutor passwordHashingExecutor;
+
     /**
      * Process a user's signup request by creating a new user account if the email is not already registered.
      *
@@ -137,6 +162,7 @@ public class UserServiceImplement implements UserService {
                 user.setToken("");
                 user.setStatus("true");
                 userRepo.save(user);
+                inactiveUserRegistry.markActive(user.getId());
                 emailUtilities.sendStatusMailToUser("true", "User", user.getEmail());
                 String adminNotificationMessage = "User with id: " + user.getId() +
                         ", account has been activated  for " + user.getEmail();
@@ -167,17 +193,16 @@ public class UserServiceImplement implements UserService {
             User user = userRepo.findByEmail(requestMap.get("email"));
             if (user != null) {
                 try {
-                    Authentication auth = authenticationManager.authenticate(
-                            new UsernamePasswordAuthenticationToken(requestMap.get("email"),
-                                    requestMap.get("password"))
-                    );
+                    Authentication auth = passwordHashingExecutor.execute(() ->
+                            authenticationManager.authenticate(
+                                    new UsernamePasswordAuthenticationToken(requestMap.get("email"),
+                                            requestMap.get("password"))
+                            ));
                     if (auth.isAuthenticated()) {
-                        User userDetails = clientUserDetailsService.getUserDetails();
-
-                        if (userDetails.getStatus().equalsIgnoreCase("true")) {
+                        if (user.getStatus().equalsIgnoreCase("true")) {
                             String refreshToken = jwtUtility.generateRefreshToken(
-                                    userDetails.getEmail(), userDetails.getId());
-                            String accessToken = jwtUtility.generateAccessToken(refreshToken);
+                                    user.getEmail(), user.getId());
+                            String accessToken = jwtUtility.generateAccessToken(user);
 
                             Map<String, String> responseBody = new HashMap<>();
                             responseBody.put("refresh_token", refreshToken);
@@ -200,6 +225,14 @@ public class UserServiceImplement implements UserService {
                 } catch (BadCredentialsException ex) {
                     ex.printStackTrace();
                     return buildResponse(HttpStatus.BAD_REQUEST, "Incorrect password");
+                } catch (RejectedExecutionException ex) {
+                    log.warn("Login rejected, password hashing pool is saturated");
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER,
+                                    String.valueOf(passwordHashingExecutor.retryAfterSeconds()))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(new ObjectMapper().writeValueAsString(
+                                    Map.of("message", "Too many login attempts right now. Please try again shortly")));
                 }
             } else {
                 return buildResponse(HttpStatus.BAD_REQUEST, "Incorrect username");
@@ -213,15 +246,18 @@ public class UserServiceImplement implements UserService {
     /**
      * Retrieve a list of all users. This method is accessible only to administrators.
      *
+     * @param page The page of the list, 0 by default.
+     * @param size The page size, 500 by default and at most.
      * @return A ResponseEntity containing a List of User objects representing all users in the system on success,
      * or an empty list with HTTP status UNAUTHORIZED if the requesting user is not an administrator,
      * or an empty list with HTTP status INTERNAL_SERVER_ERROR if an error occurs.
      */
     @Override
-    public ResponseEntity<List<User>> getAllUsers() {
+    public ResponseEntity<List<User>> getAllUsers(Integer page, Integer size) {
         try {
             if (jwtFilter.isAdmin()) {
-                return new ResponseEntity<>(userRepo.findAll(), HttpStatus.OK);
+                return new ResponseEntity<>(userRepo.findAllBy(KeysetPage.listPage(page, size)).getContent(),
+                        HttpStatus.OK);
             } else {
                 return new ResponseEntity<>(new ArrayList<>(), HttpStatus.UNAUTHORIZED);
             }
@@ -271,7 +307,7 @@ public class UserServiceImplement implements UserService {
             user.setCity("");
             user.setAddress("");
             user.setPostalCode(0);
-            user.setProfilePhoto(new byte[0]);
+            user.setProfilePhoto(mediaStore.store(new byte[0], null));
             user.setEmail(requestMap.get("email"));
             user.setDate(new Date());
             user.setLastUpdate(new Date());
@@ -349,6 +385,7 @@ public class UserServiceImplement implements UserService {
             }
 
             user.setPassword(passwordEncoder.encode(password));
+            tokenRevocationService.revokeUser(user.getId(), user.getEmail());
             emailUtilities.sendPasswordForceChanged(user.getEmail(), password);
             String adminNotificationMessage = "User with id: " + user.getId() + ", and email " + user.getEmail() +
                     ", account password has been forced changed";
@@ -383,6 +420,9 @@ public class UserServiceImplement implements UserService {
             log.info("Inside deactivateAccount {}", jwtFilter.getCurrentUserEmail());
             user.setStatus("false");
             userRepo.save(user);
+            tokenCache.evictUser(user.getEmail());
+            inactiveUserRegistry.markInactive(user.getId());
+            tokenRevocationService.revokeUser(user.getId(), user.getEmail());
             emailUtilities.sendStatusMailToUser("false", "User", user.getEmail());
             String adminNotificationMessage = "User with id: " + user.getId() +
                     ", account has been deactivated  for " + user.getEmail();
@@ -442,6 +482,12 @@ public class UserServiceImplement implements UserService {
 
             user.setStatus(status);
             userRepo.save(user);
+            tokenCache.evictUser(user.getEmail());
+            if (status.equalsIgnoreCase("true")) {
+                inactiveUserRegistry.markActive(user.getId());
+            } else {
+                inactiveUserRegistry.markInactive(user.getId());
+            }
             emailUtilities.sendStatusMailToAdmins(status, optional.get().getEmail(), userRepo.getAllAdminsMail(), "User");
             emailUtilities.sendStatusMailToUser(status, "User", optional.get().getEmail());
             String adminNotificationMessage = "User with id: " + user.getId() + ", and email: " + user.getEmail() +
@@ -490,6 +536,7 @@ public class UserServiceImplement implements UserService {
             User user = optional.get();
             user.setRole(role);
             userRepo.save(user);
+            tokenCache.evictUser(user.getEmail());
             emailUtilities.sendRoleMailToAdmins(role, user.getEmail(), userRepo.getAllAdminsMail());
             emailUtilities.sendRoleMailToUser(role, user.getEmail());
             String adminNotificationMessage = "User with id: " + user.getId() +
@@ -540,6 +587,9 @@ public class UserServiceImplement implements UserService {
             log.info("inside optional {}", optional);
             User user = optional.get();
             userRepo.delete(user);
+            tokenCache.evictUser(user.getEmail());
+            inactiveUserRegistry.markDeleted(user.getId());
+            tokenRevocationService.revokeUser(user.getId(), user.getEmail());
             emailUtilities.sendAccountDeletedMail(optional.get().getEmail(), userRepo.getAllAdminsMail());
             String adminNotificationMessage = "User with id: " + user.getId() + ", and email " + user.getEmail() +
                     ", account has been deleted";
@@ -591,8 +641,10 @@ public class UserServiceImplement implements UserService {
     public ResponseEntity<String> refreshToken(Map<String, String> requestMap) throws JsonProcessingException {
         log.info("Inside refreshToken {}", requestMap);
         String refreshToken = requestMap.get("token");
-        String username = jwtUtility.extractUsername(refreshToken);
-        Integer id = jwtUtility.extractUserId(refreshToken);
+        // decode and verify the token once, then work from its claims
+        Claims refreshClaims = jwtUtility.extractAllClaims(refreshToken);
+        String username = refreshClaims.getSubject();
+        Integer id = jwtUtility.extractUserId(refreshClaims);
         UserDetails userDetails = clientUserDetailsService.loadUserByUsername(username);
 
         try {
@@ -600,11 +652,13 @@ public class UserServiceImplement implements UserService {
                 return buildResponse(HttpStatus.BAD_REQUEST, "Refresh token is required.");
             }
 
-            if (!jwtUtility.isValidToken(refreshToken, userDetails)) {
+            if (!jwtUtility.isValidToken(refreshClaims, userDetails)
+                    || tokenRevocationService.isRevoked(refreshToken, refreshClaims)) {
                 return buildResponse(HttpStatus.UNAUTHORIZED, "Refresh token is invalid");
             }
 
-            String newAccessToken = jwtUtility.generateAccessToken(refreshToken);
+            User user = userRepo.findByEmail(username);
+            String newAccessToken = jwtUtility.generateAccessToken(user);
             String newRefreshToken = jwtUtility.generateRefreshToken(username, id);
 
             Map<String, String> responseBody = new HashMap<>();
@@ -624,6 +678,40 @@ public class UserServiceImplement implements UserService {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, BerlizConstants.SOMETHING_WENT_WRONG);
     }
 
+    /**
+     * Log out by revoking the access token of the current request and, if given, the refresh token.
+     *
+     * @param authorization The Authorization header of the request, with the "Bearer " prefix.
+     * @param requestMap    An optional map containing the "refresh_token" to revoke.
+     * @return A ResponseEntity indicating the result of the logout.
+     * @throws JsonProcessingException If there is an issue processing JSON data.
+     */
+    @Override
+    public ResponseEntity<String> logout(String authorization, Map<String, String> requestMap) throws JsonProcessingException {
+        try {
+            log.info("Inside logout {}", jwtFilter.getCurrentUserEmail());
+            if (authorization == null || !authorization.startsWith("Bearer ")) {
+                return buildResponse(HttpStatus.BAD_REQUEST, BerlizConstants.INVALID_DATA);
+            }
+
+            String accessToken = authorization.substring(7);
+            tokenRevocationService.revokeToken(accessToken, jwtUtility.extractAllClaims(accessToken));
+
+            String refreshToken = requestMap != null ? requestMap.get("refresh_token") : null;
+            if (refreshToken != null && !refreshToken.isEmpty()) {
+                Claims refreshClaims = jwtUtility.extractAllClaims(refreshToken);
+                if (!refreshClaims.getSubject().equalsIgnoreCase(jwtFilter.getCurrentUserEmail())) {
+                    return buildResponse(HttpStatus.UNAUTHORIZED, BerlizConstants.UNAUTHORIZED_REQUEST);
+                }
+                tokenRevocationService.revokeToken(refreshToken, refreshClaims);
+            }
+            return buildResponse(HttpStatus.OK, "Logged out successfully");
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, BerlizConstants.SOMETHING_WENT_WRONG);
+    }
+
     @Override
     public ResponseEntity<String> updateBio(Map<String, String> requestMap) throws JsonProcessingException {
         try {
@@ -765,6 +853,7 @@ public class UserServiceImplement implements UserService {
 
             user.setPassword(passwordEncoder.encode(requestMap.get("newPassword")));
             userRepo.save(user);
+            tokenRevocationService.revokeUser(user.getId(), user.getEmail());
             String adminNotificationMessage = "User with id: " + user.getId() + ", and email " + user.getEmail() +
                     ", account password has been changed";
             String notificationMessage = "Your account password has been changed : " + user.getEmail();
@@ -1025,7 +1114,7 @@ public class UserServiceImplement implements UserService {
             }
 
             User user = optional.get();
-            user.setProfilePhoto(file.getBytes());
+            user.setProfilePhoto(mediaStore.storeImage(file));
             userRepo.save(user);
             String adminNotificationMessage = "User with id: " + user.getId() + ", and email " + user.getEmail() +
                     ", profile photo has been changed";
@@ -1052,7 +1141,7 @@ public class UserServiceImplement implements UserService {
                 return buildResponse(HttpStatus.UNAUTHORIZED, BerlizConstants.UNAUTHORIZED_REQUEST);
             }
 
-            user.setProfilePhoto(new byte[0]);
+            user.setProfilePhoto(mediaStore.store(new byte[0], null));
             userRepo.save(user);
             String adminNotificationMessage = "User with id: " + user.getId() + ", and email " + user.getEmail() +
                     ", profile photo has been removed";
@@ -1104,7 +1193,7 @@ public class UserServiceImplement implements UserService {
             }
 
             String responseMessage;
-            user.setProfilePhoto(file.getBytes());
+            user.setProfilePhoto(mediaStore.storeImage(file));
             userRepo.save(user);
 
             if (jwtFilter.isAdmin()) {
@@ -1132,7 +1221,7 @@ public class UserServiceImplement implements UserService {
      */
     private void getUserFromMap(SignupRequest request) throws IOException {
         User user = new User();
-        byte[] image = request.getProfilePhoto().getBytes();
+        MediaBlob image = mediaStore.storeImage(request.getProfilePhoto());
 
         user.setFirstname(request.getFirstname());
         user.setLastname(request.getLastname());
@@ -0,0 +1,265 @@
+package com.berliz.serviceImplement;
+
+import com.berliz.JWT.AuthenticatedUser;
+import com.berliz.constants.BerlizConstants;
+import com.berliz.services.VideoService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams videos from disk with HTTP range support, so seeking only fetches the part being watched.
+ * <p>
+ * The range is copied from the file to the response on the MVC async executor, not on the request thread. It goes
+ * through a heap buffer, as the servlet output stream is not a channel the file can be sent to. A range response
+ * is capped at max-range-bytes, so an open-ended "bytes=0-" from a video element turns into a series of short
+ * requests instead of one connection held for the whole video. Each user, or each IP address when anonymous, gets
+ * at most max-streams-per-user concurrent streams; a stream's slot is returned when its request ends, whether or
+ * not the body ran. The video routes are public but still authenticate a bearer token when one is sent (see
+ * {@link com.berliz.JWT.PublicRoutes}), so a signed-in user is counted on their own, not with everyone behind the
+ * same IP address.
+ */
+@Slf4j
+@Service
+public class VideoServiceImplement implements VideoService {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.video.max-streams-per-user:4}")
+    private int maxStreamsPerUser;
+
+    @Value("${berliz.video.max-range-bytes:2097152}")
+    private long maxRangeBytes;
+
+    // source name in the URL -> folder the upload code writes to (file name appended as is)
+    final Map<String, String> locations = new HashMap<>();
+
+    private final Cache<String, Semaphore> streams = CacheBuilder.newBuilder()
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    private Counter rejected;
+
+    private DistributionSummary bytesSent;
+
+    @PostConstruct
+    public void init() {
+        locations.put(BerlizConstants.VIDEO_SOURCE_FEATURE, BerlizConstants.TRAINER_FEATURE_VIDEO_LOCATION);
+        locations.put(BerlizConstants.VIDEO_SOURCE_TRAINER_ALBUM, BerlizConstants.TRAINER_VIDEO_ALBUM_LOCATION);
+        locations.put(BerlizConstants.VIDEO_SOURCE_CENTER_ALBUM, BerlizConstants.CENTER_VIDEO_ALBUM_LOCATION);
+        rejected = meterRegistry.counter("berliz.video.streams.rejected");
+        bytesSent = DistributionSummary.builder("berliz.video.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stream a video, or the requested range of it.
+     *
+     * @param source     feature, trainerAlbum or centerAlbum.
+     * @param name       The file name, as stored on the album or feature video.
+     * @param webRequest The request, for its Range, If-Range and conditional headers.
+     * @return 206 with the range, 200 with the whole file, 304, 404, 416, or 429 when the caller already
+     * has too many streams open.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamVideo(String source, String name, NativeWebRequest webRequest)
+            throws IOException {
+        Path file = resolve(source, name);
+        if (file == null || !Files.isRegularFile(file)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+
+        ResponseEntity.BodyBuilder response;
+        long start = 0;
+        long count = length;
+        String rangeHeader = webRequest.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(webRequest.getHeader(HttpHeaders.IF_RANGE),
+                eTag, lastModified)) {
+            try {
+                // a video element never asks for several ranges at once, only the first one is served
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                start = ranges.get(0).getRangeStart(length);
+                if (start >= length) {
+                    throw new IllegalArgumentException("Range starts past the end of the file");
+                }
+                long end = Math.min(ranges.get(0).getRangeEnd(length), start + maxRangeBytes - 1);
+                count = end - start + 1;
+                response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                        .build();
+            }
+        } else {
+            response = ResponseEntity.ok();
+        }
+
+        Semaphore permits = permits(clientKey(webRequest));
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+        StreamPermit permit = new StreamPermit(permits);
+        releaseWhenTheRequestEnds(webRequest, permit);
+
+        long position = start;
+        long total = count;
+        StreamingResponseBody body = outputStream -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long sent = 0;
+                while (sent < total) {
+                    long transferred = channel.transferTo(position + sent, total - sent, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    sent += transferred;
+                }
+                bytesSent.record(sent);
+            } finally {
+                permit.release();
+            }
+        };
+
+        return response
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaTypeFactory.getMediaType(name).orElse(MediaType.valueOf("video/mp4")))
+                .contentLength(count)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(CACHE_CONTROL)
+                .body(body);
+    }
+
+    /**
+     * Resolve a video file the way the upload code names it, refusing anything that is not a plain name.
+     */
+    private Path resolve(String source, String name) {
+        String location = locations.get(source);
+        if (location == null || name == null || name.isEmpty() || name.contains("..")
+                || name.contains("/") || name.contains("\\")) {
+            return null;
+        }
+        return Paths.get(location + name);
+    }
+
+    // a range request whose If-Range no longer matches gets the whole, current file
+    private static boolean ifRangeMatches(String ifRange, String eTag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            long date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return date / 1000 == lastModified / 1000;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Return the permit even if the body never runs: when the async request times out, fails or the client goes
+     * away before the body is dispatched, or when the request ends without going async at all.
+     */
+    private static void releaseWhenTheRequestEnds(NativeWebRequest webRequest, StreamPermit permit) {
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.registerCallableInterceptor(StreamPermit.class.getName(), new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                permit.release();
+            }
+        });
+        webRequest.registerDestructionCallback(StreamPermit.class.getName(), () -> {
+            if (!asyncManager.isConcurrentHandlingStarted()) {
+                permit.release();
+            }
+        }, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * A stream slot of one client, returned once however many of the body, the async completion and the end of
+     * the request release it.
+     */
+    private static final class StreamPermit {
+
+        private final Semaphore permits;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        StreamPermit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private Semaphore permits(String clientKey) {
+        try {
+            return streams.get(clientKey, () -> new Semaphore(maxStreamsPerUser));
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String clientKey(NativeWebRequest webRequest) {
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        if (currentUser != null && currentUser.getId() != null) {
+            return "u:" + currentUser.getId();
+        }
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        return "ip:" + (request == null ? "unknown" : request.getRemoteAddr());
+    }
+}
@@ -9,7 +9,7 @@ import java.util.Map;
 public interface BrandService {
     ResponseEntity<String> addBrand(Map<String, String> requestMap);
 
-    ResponseEntity<List<Brand>> getAllBrands(String filterValue);
+    ResponseEntity<List<Brand>> getAllBrands(String filterValue, Integer page, Integer size);
 
     ResponseEntity<String> updateBrand(Map<String, String> requestMap);
 
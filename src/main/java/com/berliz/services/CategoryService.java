@@ -10,7 +10,7 @@ import java.util.Map;
 public interface CategoryService {
     ResponseEntity<String> addCategory(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Category>> getCategories();
+    ResponseEntity<List<Category>> getCategories(Integer page, Integer size);
 
     ResponseEntity<List<Category>> getActiveCategories();
 
@@ -2,6 +2,7 @@ package com.berliz.services;
 
 import com.berliz.DTO.*;
 import com.berliz.models.*;
+import com.berliz.wrapper.CenterWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,7 +17,9 @@ public interface CenterService {
 
     ResponseEntity<String> addCenter(CenterRequest centerRequest) throws JsonProcessingException;
 
-    ResponseEntity<List<Center>> getAllCenters();
+    ResponseEntity<List<Center>> getAllCenters(Integer page, Integer size);
+
+    ResponseEntity<CursorPage<Center>> getCentersPage(String cursor, Integer limit);
 
     ResponseEntity<String> updateCenter(Map<String, String> requestMap) throws JsonProcessingException;
 
@@ -32,11 +35,11 @@ public interface CenterService {
 
     ResponseEntity<String> likeCenter(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterLike>> getCenterLikes();
+    ResponseEntity<List<CenterLike>> getCenterLikes(Integer page, Integer size);
 
     ResponseEntity<String> updatePhoto(CenterRequest centerRequest) throws JsonProcessingException;
 
-    ResponseEntity<List<Center>> getActiveCenters();
+    ResponseEntity<List<CenterWrapper>> getActiveCenters();
 
     ResponseEntity<String> addCenterAnnouncement(AnnouncementRequest announcementRequest) throws JsonProcessingException;
 
@@ -46,7 +49,7 @@ public interface CenterService {
 
     ResponseEntity<String> updateCenterAnnouncementStatus(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements();
+    ResponseEntity<List<CenterAnnouncement>> getAllCenterAnnouncements(Integer page, Integer size);
 
     ResponseEntity<List<CenterAnnouncement>> getMyCenterAnnouncements();
 
@@ -58,7 +61,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterEquipment(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterEquipment>> getAllCenterEquipments();
+    ResponseEntity<List<CenterEquipment>> getAllCenterEquipments(Integer page, Integer size);
 
     ResponseEntity<List<CenterEquipment>> getMyCenterEquipments();
 
@@ -68,7 +71,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterIntroduction(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions();
+    ResponseEntity<List<CenterIntroduction>> getAllCenterIntroductions(Integer page, Integer size);
 
     ResponseEntity<List<CenterIntroduction>> getMyCenterIntroductions();
 
@@ -78,7 +81,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterLocation(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterLocation>> getAllCenterLocations();
+    ResponseEntity<List<CenterLocation>> getAllCenterLocations(Integer page, Integer size);
 
     ResponseEntity<List<CenterLocation>> getMyCenterLocations();
 
@@ -88,7 +91,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterPhotoAlbum(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums();
+    ResponseEntity<List<CenterPhotoAlbum>> getAllCenterPhotoAlbums(Integer page, Integer size);
 
     ResponseEntity<List<CenterPhotoAlbum>> getMyCenterPhotoAlbums();
 
@@ -98,7 +101,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterPricing(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterPricing>> getAllCenterPricing();
+    ResponseEntity<List<CenterPricing>> getAllCenterPricing(Integer page, Integer size);
 
     ResponseEntity<CenterPricing> getMyCenterPricing();
 
@@ -108,7 +111,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterTrainer(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterTrainer>> getAllCenterTrainers();
+    ResponseEntity<List<CenterTrainer>> getAllCenterTrainers(Integer page, Integer size);
 
     ResponseEntity<List<CenterTrainer>> getMyCenterTrainers();
 
@@ -118,7 +121,7 @@ public interface CenterService {
 
     ResponseEntity<String> deleteCenterVideoAlbum(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums();
+    ResponseEntity<List<CenterVideoAlbum>> getAllCenterVideoAlbums(Integer page, Integer size);
 
     ResponseEntity<List<CenterVideoAlbum>> getMyCenterVideoAlbums();
 
@@ -135,7 +138,7 @@ public interface CenterService {
 
     ResponseEntity<List<CenterReview>> getMyCenterReviews();
 
-    ResponseEntity<List<CenterReview>> getAllCenterReviews();
+    ResponseEntity<List<CenterReview>> getAllCenterReviews(Integer page, Integer size);
 
     ResponseEntity<List<CenterReview>> getActiveCenterReviews(Integer id);
 }
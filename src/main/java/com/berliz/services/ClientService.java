@@ -11,7 +11,7 @@ import java.util.Map;
 public interface ClientService {
     ResponseEntity<String> addClient(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Client>> getAllClients();
+    ResponseEntity<List<Client>> getAllClients(Integer page, Integer size);
 
     ResponseEntity<List<Client>> getActiveClients();
 
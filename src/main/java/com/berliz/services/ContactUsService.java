@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.Map;
 
 public interface ContactUsService {
-    ResponseEntity<List<ContactUs>> getAllContactUs();
+    ResponseEntity<List<ContactUs>> getAllContactUs(Integer page, Integer size);
 
     ResponseEntity<String> addContactUs(Map<String, String> requestMap) throws JsonProcessingException;
 
@@ -23,5 +23,5 @@ public interface ContactUsService {
 
     ResponseEntity<String> reviewContactUs(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<ContactUsMessage>> getContactUsMessages();
+    ResponseEntity<List<ContactUsMessage>> getContactUsMessages(Integer page, Integer size);
 }
@@ -9,7 +9,7 @@ import java.util.Map;
 public interface DriverService {
     ResponseEntity<String> addDriver(Map<String, String> requestMap);
 
-    ResponseEntity<List<Driver>> getAllDrivers();
+    ResponseEntity<List<Driver>> getAllDrivers(Integer page, Integer size);
 
     ResponseEntity<String> updateDriver(Map<String, String> requestMap);
 
@@ -13,7 +13,7 @@ import java.util.Map;
 public interface ExerciseService {
     public ResponseEntity<String> addExercise(ExerciseRequest exerciseRequest) throws JsonProcessingException;
 
-    public ResponseEntity<List<Exercise>> getAllExercises();
+    public ResponseEntity<List<Exercise>> getAllExercises(Integer page, Integer size);
 
     public ResponseEntity<List<Exercise>> getActiveExercises();
 
@@ -0,0 +1,9 @@
+package com.berliz.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+public interface MediaService {
+
+    ResponseEntity<byte[]> getMedia(String hash, String size, WebRequest webRequest);
+}
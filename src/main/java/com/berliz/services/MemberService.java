@@ -12,7 +12,7 @@ import java.util.Map;
 public interface MemberService {
     public ResponseEntity<String> addMember(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Member>> getAllMembers();
+    ResponseEntity<List<Member>> getAllMembers(Integer page, Integer size);
 
     ResponseEntity<List<Member>> getActiveMembers();
 
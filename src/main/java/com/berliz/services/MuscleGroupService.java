@@ -12,7 +12,7 @@ import java.util.Map;
 public interface MuscleGroupService {
     ResponseEntity<String> addMuscleGroup(MuscleGroupRequest muscleGroupRequest) throws JsonProcessingException;
 
-    ResponseEntity<List<MuscleGroup>> getAllMuscleGroups();
+    ResponseEntity<List<MuscleGroup>> getAllMuscleGroups(Integer page, Integer size);
 
     ResponseEntity<List<MuscleGroup>> getActiveMuscleGroups();
 
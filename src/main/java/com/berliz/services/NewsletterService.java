@@ -13,7 +13,7 @@ public interface NewsletterService {
 
     ResponseEntity<String> addNewsletter(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Newsletter>> getAllNewsletters(String filterValue);
+    ResponseEntity<List<Newsletter>> getAllNewsletters(String filterValue, Integer page, Integer size);
 
     ResponseEntity<?> getNewsletter(Integer id);
 
@@ -27,5 +27,5 @@ public interface NewsletterService {
 
     ResponseEntity<List<Newsletter>> getActiveNewsletters();
 
-    ResponseEntity<List<NewsletterMessage>> getNewsletterMessages();
+    ResponseEntity<List<NewsletterMessage>> getNewsletterMessages(Integer page, Integer size);
 }
@@ -1,5 +1,6 @@
 package com.berliz.services;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Notification;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.ResponseEntity;
@@ -10,10 +11,14 @@ import java.util.Map;
 public interface NotificationService {
     ResponseEntity<String> addNotification(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Notification>> getAllNotifications();
+    ResponseEntity<List<Notification>> getAllNotifications(Integer page, Integer size);
 
     ResponseEntity<List<Notification>> getMyNotifications();
 
+    ResponseEntity<CursorPage<Notification>> getInbox(String cursor, Integer limit, Boolean unreadOnly);
+
+    ResponseEntity<Map<String, Integer>> getUnreadCount();
+
     ResponseEntity<String> bulkAction(Map<String, String> requestMap) throws JsonProcessingException;
 
     ResponseEntity<String> deleteNotification(Integer id) throws JsonProcessingException;
@@ -1,5 +1,6 @@
 package com.berliz.services;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Order;
 import org.springframework.http.ResponseEntity;
 
@@ -24,7 +25,16 @@ public interface OrderService {
      *
      * @return ResponseEntity containing the list of all orders.
      */
-    ResponseEntity<List<Order>> getAllOrders();
+    ResponseEntity<List<Order>> getAllOrders(Integer page, Integer size);
+
+    /**
+     * Get one page of the orders, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or empty for the first page.
+     * @param limit  The page size.
+     * @return ResponseEntity containing the page of orders.
+     */
+    ResponseEntity<CursorPage<Order>> getOrdersPage(String cursor, Integer limit);
 
     /**
      * Updates the details of an order based on the provided request map.
@@ -16,7 +16,7 @@ public interface PartnerService {
     ResponseEntity<String> updatePartner(Map<String, String> requestMap) throws JsonProcessingException;
 
     // Get a list of all partners
-    ResponseEntity<List<Partner>> getAllPartners();
+    ResponseEntity<List<Partner>> getAllPartners(Integer page, Integer size);
 
     // Update an existing partner's details using the provided requestMap
     ResponseEntity<String> updateFile(PartnerRequest request) throws JsonProcessingException;
@@ -34,4 +34,7 @@ public interface PartnerService {
     ResponseEntity<String> rejectApplication(Integer id) throws JsonProcessingException;
 
     ResponseEntity<List<Partner>> getActivePartners();
+
+    // Get a partner's CV or certificate, for the partner or an admin
+    ResponseEntity<byte[]> getDocument(Integer id, String document);
 }
@@ -11,7 +11,7 @@ import java.util.Map;
 public interface PaymentService {
     public ResponseEntity<String> addPayment(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Payment>> getAllPayments();
+    ResponseEntity<List<Payment>> getAllPayments(Integer page, Integer size);
 
     ResponseEntity<List<Payment>> getActivePayments();
 
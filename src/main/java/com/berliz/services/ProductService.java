@@ -1,5 +1,6 @@
 package com.berliz.services;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Product;
 import com.berliz.wrapper.ProductWrapper;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +11,9 @@ import java.util.Map;
 public interface ProductService {
     ResponseEntity<String> addProduct(Map<String, String> requestMap);
 
-    ResponseEntity<List<Product>> getAllProducts();
+    ResponseEntity<List<Product>> getAllProducts(Integer page, Integer size);
+
+    ResponseEntity<CursorPage<Product>> getProductsPage(String cursor, Integer limit);
 
     ResponseEntity<String> updateProduct(Map<String, String> requestMap);
 
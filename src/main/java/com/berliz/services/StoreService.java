@@ -1,5 +1,6 @@
 package com.berliz.services;
 
+import com.berliz.DTO.CursorPage;
 import com.berliz.models.Store;
 import org.springframework.http.ResponseEntity;
 
@@ -64,7 +65,16 @@ public interface StoreService {
      *
      * @return ResponseEntity containing the list of all stores.
      */
-    ResponseEntity<List<Store>> getAllStores();
+    ResponseEntity<List<Store>> getAllStores(Integer page, Integer size);
+
+    /**
+     * Get one page of the stores, newest first.
+     *
+     * @param cursor The nextCursor of the previous page, or empty for the first page.
+     * @param limit  The page size.
+     * @return ResponseEntity containing the page of stores.
+     */
+    ResponseEntity<CursorPage<Store>> getStoresPage(String cursor, Integer limit);
 
     /**
      * Add a new store based on the provided request map.
@@ -10,7 +10,7 @@ import java.util.Map;
 public interface SubscriptionService {
     public ResponseEntity<String> addSubscription(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Subscription>> getAllSubscriptions();
+    ResponseEntity<List<Subscription>> getAllSubscriptions(Integer page, Integer size);
 
     ResponseEntity<List<Subscription>> getActiveSubscriptions();
 
@@ -13,11 +13,11 @@ public interface TaskService {
 
     ResponseEntity<String> addSubTask(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Task>> getAllTasks();
+    ResponseEntity<List<Task>> getAllTasks(Integer page, Integer size);
 
-    ResponseEntity<List<SubTask>> getAllSubTasks();
+    ResponseEntity<List<SubTask>> getAllSubTasks(Integer page, Integer size);
 
-    ResponseEntity<List<Task>> getActiveTasks();
+    ResponseEntity<List<Task>> getActiveTasks(Integer page, Integer size);
 
     ResponseEntity<Task> getTask(Integer id);
 
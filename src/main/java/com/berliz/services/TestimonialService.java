@@ -10,9 +10,9 @@ import java.util.Map;
 public interface TestimonialService {
     ResponseEntity<String> addTestimonial(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<Testimonial>> getAllTestimonials();
+    ResponseEntity<List<Testimonial>> getAllTestimonials(Integer page, Integer size);
 
-    ResponseEntity<List<Testimonial>> getActiveTestimonials();
+    ResponseEntity<List<Testimonial>> getActiveTestimonials(Integer page, Integer size);
 
     ResponseEntity<String> updateTestimonial(Map<String, String> requestMap) throws JsonProcessingException;
 
@@ -11,7 +11,7 @@ import java.util.Map;
 public interface TodoListService {
     ResponseEntity<String> addTodo(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<TodoList>> getAllTodos();
+    ResponseEntity<List<TodoList>> getAllTodos(Integer page, Integer size);
 
     ResponseEntity<List<TodoList>> getMyTodo();
 
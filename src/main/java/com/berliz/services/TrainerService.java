@@ -3,6 +3,7 @@ package com.berliz.services;
 import com.berliz.DTO.*;
 import com.berliz.models.*;
 import com.berliz.models.TrainerReview;
+import com.berliz.wrapper.TrainerWrapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -17,7 +18,9 @@ public interface TrainerService {
 
     ResponseEntity<String> addTrainer(TrainerRequest trainerRequest) throws JsonProcessingException;
 
-    ResponseEntity<List<Trainer>> getAllTrainers();
+    ResponseEntity<List<Trainer>> getAllTrainers(Integer page, Integer size);
+
+    ResponseEntity<CursorPage<Trainer>> getTrainersPage(String cursor, Integer limit);
 
     ResponseEntity<String> updateTrainer(Map<String, String> requestMap) throws JsonProcessingException;
 
@@ -29,17 +32,19 @@ public interface TrainerService {
 
     ResponseEntity<Trainer> getTrainer();
 
-    ResponseEntity<List<Trainer>> getActiveTrainers();
+    ResponseEntity<List<TrainerWrapper>> getActiveTrainers();
 
     ResponseEntity<String> likeTrainer(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerLike>> getTrainerLikes();
+    ResponseEntity<List<TrainerLike>> getTrainerLikes(Integer page, Integer size);
+
+    ResponseEntity<CursorPage<TrainerLike>> getTrainerLikesPage(String cursor, Integer limit);
 
     ResponseEntity<String> addTrainerPricing(Map<String, String> requestMap) throws JsonProcessingException;
 
     ResponseEntity<String> updateTrainerPricing(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerPricing>> getAllTrainerPricing();
+    ResponseEntity<List<TrainerPricing>> getAllTrainerPricing(Integer page, Integer size);
 
     ResponseEntity<TrainerPricing> getMyTrainerPricing();
 
@@ -51,7 +56,7 @@ public interface TrainerService {
 
     ResponseEntity<String> deleteTrainerPhotoAlbum(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums();
+    ResponseEntity<List<TrainerPhotoAlbum>> getAllTrainerPhotoAlbums(Integer page, Integer size);
 
     ResponseEntity<List<TrainerPhotoAlbumResponse>> getAllTrainerPhotoAlbumsWithPhotos();
 
@@ -65,7 +70,7 @@ public interface TrainerService {
 
     ResponseEntity<String> deleteTrainerBenefit(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits();
+    ResponseEntity<List<TrainerBenefit>> getAllTrainerBenefits(Integer page, Integer size);
 
     ResponseEntity<TrainerBenefit> getMyTrainerBenefit();
 
@@ -75,7 +80,7 @@ public interface TrainerService {
 
     ResponseEntity<String> deleteTrainerIntroduction(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions();
+    ResponseEntity<List<TrainerIntroduction>> getAllTrainerIntroductions(Integer page, Integer size);
 
     ResponseEntity<TrainerIntroduction> getMyTrainerIntroduction();
 
@@ -85,11 +90,11 @@ public interface TrainerService {
 
     ResponseEntity<String> deleteTrainerVideoAlbum(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums();
+    ResponseEntity<List<TrainerVideoAlbum>> getAllTrainerVideoAlbums(Integer page, Integer size);
 
     ResponseEntity<List<TrainerVideoAlbum>> getMyTrainerVideoAlbums();
 
-    ResponseEntity<List<TrainerReview>> getAllTrainerReviews();
+    ResponseEntity<List<TrainerReview>> getAllTrainerReviews(Integer page, Integer size);
 
     ResponseEntity<List<TrainerReview>> getActiveTrainerReviews(Integer id);
 
@@ -103,13 +108,13 @@ public interface TrainerService {
 
     ResponseEntity<String> deleteTrainerFeatureVideo(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos();
+    ResponseEntity<List<TrainerFeatureVideo>> getAllTrainerFeatureVideos(Integer page, Integer size);
 
     ResponseEntity<TrainerFeatureVideo> getMyTrainerFeatureVideo();
 
     ResponseEntity<String> likeTrainerReview(Integer id) throws JsonProcessingException;
 
-    ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes();
+    ResponseEntity<List<TrainerReviewLike>> getTrainerReviewLikes(Integer page, Integer size);
 
     ResponseEntity<List<CenterTrainer>> getMyCenterTrainers();
 
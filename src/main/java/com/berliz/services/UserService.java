@@ -19,7 +19,7 @@ public interface UserService {
 
     ResponseEntity<String> login(Map<String, String> requestMap) throws JsonProcessingException;
 
-    ResponseEntity<List<User>> getAllUsers();
+    ResponseEntity<List<User>> getAllUsers(Integer page, Integer size);
 
     ResponseEntity<String> deactivateAccount() throws JsonProcessingException;
 
@@ -53,6 +53,8 @@ public interface UserService {
 
     ResponseEntity<String> refreshToken(Map<String, String> requestMap) throws JsonProcessingException;
 
+    ResponseEntity<String> logout(String authorization, Map<String, String> requestMap) throws JsonProcessingException;
+
     ResponseEntity<String> updateBio(Map<String, String> requestMap) throws JsonProcessingException;
 
     ResponseEntity<String> validateEmail(Map<String, String> requestMap) throws JsonProcessingException;
@@ -0,0 +1,13 @@
+package com.berliz.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+public interface VideoService {
+
+    ResponseEntity<StreamingResponseBody> streamVideo(String source, String name, NativeWebRequest webRequest)
+            throws IOException;
+}
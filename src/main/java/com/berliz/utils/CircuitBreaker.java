@@ -0,0 +1,95 @@
+package com.berliz.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consecutive-failure circuit breaker for calls to a remote service.
+ * <p>
+ * After failureThreshold failures in a row the circuit opens and calls are refused without being made, so a
+ * dead service costs callers nothing instead of a timeout each. Once openNanos have passed a single trial
+ * call is let through; its success closes the circuit again, its failure keeps it open for another period.
+ */
+public class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    // System.nanoTime() at which the circuit opened, or Long.MIN_VALUE while it is closed
+    private final AtomicLong openedAt = new AtomicLong(Long.MIN_VALUE);
+
+    // System.nanoTime() at which the trial call of a half-open circuit started, or Long.MIN_VALUE
+    private final AtomicLong trialStartedAt = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param failureThreshold The number of consecutive failures that opens the circuit.
+     * @param openDuration     How long the circuit stays open before a trial call.
+     * @param unit             The unit of openDuration.
+     */
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        if (failureThreshold <= 0 || openDuration <= 0) {
+            throw new IllegalArgumentException("Failure threshold and open duration must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = unit.toNanos(openDuration);
+    }
+
+    /**
+     * Ask whether a call may be made. Every permitted call must be followed by onSuccess or onFailure.
+     *
+     * @return true if the call may go ahead.
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long now) {
+        long opened = openedAt.get();
+        if (opened == Long.MIN_VALUE) {
+            return true;
+        }
+        if (now - opened < openNanos) {
+            return false;
+        }
+        // half-open: let one caller through; a trial that never reported back is given up after openNanos
+        long trial = trialStartedAt.get();
+        if (trial != Long.MIN_VALUE && now - trial < openNanos) {
+            return false;
+        }
+        return trialStartedAt.compareAndSet(trial, now);
+    }
+
+    public void onSuccess() {
+        failures.set(0);
+        openedAt.set(Long.MIN_VALUE);
+        trialStartedAt.set(Long.MIN_VALUE);
+    }
+
+    public void onFailure() {
+        onFailure(System.nanoTime());
+    }
+
+    void onFailure(long now) {
+        if (openedAt.get() != Long.MIN_VALUE) {
+            // the trial call failed, stay open for another period
+            openedAt.set(now);
+            trialStartedAt.set(Long.MIN_VALUE);
+        } else if (failures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(now);
+        }
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened == Long.MIN_VALUE) {
+            return State.CLOSED;
+        }
+        return System.nanoTime() - opened < openNanos ? State.OPEN : State.HALF_OPEN;
+    }
+}
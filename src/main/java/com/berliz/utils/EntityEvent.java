@@ -0,0 +1,118 @@
+package com.berliz.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact websocket payload describing a change to an entity, sent instead of the entity itself.
+ * <p>
+ * It carries the entity type, the action (the topic name, e.g. "likeTrainer"), the id (or ids for a list),
+ * only the fields the caller reports as changed, and a version that increases with every event so clients
+ * can drop stale updates. Clients that need more than the changed fields fetch the entity by id through
+ * the usual REST endpoint.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EntityEvent {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    // getId() of each entity class, looked up once
+    private static final ClassValue<Method> ID_GETTERS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getId");
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    };
+
+    private final String type;
+
+    private final String action;
+
+    private final Object id;
+
+    private final List<Object> ids;
+
+    private final Map<String, Object> fields;
+
+    private final long version;
+
+    private EntityEvent(String type, String action, Object id, List<Object> ids,
+                        Map<String, Object> fields, long version) {
+        this.type = type;
+        this.action = action;
+        this.id = id;
+        this.ids = ids;
+        this.fields = fields;
+        this.version = version;
+    }
+
+    /**
+     * Describe a change to an entity or a list of entities.
+     *
+     * @param entityEndpoint The topic the change is published to.
+     * @param entityOrList   The changed entity or list of entities.
+     * @param fields         The changed fields to include, or null.
+     * @param version        The event version.
+     * @return The event.
+     */
+    public static EntityEvent of(String entityEndpoint, Object entityOrList, Map<String, Object> fields,
+                                 long version) {
+        String action = entityEndpoint != null && entityEndpoint.startsWith(TOPIC_PREFIX)
+                ? entityEndpoint.substring(TOPIC_PREFIX.length())
+                : entityEndpoint;
+        Map<String, Object> changedFields = fields == null ? Collections.emptyMap() : fields;
+
+        if (entityOrList instanceof Collection<?> entities) {
+            List<Object> ids = new ArrayList<>(entities.size());
+            String type = null;
+            for (Object entity : entities) {
+                type = type == null ? typeOf(entity) : type;
+                ids.add(idOf(entity));
+            }
+            return new EntityEvent(type, action, null, ids, changedFields, version);
+        }
+        return new EntityEvent(typeOf(entityOrList), action, idOf(entityOrList), null, changedFields, version);
+    }
+
+    private static String typeOf(Object entity) {
+        if (entity == null) {
+            return null;
+        }
+        if (entity instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getPersistentClass().getSimpleName();
+        }
+        return entity.getClass().getSimpleName();
+    }
+
+    private static Object idOf(Object entity) {
+        if (entity == null) {
+            return null;
+        }
+        if (entity instanceof HibernateProxy proxy) {
+            // read the id without initializing the proxy
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        Method getter = ID_GETTERS.get(entity.getClass());
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return getter.invoke(entity);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+}
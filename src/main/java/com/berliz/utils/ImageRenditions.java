@@ -0,0 +1,289 @@
+package com.berliz.utils;
+
+import com.berliz.models.MediaBlob;
+import com.berliz.repositories.MediaBlobRepo;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Re-encodes uploaded images into fixed JPEG renditions (thumb, card, full) on a small bounded pool and keeps
+ * them in a disk cache named after the original's hash.
+ * <p>
+ * An upload is decoded once and each rendition is scaled down from the next larger one. A rendition missing
+ * from the cache, e.g. for a photo stored before renditions existed, is scheduled the first time it is
+ * asked for; until it is ready the original is served.
+ */
+@Slf4j
+@Component
+public class ImageRenditions {
+
+    public enum Rendition {
+        FULL(1280), CARD(480), THUMB(160);
+
+        private final int maxEdge;
+
+        Rendition(int maxEdge) {
+            this.maxEdge = maxEdge;
+        }
+
+        public int getMaxEdge() {
+            return maxEdge;
+        }
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Optional<Rendition> of(String key) {
+            for (Rendition rendition : values()) {
+                if (rendition.key().equalsIgnoreCase(key)) {
+                    return Optional.of(rendition);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    // refuse to decode anything larger, a small file can still declare a huge raster
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    @Autowired
+    MediaBlobRepo mediaBlobRepo;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.media.renditions.threads:2}")
+    private int threads;
+
+    @Value("${berliz.media.renditions.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${berliz.media.renditions.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    @Value("${berliz.media.renditions.cache-dir:${java.io.tmpdir}/berliz-renditions}")
+    private String cacheDir;
+
+    private Path cachePath;
+
+    private ThreadPoolExecutor executor;
+
+    // originals being rendered, so concurrent requests for the same photo schedule it once
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    // originals that are not decodable images (documents, videos), so they are not retried on every request
+    private final Cache<String, Boolean> notImages = CacheBuilder.newBuilder().maximumSize(10_000).build();
+
+    private Timer latency;
+
+    private Counter rejected;
+
+    @PostConstruct
+    public void init() throws IOException {
+        cachePath = Paths.get(cacheDir);
+        Files.createDirectories(cachePath);
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-renditions-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("berliz.media.renditions.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        latency = Timer.builder("berliz.media.renditions.latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejected = meterRegistry.counter("berliz.media.renditions.rejected");
+        log.info("Image renditions cached in {} with {} threads", cachePath, threads);
+    }
+
+    /**
+     * Render a freshly uploaded image in the background.
+     *
+     * @param original The stored original, with its content.
+     */
+    public void schedule(MediaBlob original) {
+        byte[] data = original.getData();
+        submit(original.getHash(), () -> data);
+    }
+
+    /**
+     * Find a cached rendition. If it is missing, it is scheduled and empty is returned.
+     *
+     * @param hash      The hash of the original.
+     * @param rendition The rendition.
+     * @return The rendition file, if it is ready.
+     */
+    public Optional<Path> find(String hash, Rendition rendition) {
+        Path path = path(hash, rendition);
+        if (Files.exists(path)) {
+            return Optional.of(path);
+        }
+        if (notImages.getIfPresent(hash) == null) {
+            submit(hash, () -> mediaBlobRepo.findById(hash).map(MediaBlob::getData).orElse(null));
+        }
+        return Optional.empty();
+    }
+
+    private void submit(String hash, Supplier<byte[]> content) {
+        if (!pending.add(hash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    render(hash, content.get());
+                } catch (Exception ex) {
+                    log.warn("Could not render image {}", hash, ex);
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // asked again later, the original is served meanwhile
+            pending.remove(hash);
+            rejected.increment();
+        }
+    }
+
+    /**
+     * Decode the original once and write every rendition to the cache.
+     */
+    void render(String hash, byte[] data) throws IOException {
+        long start = System.nanoTime();
+        BufferedImage image = data == null ? null : decode(data);
+        if (image == null) {
+            notImages.put(hash, Boolean.TRUE);
+            return;
+        }
+        // largest first, each one scaled from the previous
+        for (Rendition rendition : Rendition.values()) {
+            image = scale(image, rendition.getMaxEdge());
+            write(path(hash, rendition), encodeJpeg(image));
+        }
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    Path path(String hash, Rendition rendition) {
+        return cachePath.resolve(hash + "-" + rendition.key() + ".jpg");
+    }
+
+    private static BufferedImage decode(byte[] data) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale an image so its longer edge is at most maxEdge, halving step by step to keep quality with
+     * bilinear filtering. The result is always RGB, transparency is flattened onto white.
+     */
+    static BufferedImage scale(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double factor = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * factor));
+        int targetHeight = Math.max(1, (int) Math.round(height * factor));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    // written next to the target and moved in place, so a reader never sees a partial file
+    private void write(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(cachePath, "rendition-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,121 @@
+package com.berliz.utils;
+
+import com.berliz.DTO.CursorPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Keyset paging on (date, id), newest first, for the list endpoints.
+ * <p>
+ * A page is read as "the next limit rows after the last one the client saw", with an index on (date, id), so
+ * every page costs the same however far the client has scrolled and however big the table is. The cursor is
+ * that last (date, id) pair, url-safe base64 encoded; clients treat it as opaque. Rows without a date have no
+ * place in that order, so the page queries leave them out.
+ * <p>
+ * The plain /get lists are bounded too: they return one page of at most LIST_LIMIT rows, newest id first, and
+ * take page and size parameters to read further. See {@link #listPage(Integer, Integer)}.
+ */
+public final class KeysetPage {
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    public static final int MAX_LIMIT = 100;
+
+    public static final int LIST_LIMIT = 500;
+
+    private KeysetPage() {
+    }
+
+    /**
+     * Position in a list: the (date, id) of the last row of a page.
+     */
+    public record Cursor(Date date, Integer id) {
+
+        public String encode() {
+            String value = date.getTime() + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @return The cursor, or null if it is not one this class encoded.
+         */
+        public static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+                if (parts.length != 2) {
+                    return null;
+                }
+                return new Cursor(new Date(Long.parseLong(parts[0])), Integer.valueOf(parts[1]));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Read one page of a list.
+     *
+     * @param cursor    The cursor from the previous page, or null/empty for the first page.
+     * @param limit     The page size, DEFAULT_LIMIT if null, capped at MAX_LIMIT.
+     * @param firstPage Reads the first rows, newest first.
+     * @param nextPage  Reads the rows after a cursor, in the same order.
+     * @param date      The date of a row.
+     * @param id        The id of a row.
+     * @return 200 with the page, or 400 for a cursor that cannot be decoded.
+     */
+    public static <T> ResponseEntity<CursorPage<T>> fetch(String cursor, Integer limit,
+                                                          Function<Pageable, List<T>> firstPage,
+                                                          BiFunction<Cursor, Pageable, List<T>> nextPage,
+                                                          Function<T, Date> date, Function<T, Integer> id) {
+        int pageSize = Math.min(Math.max(limit == null ? DEFAULT_LIMIT : limit, 1), MAX_LIMIT);
+        // fetch one extra row to know whether there is a next page
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<T> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = firstPage.apply(pageable);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            if (after == null) {
+                return new ResponseEntity<>(empty(), HttpStatus.BAD_REQUEST);
+            }
+            rows = nextPage.apply(after, pageable);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        T last = hasMore ? rows.get(rows.size() - 1) : null;
+        String nextCursor = last == null ? null : new Cursor(date.apply(last), id.apply(last)).encode();
+        return new ResponseEntity<>(new CursorPage<>(rows, nextCursor, hasMore), HttpStatus.OK);
+    }
+
+    /**
+     * The page a plain list endpoint reads, for a repository method returning a Slice, so no count query runs.
+     *
+     * @param page The page number, 0 if null.
+     * @param size The page size, LIST_LIMIT if null, capped at LIST_LIMIT.
+     * @return The page of the list, newest id first.
+     */
+    public static Pageable listPage(Integer page, Integer size) {
+        int pageSize = Math.min(Math.max(size == null ? LIST_LIMIT : size, 1), LIST_LIMIT);
+        int pageNumber = Math.max(page == null ? 0 : page, 0);
+        return PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(new ArrayList<>(), null, false);
+    }
+}
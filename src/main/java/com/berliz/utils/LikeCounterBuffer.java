@@ -0,0 +1,188 @@
+package com.berliz.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Buffers the like count changes of trainers, centers, categories and trainer reviews and writes them in
+ * batches, instead of every like reading the liked row, incrementing it in Java and saving it back.
+ * <p>
+ * A like only adds its +1 or -1 to an in-memory LongAdder for the liked entity, so concurrent likes of the same
+ * trainer neither lose updates nor wait on its row lock. Every flush-ms the pending deltas are written with one
+ * JDBC batch of relative updates (likes = likes + delta) per table, and only then subtracted from the adders:
+ * likes made during a flush stay pending for the next one, and a failed flush is retried as a whole.
+ */
+@Slf4j
+@Component
+public class LikeCounterBuffer {
+
+    public enum Target {
+        TRAINER("UPDATE trainer SET likes = likes + ? WHERE id = ?",
+                ListingCache.ACTIVE_TRAINERS),
+        CENTER("UPDATE center SET likes = likes + ? WHERE id = ?",
+                ListingCache.ACTIVE_CENTERS),
+        CATEGORY("UPDATE category SET likes = COALESCE(likes, 0) + ? WHERE id = ?",
+                ListingCache.ACTIVE_TRAINERS, ListingCache.ACTIVE_CENTERS),
+        TRAINER_REVIEW("UPDATE trainer_review SET likes = COALESCE(likes, 0) + ? WHERE id = ?");
+
+        private final String updateSql;
+
+        // the public listings that show this like count
+        private final String[] listings;
+
+        Target(String updateSql, String... listings) {
+            this.updateSql = updateSql;
+            this.listings = listings;
+        }
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ListingCache listingCache;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    // entries are never removed, an adder dropped while a like still holds it would lose that like
+    private final Map<Target, ConcurrentHashMap<Integer, LongAdder>> pending = new EnumMap<>(Target.class);
+
+    private Counter flushedRows;
+
+    private Counter failedFlushes;
+
+    public LikeCounterBuffer() {
+        for (Target target : Target.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        flushedRows = meterRegistry.counter("berliz.likes.flushed.rows");
+        failedFlushes = meterRegistry.counter("berliz.likes.flush.failed");
+    }
+
+    /**
+     * Record a like (+1) or an unlike (-1).
+     *
+     * @param target The kind of entity liked.
+     * @param id     The id of the entity.
+     * @param delta  The change of its like count.
+     */
+    public void add(Target target, Integer id, int delta) {
+        pending.get(target).computeIfAbsent(id, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * @return The change of the like count of an entity not written to the database yet.
+     */
+    public long pending(Target target, Integer id) {
+        LongAdder adder = pending.get(target).get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Save a like and count it. A user likes an entity at most once: when the unique constraint of the like
+     * table rejects the row, e.g. for two concurrent likes by the same user, the like is not counted again.
+     *
+     * @param target The kind of entity liked.
+     * @param id     The id of the entity.
+     * @param save   Saves the like row.
+     * @return true if the like was saved and counted.
+     */
+    public boolean like(Target target, Integer id, Runnable save) {
+        try {
+            save.run();
+        } catch (DataIntegrityViolationException ex) {
+            log.info("{} {} is already liked by this user", target, id);
+            return false;
+        }
+        add(target, id, 1);
+        return true;
+    }
+
+    /**
+     * Delete a like and count it, if there was one.
+     *
+     * @param target The kind of entity unliked.
+     * @param id     The id of the entity.
+     * @param delete Deletes the like row, returning the number of rows deleted.
+     * @return true if the user had liked the entity.
+     */
+    public boolean unlike(Target target, Integer id, IntSupplier delete) {
+        if (delete.getAsInt() == 0) {
+            return false;
+        }
+        add(target, id, -1);
+        return true;
+    }
+
+    /**
+     * @param stored The like count read from the database with the entity.
+     * @return The like count of an entity, including the changes not written yet.
+     */
+    public int likes(Target target, Integer id, Integer stored) {
+        return (int) ((stored == null ? 0 : stored) + pending(target, id));
+    }
+
+    @Scheduled(fixedDelayString = "${berliz.likes.flush-ms:1000}")
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            List<LongAdder> adders = new ArrayList<>();
+            List<Object[]> rows = new ArrayList<>();
+            pending.get(target).forEach((id, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    adders.add(adder);
+                    rows.add(new Object[]{delta, id});
+                }
+            });
+            if (rows.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(target.updateSql, rows));
+            } catch (Exception ex) {
+                failedFlushes.increment();
+                log.error("Could not write {} {} like counts, keeping them for the next flush",
+                        rows.size(), target, ex);
+                continue;
+            }
+            for (int i = 0; i < adders.size(); i++) {
+                adders.get(i).add(-(long) rows.get(i)[0]);
+            }
+            flushedRows.increment(rows.size());
+            for (String listing : target.listings) {
+                listingCache.invalidate(listing);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
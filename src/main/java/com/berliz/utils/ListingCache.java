@@ -0,0 +1,86 @@
+package com.berliz.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the public listings (active trainers, active centers), so that the listing query runs once per
+ * change instead of on every request.
+ * <p>
+ * A listing is dropped whenever one of its entities is written (see ListingCacheInvalidator); the time to live
+ * only bounds how long a change made outside JPA, e.g. straight in the database, stays invisible.
+ */
+@Slf4j
+@Component
+public class ListingCache {
+
+    public static final String ACTIVE_TRAINERS = "activeTrainers";
+
+    public static final String ACTIVE_CENTERS = "activeCenters";
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.listing.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, List<?>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "listingCache");
+    }
+
+    /**
+     * Get a listing, loading it on a miss. Concurrent misses on the same listing wait for a single load.
+     *
+     * @param listing The listing, e.g. ACTIVE_TRAINERS.
+     * @param loader  Reads the listing from the database.
+     * @return The listing.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(String listing, Supplier<List<T>> loader) {
+        try {
+            return (List<T>) cache.get(listing, () -> List.copyOf(loader.get()));
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Could not load listing " + listing, ex.getCause());
+        }
+    }
+
+    /**
+     * Drop a listing. Inside a transaction it is dropped again after the commit, so that a request reading
+     * the listing between the write and the commit cannot cache the old rows until the time to live is over.
+     *
+     * @param listing The listing, e.g. ACTIVE_TRAINERS.
+     */
+    public void invalidate(String listing) {
+        cache.invalidate(listing);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(listing);
+                }
+            });
+        }
+        log.debug("Invalidated listing {}", listing);
+    }
+}
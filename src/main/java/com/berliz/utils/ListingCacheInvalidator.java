@@ -0,0 +1,36 @@
+package com.berliz.utils;
+
+import com.berliz.models.Category;
+import com.berliz.models.Center;
+import com.berliz.models.Trainer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that drops the public listings an entity appears in whenever it is saved or deleted,
+ * whichever service wrote it. Category names are part of both listings.
+ * <p>
+ * Bulk JPQL updates do not go through entity listeners; code updating trainers, centers or categories that
+ * way must invalidate the listing itself.
+ */
+@Component
+public class ListingCacheInvalidator {
+
+    @Autowired
+    ListingCache listingCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        if (entity instanceof Trainer || entity instanceof Category) {
+            listingCache.invalidate(ListingCache.ACTIVE_TRAINERS);
+        }
+        if (entity instanceof Center || entity instanceof Category) {
+            listingCache.invalidate(ListingCache.ACTIVE_CENTERS);
+        }
+    }
+}
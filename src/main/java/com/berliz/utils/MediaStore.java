@@ -0,0 +1,123 @@
+package com.berliz.utils;
+
+import com.berliz.models.MediaBlob;
+import com.berliz.repositories.MediaBlobRepo;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed store for the binary fields of trainers, centers, users, exercises and partners.
+ * <p>
+ * Each distinct content is written once under its sha-256, so the same photo uploaded twice, or shared by
+ * several entities, takes space once. Blobs are immutable: changing a photo stores a new blob and moves
+ * the entity's reference. Only blobs referenced by a photo, image or demo are public; partner CVs and
+ * certificates are kept in the same table but never served by the media endpoint.
+ */
+@Component
+public class MediaStore {
+
+    // concurrent uploads of the same content race on the primary key, the loser simply finds it there
+    private static final String INSERT_BLOB =
+            "INSERT INTO media_blob (hash, content_type, size, data, date) VALUES (?, ?, ?, ?, ?) " +
+                    "ON CONFLICT (hash) DO NOTHING";
+
+    @Autowired
+    MediaBlobRepo mediaBlobRepo;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ImageRenditions imageRenditions;
+
+    // only positive answers are cached: a hash that becomes public is served at once
+    private final Cache<String, Boolean> publicHashes = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Store an uploaded file.
+     *
+     * @param file The uploaded file.
+     * @return The blob to set on the entity.
+     * @throws IOException If the file cannot be read.
+     */
+    public MediaBlob store(MultipartFile file) throws IOException {
+        return store(file.getBytes(), file.getContentType());
+    }
+
+    /**
+     * Store an uploaded image and schedule its renditions.
+     *
+     * @param file The uploaded image.
+     * @return The blob to set on the entity.
+     * @throws IOException If the file cannot be read.
+     */
+    public MediaBlob storeImage(MultipartFile file) throws IOException {
+        MediaBlob blob = store(file);
+        imageRenditions.schedule(blob);
+        return blob;
+    }
+
+    /**
+     * Store the given content unless a blob with the same content already exists.
+     *
+     * @param data        The content.
+     * @param contentType The content type, may be null.
+     * @return The blob to set on the entity.
+     */
+    public MediaBlob store(byte[] data, String contentType) {
+        MediaBlob blob = new MediaBlob();
+        blob.setHash(hash(data));
+        blob.setContentType(contentType);
+        blob.setSize(data.length);
+        blob.setData(data);
+        blob.setDate(new Date());
+        if (!mediaBlobRepo.existsById(blob.getHash())) {
+            jdbcTemplate.update(INSERT_BLOB, blob.getHash(), contentType, blob.getSize(), data,
+                    new Timestamp(blob.getDate().getTime()));
+        }
+        return blob;
+    }
+
+    /**
+     * Check whether a blob can be served without authentication, i.e. whether a public photo, image or
+     * demo column references it.
+     *
+     * @param hash The blob hash.
+     * @return True if the blob is public.
+     */
+    public boolean isPublic(String hash) {
+        if (hash == null) {
+            return false;
+        }
+        if (publicHashes.getIfPresent(hash) != null) {
+            return true;
+        }
+        boolean isPublic = mediaBlobRepo.isPublic(hash);
+        if (isPublic) {
+            publicHashes.put(hash, Boolean.TRUE);
+        }
+        return isPublic;
+    }
+
+    public Optional<MediaBlob> find(String hash) {
+        return hash == null ? Optional.empty() : mediaBlobRepo.findById(hash);
+    }
+
+    public static String hash(byte[] data) {
+        return Hashing.sha256().hashBytes(data).toString();
+    }
+}
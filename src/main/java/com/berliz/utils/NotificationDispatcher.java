@@ -0,0 +1,307 @@
+package com.berliz.utils;
+
+import com.berliz.repositories.UserRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists and publishes notifications off the request thread.
+ * <p>
+ * Callers enqueue a {@link NotificationEvent}; a single worker drains the queue in batches, writes the
+ * user and admin notifications of the whole batch with one JDBC batch insert, and then delivers each one to
+ * its recipient's /user/queue/notification. The queue is bounded: when it stays full, the caller persists its own event,
+ * which slows producers down to the pace of the database instead of dropping notifications.
+ * <p>
+ * When the batch insert fails, e.g. on a row for a user deleted while the event was queued, the rows are retried
+ * one by one, so only the rows that cannot be written are lost and every other recipient is still notified.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    // the notification table uses IDENTITY keys, which turn off Hibernate insert batching, so rows are
+    // written with plain JDBC
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notification (user_fk, notification, is_read, date) VALUES (?, ?, false, ?)";
+
+    // delivered to each recipient's own sessions, see StompAuthInterceptor
+    private static final String USER_NOTIFICATION_QUEUE = "/queue/notification";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    SimpMessagingTemplate simpMessagingTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${berliz.notifications.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${berliz.notifications.batch-size:200}")
+    private int batchSize;
+
+    @Value("${berliz.notifications.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    // publish compact EntityEvents instead of whole entities on the entity topics; turning this off is an
+    // opt-out for legacy clients that still expect whole entities
+    @Value("${berliz.websocket.slim-events:true}")
+    private boolean slimEvents;
+
+    // also broadcast every notification on /topic/notification, for clients not yet on the user queue
+    @Value("${berliz.websocket.broadcast-notifications:false}")
+    private boolean broadcastNotifications;
+
+    private final AtomicLong eventVersion = new AtomicLong(System.currentTimeMillis());
+
+    private BlockingQueue<NotificationEvent> queue;
+
+    private Thread worker;
+
+    private volatile boolean running;
+
+    private Counter enqueued;
+
+    private Counter callerRuns;
+
+    private Counter failed;
+
+    private Timer persistLatency;
+
+    private DistributionSummary rowsPerBatch;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("berliz.notifications.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        enqueued = meterRegistry.counter("berliz.notifications.enqueued");
+        callerRuns = meterRegistry.counter("berliz.notifications.caller.runs");
+        failed = meterRegistry.counter("berliz.notifications.failed");
+        persistLatency = Timer.builder("berliz.notifications.persist.latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rowsPerBatch = DistributionSummary.builder("berliz.notifications.batch.rows").register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::run, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queue a notification for the given user and, if adminMessage is set, for every admin.
+     *
+     * @param userId         The id of the user the notification is for.
+     * @param userMessage    The notification text for the user.
+     * @param adminMessage   The notification text for admins, or null to leave admins out.
+     * @param entityEndpoint The topic the changed entity is published to.
+     * @param entityOrList   The changed entity or list of entities.
+     */
+    public void publish(Integer userId, String userMessage, String adminMessage,
+                        String entityEndpoint, Object entityOrList) {
+        publish(userId, userMessage, adminMessage, entityEndpoint, entityOrList, null);
+    }
+
+    /**
+     * Same as {@link #publish(Integer, String, String, String, Object)}, also reporting which fields of the
+     * entity changed. With slim events enabled only these fields are sent along with the entity id.
+     *
+     * @param changedFields The changed fields and their new values, or null.
+     */
+    public void publish(Integer userId, String userMessage, String adminMessage,
+                        String entityEndpoint, Object entityOrList, Map<String, Object> changedFields) {
+        Object payload = entityOrList;
+        if (slimEvents && entityOrList != null) {
+            payload = EntityEvent.of(entityEndpoint, entityOrList, changedFields, eventVersion.incrementAndGet());
+        }
+        // serialize here, while the request's persistence context can still load lazy fields
+        Message<?> entityMessage = payload == null ? null
+                : simpMessagingTemplate.getMessageConverter().toMessage(payload, null);
+        NotificationEvent event = new NotificationEvent(userId, userMessage, adminMessage,
+                entityEndpoint, entityMessage);
+        enqueued.increment();
+        try {
+            if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        callerRuns.increment();
+        log.warn("Notification queue is full, dispatching on the caller thread");
+        try {
+            dispatch(List.of(event));
+        } catch (Exception ex) {
+            // the caller's own change is already committed, a lost notification must not fail its request
+            failed.increment();
+            log.error("Failed to dispatch a notification on the caller thread", ex);
+        }
+    }
+
+    private void run() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                failed.increment(batch.size());
+                log.error("Failed to dispatch {} notifications", batch.size(), ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void dispatch(List<NotificationEvent> batch) {
+        long start = System.nanoTime();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Integer> adminIds = null;
+        // the rows of each event, in batch order
+        List<List<NotificationRow>> rowsByEvent = new ArrayList<>(batch.size());
+        List<NotificationRow> rows = new ArrayList<>();
+        for (NotificationEvent event : batch) {
+            List<NotificationRow> eventRows = new ArrayList<>();
+            if (event.getUserId() != null) {
+                eventRows.add(new NotificationRow(event.getUserId(), event.getUserMessage()));
+            }
+            if (event.notifiesAdmins()) {
+                if (adminIds == null) {
+                    // one lookup per batch, not per event
+                    adminIds = userRepo.findAllAdminIds();
+                }
+                for (Integer adminId : adminIds) {
+                    eventRows.add(new NotificationRow(adminId, event.getAdminMessage()));
+                }
+            }
+            rowsByEvent.add(eventRows);
+            rows.addAll(eventRows);
+        }
+        if (!rows.isEmpty()) {
+            persist(rows, now);
+        }
+        persistLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        rowsPerBatch.record(rows.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationEvent event = batch.get(i);
+            boolean userRowLost = false;
+            for (NotificationRow row : rowsByEvent.get(i)) {
+                if (row.persisted) {
+                    simpMessagingTemplate.convertAndSendToUser(String.valueOf(row.userId),
+                            USER_NOTIFICATION_QUEUE, row.message);
+                } else if (row.userId.equals(event.getUserId())) {
+                    userRowLost = true;
+                }
+            }
+            if (broadcastNotifications && !userRowLost) {
+                simpMessagingTemplate.convertAndSend("/topic/notification", event.getUserMessage());
+            }
+            // the entity change itself is committed, its topic is updated even if a notification was lost
+            if (event.getEntityEndpoint() != null && event.getEntityMessage() != null) {
+                simpMessagingTemplate.send(event.getEntityEndpoint(), event.getEntityMessage());
+            }
+        }
+    }
+
+    /**
+     * Write the rows and their unread counts in one transaction, or, if that fails, each row in its own
+     * transaction, marking the rows that were written.
+     */
+    private void persist(List<NotificationRow> rows, Timestamp now) {
+        try {
+            List<Object[]> params = new ArrayList<>(rows.size());
+            Map<Integer, Integer> unreadDeltas = new HashMap<>();
+            for (NotificationRow row : rows) {
+                params.add(new Object[]{row.userId, row.message, now});
+                unreadDeltas.merge(row.userId, 1, Integer::sum);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, params);
+                unreadNotificationCounter.addUnread(unreadDeltas);
+            });
+            for (NotificationRow row : rows) {
+                row.persisted = true;
+            }
+            return;
+        } catch (Exception ex) {
+            log.warn("Batch insert of {} notifications failed, retrying them one by one", rows.size(), ex);
+        }
+
+        for (NotificationRow row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(INSERT_NOTIFICATION, row.userId, row.message, now);
+                    unreadNotificationCounter.addUnread(Map.of(row.userId, 1));
+                });
+                row.persisted = true;
+            } catch (Exception ex) {
+                failed.increment();
+                log.error("Dropping notification for user {}: {}", row.userId, ex.getMessage());
+            }
+        }
+    }
+
+    private static final class NotificationRow {
+
+        private final Integer userId;
+
+        private final String message;
+
+        private boolean persisted;
+
+        NotificationRow(Integer userId, String message) {
+            this.userId = userId;
+            this.message = message;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // the worker drains whatever is left before it exits
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
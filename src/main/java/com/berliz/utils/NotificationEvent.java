@@ -0,0 +1,38 @@
+package com.berliz.utils;
+
+import lombok.Getter;
+import org.springframework.messaging.Message;
+
+/**
+ * A notification captured on the request thread, waiting to be persisted and published by
+ * {@link NotificationDispatcher}. Everything that depends on the caller (actor email, admin or not) is
+ * resolved into the messages before the event is queued.
+ */
+@Getter
+public class NotificationEvent {
+
+    private final Integer userId;
+
+    private final String userMessage;
+
+    // null when admins are not notified, e.g. the recipient is an admin already
+    private final String adminMessage;
+
+    private final String entityEndpoint;
+
+    // the entity update, already serialized on the request thread while its session is still open
+    private final Message<?> entityMessage;
+
+    public NotificationEvent(Integer userId, String userMessage, String adminMessage,
+                             String entityEndpoint, Message<?> entityMessage) {
+        this.userId = userId;
+        this.userMessage = userMessage;
+        this.adminMessage = adminMessage;
+        this.entityEndpoint = entityEndpoint;
+        this.entityMessage = entityMessage;
+    }
+
+    public boolean notifiesAdmins() {
+        return adminMessage != null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.berliz.utils;
+
+import com.berliz.models.Photo;
+import com.berliz.repositories.PhotoRepo;
+import com.google.common.collect.Lists;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the photos of many owners of the same type (trainer photo albums, center albums, reviews, equipment...)
+ * with one IN query per chunk of owners, instead of one query per owner, and groups them by owner.
+ */
+@Component
+public class PhotoLoader {
+
+    // owner ids per query, keeps the bind parameter count well under the driver limit
+    static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    PhotoRepo photoRepo;
+
+    /**
+     * Load the photos of the given owners.
+     *
+     * @param ownerType The owner type the photos were saved with, e.g. BerlizConstants.TRAINER_PHOTO_OWNER.
+     * @param ownerIds  The owner ids.
+     * @return Every owner id mapped to its photos in upload order, an empty list for owners without photos.
+     */
+    public Map<Integer, List<Photo>> loadByOwners(String ownerType, Collection<Integer> ownerIds) {
+        Map<Integer, List<Photo>> photosByOwner = new LinkedHashMap<>();
+        for (Integer ownerId : ownerIds) {
+            photosByOwner.put(ownerId, new ArrayList<>());
+        }
+        for (List<Integer> chunk : Lists.partition(new ArrayList<>(new LinkedHashSet<>(ownerIds)), CHUNK_SIZE)) {
+            for (Photo photo : photoRepo.findByOwnerTypeAndOwnerIds(ownerType, chunk)) {
+                photosByOwner.get(photo.getOwnerId()).add(photo);
+            }
+        }
+        return photosByOwner;
+    }
+}
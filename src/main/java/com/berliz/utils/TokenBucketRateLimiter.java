@@ -0,0 +1,74 @@
+package com.berliz.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket rate limiter keyed by an arbitrary string (user id, client IP...).
+ * <p>
+ * Each bucket is stored as a single "theoretical arrival time" (the GCRA form of a token bucket) in an
+ * AtomicLong, so acquiring a token is one CAS and allocates nothing. Buckets live in a ConcurrentHashMap,
+ * whose bins act as lock stripes; full (idle) buckets are dropped by {@link #evictIdle()}.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstNanos;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity        The maximum burst of requests allowed at once.
+     * @param refillPerMinute The number of tokens added back per minute.
+     */
+    public TokenBucketRateLimiter(long capacity, long refillPerMinute) {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * Try to take one token from the bucket of the given key.
+     *
+     * @param key The bucket key.
+     * @return 0 if the request is allowed, otherwise the number of nanoseconds until a token is available.
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they behave exactly like a new bucket.
+     *
+     * @return The number of buckets removed.
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
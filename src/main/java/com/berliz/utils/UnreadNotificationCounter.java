@@ -0,0 +1,128 @@
+package com.berliz.utils;
+
+import com.berliz.models.NotificationCounter;
+import com.berliz.repositories.NotificationCounterRepo;
+import com.berliz.repositories.NotificationRepo;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@link NotificationCounter} in sync with the notification table.
+ * <p>
+ * Bulk read, unread and delete lock the counters of the affected users, count how many notifications
+ * actually change state, run the bulk update and apply the difference, all in one transaction, so two
+ * concurrent requests on the same notifications cannot count them twice.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    // creates a missing counter from the notification table; the count includes rows written by the
+    // current transaction
+    private static final String CREATE_COUNTER =
+            "INSERT INTO notification_counter (user_id, unread_count) " +
+                    "SELECT ?, COUNT(*) FROM notification WHERE user_fk = ? AND is_read = false " +
+                    "ON CONFLICT (user_id) DO NOTHING";
+
+    @Autowired
+    NotificationCounterRepo notificationCounterRepo;
+
+    @Autowired
+    NotificationRepo notificationRepo;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * Get the number of unread notifications of a user.
+     *
+     * @param userId The user id.
+     * @return The unread count.
+     */
+    public int get(Integer userId) {
+        return notificationCounterRepo.findById(userId)
+                .map(NotificationCounter::getUnreadCount)
+                .orElseGet(() -> {
+                    jdbcTemplate.update(CREATE_COUNTER, userId, userId);
+                    return notificationCounterRepo.findById(userId)
+                            .map(NotificationCounter::getUnreadCount)
+                            .orElse(0);
+                });
+    }
+
+    /**
+     * Count newly created unread notifications. Call it in the transaction that inserted them.
+     *
+     * @param deltas The number of new notifications per user id.
+     */
+    @Transactional
+    public void addUnread(Map<Integer, Integer> deltas) {
+        // always in user id order, so concurrent callers lock the counter rows in the same order
+        new TreeMap<>(deltas).forEach(this::add);
+    }
+
+    @Transactional
+    public int markRead(List<Integer> ids) {
+        Map<Integer, Integer> deltas = lockAndCount(ids, false, -1);
+        int updated = notificationRepo.bulkReadByIds(ids);
+        deltas.forEach(this::add);
+        return updated;
+    }
+
+    @Transactional
+    public int markUnread(List<Integer> ids) {
+        Map<Integer, Integer> deltas = lockAndCount(ids, true, 1);
+        int updated = notificationRepo.bulkUnreadByIds(ids);
+        deltas.forEach(this::add);
+        return updated;
+    }
+
+    @Transactional
+    public int delete(List<Integer> ids) {
+        Map<Integer, Integer> deltas = lockAndCount(ids, false, -1);
+        int deleted = notificationRepo.bulkDeleteByIds(ids);
+        deltas.forEach(this::add);
+        return deleted;
+    }
+
+    /**
+     * Lock the counters of the users owning the given notifications, then count per user the notifications
+     * in the given read state, which are the ones the bulk operation changes.
+     */
+    private Map<Integer, Integer> lockAndCount(List<Integer> ids, boolean read, int sign) {
+        notificationCounterRepo.findByUserIdInOrderByUserId(notificationRepo.findUserIdsByIds(ids));
+        Map<Integer, Integer> deltas = new TreeMap<>();
+        for (Object[] row : notificationRepo.countByIdsAndReadGroupByUser(ids, read)) {
+            deltas.put((Integer) row[0], sign * ((Number) row[1]).intValue());
+        }
+        return deltas;
+    }
+
+    private void add(Integer userId, Integer delta) {
+        if (userId == null || delta == null || delta == 0) {
+            return;
+        }
+        if (notificationCounterRepo.addUnread(userId, delta) == 0
+                && jdbcTemplate.update(CREATE_COUNTER, userId, userId) == 0) {
+            // another transaction created the counter in the meantime, without our rows
+            notificationCounterRepo.addUnread(userId, delta);
+        }
+    }
+
+    /**
+     * Build the deltas for one new notification per given user id.
+     */
+    public static Map<Integer, Integer> oneEach(List<Integer> userIds) {
+        Map<Integer, Integer> deltas = new HashMap<>();
+        for (Integer userId : userIds) {
+            deltas.merge(userId, 1, Integer::sum);
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,50 @@
+package com.berliz.wrapper;
+
+import com.berliz.models.MediaBlob;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Center card of the public center listing, read with a constructor projection instead of loading the
+ * center with its partner, user, categories and trainers.
+ */
+@Data
+@NoArgsConstructor
+public class CenterWrapper {
+
+    private Integer id;
+
+    private String name;
+
+    private String motto;
+
+    private String address;
+
+    private String experience;
+
+    private String location;
+
+    private String photo;
+
+    private String thumbnail;
+
+    private int likes;
+
+    private List<String> categories;
+
+    public CenterWrapper(Integer id, String name, String motto, String address, String experience,
+                         String location, String photoHash, int likes, String categories) {
+        this.id = id;
+        this.name = name;
+        this.motto = motto;
+        this.address = address;
+        this.experience = experience;
+        this.location = location;
+        this.photo = MediaBlob.url(photoHash, "card");
+        this.thumbnail = MediaBlob.url(photoHash, "thumb");
+        this.likes = likes;
+        this.categories = TrainerWrapper.splitCategories(categories);
+    }
+}
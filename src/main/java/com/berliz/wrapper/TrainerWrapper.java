@@ -1,4 +1,65 @@
 package com.berliz.wrapper;
 
+import com.berliz.models.MediaBlob;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trainer card of the public trainer listing, read with a constructor projection instead of loading the
+ * trainer with its partner, user and categories.
+ */
+@Data
+@NoArgsConstructor
 public class TrainerWrapper {
+
+    // the separator of the listagg in Trainer.getActiveTrainerCards and Center.getActiveCenterCards
+    static final String CATEGORY_SEPARATOR = ";";
+
+    private Integer id;
+
+    private String name;
+
+    private String motto;
+
+    private String address;
+
+    private String experience;
+
+    private String photo;
+
+    private String thumbnail;
+
+    private int likes;
+
+    private List<String> categories;
+
+    public TrainerWrapper(Integer id, String name, String motto, String address, String experience,
+                          String photoHash, int likes, String categories) {
+        this.id = id;
+        this.name = name;
+        this.motto = motto;
+        this.address = address;
+        this.experience = experience;
+        this.photo = MediaBlob.url(photoHash, "card");
+        this.thumbnail = MediaBlob.url(photoHash, "thumb");
+        this.likes = likes;
+        this.categories = splitCategories(categories);
+    }
+
+    /**
+     * Split the category names aggregated by the listing query.
+     *
+     * @param categories The names joined with CATEGORY_SEPARATOR, or null when there are none.
+     * @return The names.
+     */
+    static List<String> splitCategories(String categories) {
+        if (categories == null || categories.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(categories.split(CATEGORY_SEPARATOR)));
+    }
 }
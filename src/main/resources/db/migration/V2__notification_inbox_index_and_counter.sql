@@ -0,0 +1,18 @@
+-- V2__notification_inbox_index_and_counter.sql
+
+-- keyset inbox: unread first, newest first, per user
+CREATE INDEX IF NOT EXISTS idx_notification_inbox
+    ON notification (user_fk, is_read, date, id);
+
+-- materialized unread count per user
+CREATE TABLE IF NOT EXISTS notification_counter (
+    user_id      INTEGER PRIMARY KEY,
+    unread_count INTEGER NOT NULL DEFAULT 0
+);
+
+INSERT INTO notification_counter (user_id, unread_count)
+SELECT user_fk, COUNT(*)
+FROM notification
+WHERE is_read = false
+GROUP BY user_fk
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,48 @@
+-- V3__media_blob_store.sql
+
+-- content-addressed binary store, one row per distinct content
+CREATE TABLE IF NOT EXISTS media_blob (
+    hash         VARCHAR(64) PRIMARY KEY,
+    content_type VARCHAR(255),
+    size         BIGINT NOT NULL,
+    data         BYTEA NOT NULL,
+    date         TIMESTAMP
+);
+
+-- move each BYTEA column into media_blob and replace it with the sha-256 reference
+DO $$
+DECLARE
+    moved RECORD;
+BEGIN
+    FOR moved IN
+        SELECT *
+        FROM (VALUES ('trainer', 'photo', 'photo_hash'),
+                     ('center', 'photo', 'photo_hash'),
+                     ('users', 'profile_photo', 'profile_photo_hash'),
+                     ('exercise', 'demo', 'demo_hash'),
+                     ('partner', 'certificate', 'certificate_hash'),
+                     ('partner', 'cv', 'cv_hash')) AS columns (table_name, old_column, new_column)
+    LOOP
+        EXECUTE format('ALTER TABLE %I ADD COLUMN IF NOT EXISTS %I VARCHAR(64)',
+                       moved.table_name, moved.new_column);
+
+        IF EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = current_schema()
+                     AND table_name = moved.table_name
+                     AND column_name = moved.old_column) THEN
+            EXECUTE format('INSERT INTO media_blob (hash, size, data, date) ' ||
+                           'SELECT DISTINCT ON (encode(sha256(%1$I), ''hex'')) ' ||
+                           'encode(sha256(%1$I), ''hex''), length(%1$I), %1$I, now() ' ||
+                           'FROM %2$I WHERE %1$I IS NOT NULL ' ||
+                           'ON CONFLICT (hash) DO NOTHING',
+                           moved.old_column, moved.table_name);
+            EXECUTE format('UPDATE %2$I SET %3$I = encode(sha256(%1$I), ''hex'') WHERE %1$I IS NOT NULL',
+                           moved.old_column, moved.table_name, moved.new_column);
+            EXECUTE format('ALTER TABLE %I DROP COLUMN %I', moved.table_name, moved.old_column);
+        END IF;
+
+        EXECUTE format('ALTER TABLE %1$I ADD CONSTRAINT %2$I FOREIGN KEY (%3$I) REFERENCES media_blob (hash)',
+                       moved.table_name, 'fk_' || moved.table_name || '_' || moved.new_column, moved.new_column);
+    END LOOP;
+END $$;
@@ -0,0 +1,25 @@
+-- V4__muscle_group_image_to_media_blob.sql
+
+-- muscle group images move to the media store like the other photos (see V3)
+ALTER TABLE muscle_group ADD COLUMN IF NOT EXISTS image_hash VARCHAR(64);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = 'muscle_group'
+                 AND column_name = 'image') THEN
+        INSERT INTO media_blob (hash, size, data, date)
+        SELECT DISTINCT ON (encode(sha256(image), 'hex')) encode(sha256(image), 'hex'), length(image), image, now()
+        FROM muscle_group
+        WHERE image IS NOT NULL
+        ON CONFLICT (hash) DO NOTHING;
+
+        UPDATE muscle_group SET image_hash = encode(sha256(image), 'hex') WHERE image IS NOT NULL;
+
+        ALTER TABLE muscle_group DROP COLUMN image;
+    END IF;
+END $$;
+
+ALTER TABLE muscle_group ADD CONSTRAINT fk_muscle_group_image_hash FOREIGN KEY (image_hash) REFERENCES media_blob (hash);
@@ -0,0 +1,9 @@
+-- V5__list_keyset_indexes.sql
+
+-- keyset paging of the list endpoints: newest first, by id within the same date
+CREATE INDEX IF NOT EXISTS idx_trainer_date_id ON trainer (date, id);
+CREATE INDEX IF NOT EXISTS idx_center_date_id ON center (date, id);
+CREATE INDEX IF NOT EXISTS idx_product_date_id ON product (date, id);
+CREATE INDEX IF NOT EXISTS idx_store_date_id ON store (date, id);
+CREATE INDEX IF NOT EXISTS idx_orders_date_id ON orders (date, id);
+CREATE INDEX IF NOT EXISTS idx_trainer_like_date_id ON trainer_like (date, id);
@@ -0,0 +1,4 @@
+-- V6__photo_owner_index.sql
+
+-- photos are always read by owner, one owner or a batch of owners of the same type at a time
+CREATE INDEX IF NOT EXISTS idx_photo_owner ON photo (owner_type, owner_id);
@@ -0,0 +1,23 @@
+-- V7__like_uniqueness_and_counts.sql
+
+-- concurrent like toggles could insert the same (user, liked entity) pair twice: keep the oldest row of each pair
+DELETE FROM trainer_like a USING trainer_like b
+WHERE a.user_fk = b.user_fk AND a.trainer_fk = b.trainer_fk AND a.id > b.id;
+DELETE FROM center_like a USING center_like b
+WHERE a.user_fk = b.user_fk AND a.center_fk = b.center_fk AND a.id > b.id;
+DELETE FROM category_like a USING category_like b
+WHERE a.user_fk = b.user_fk AND a.category_fk = b.category_fk AND a.id > b.id;
+DELETE FROM trainer_review_like a USING trainer_review_like b
+WHERE a.user_fk = b.user_fk AND a.trainer_review_fk = b.trainer_review_fk AND a.id > b.id;
+
+-- a user likes an entity at most once, so a repeated like is rejected instead of counted
+CREATE UNIQUE INDEX IF NOT EXISTS uk_trainer_like_user_trainer ON trainer_like (user_fk, trainer_fk);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_center_like_user_center ON center_like (user_fk, center_fk);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_category_like_user_category ON category_like (user_fk, category_fk);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_trainer_review_like_user_review ON trainer_review_like (user_fk, trainer_review_fk);
+
+-- the read-increment-save counters drifted under lost updates: start again from the like rows
+UPDATE trainer t SET likes = (SELECT COUNT(*) FROM trainer_like l WHERE l.trainer_fk = t.id);
+UPDATE center c SET likes = (SELECT COUNT(*) FROM center_like l WHERE l.center_fk = c.id);
+UPDATE category c SET likes = (SELECT COUNT(*) FROM category_like l WHERE l.category_fk = c.id);
+UPDATE trainer_review r SET likes = (SELECT COUNT(*) FROM trainer_review_like l WHERE l.trainer_review_fk = r.id);
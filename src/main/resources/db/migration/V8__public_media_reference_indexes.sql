@@ -0,0 +1,9 @@
+-- V8__public_media_reference_indexes.sql
+
+-- the media endpoint only serves blobs referenced by a public photo, image or demo column,
+-- looked up by hash on every read that is not answered from the client's cache
+CREATE INDEX IF NOT EXISTS idx_trainer_photo_hash ON trainer (photo_hash);
+CREATE INDEX IF NOT EXISTS idx_center_photo_hash ON center (photo_hash);
+CREATE INDEX IF NOT EXISTS idx_users_profile_photo_hash ON users (profile_photo_hash);
+CREATE INDEX IF NOT EXISTS idx_muscle_group_image_hash ON muscle_group (image_hash);
+CREATE INDEX IF NOT EXISTS idx_exercise_demo_hash ON exercise (demo_hash);
@@ -0,0 +1,8 @@
+-- V9__notification_inbox_index_order.sql
+
+-- the inbox reads each (user, read state) range newest first: store date and id descending, so a page is one
+-- forward seek from the cursor instead of a sort of the user's whole inbox
+DROP INDEX IF EXISTS idx_notification_inbox;
+
+CREATE INDEX idx_notification_inbox
+    ON notification (user_fk, is_read, date DESC, id DESC);
@@ -0,0 +1,53 @@
+package com.berliz.JWT;
+
+import com.berliz.repositories.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InactiveUserRegistryTest {
+
+    private InactiveUserRegistry inactiveUserRegistry;
+
+    private UserRepo userRepo;
+
+    @BeforeEach
+    void setUp() {
+        userRepo = mock(UserRepo.class);
+        inactiveUserRegistry = new InactiveUserRegistry();
+        inactiveUserRegistry.userRepo = userRepo;
+    }
+
+    @Test
+    void refresh_ShouldReplaceTheSet_WithTheUsersTable() {
+        inactiveUserRegistry.markInactive(1);
+        when(userRepo.getInactiveUserIds()).thenReturn(List.of(2));
+
+        inactiveUserRegistry.refresh();
+
+        assertFalse(inactiveUserRegistry.isInactive(1));
+        assertTrue(inactiveUserRegistry.isInactive(2));
+    }
+
+    @Test
+    void refresh_ShouldKeepMarks_MadeWhileTheQueryRuns() {
+        inactiveUserRegistry.markInactive(3);
+        // the query reads the table before both changes land
+        when(userRepo.getInactiveUserIds()).thenAnswer(invocation -> {
+            inactiveUserRegistry.markInactive(7);
+            inactiveUserRegistry.markActive(3);
+            return List.of(3);
+        });
+
+        inactiveUserRegistry.refresh();
+
+        assertTrue(inactiveUserRegistry.isInactive(7));
+        assertFalse(inactiveUserRegistry.isInactive(3));
+    }
+}
@@ -0,0 +1,149 @@
+package com.berliz.JWT;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JWTFilterConcurrencyTest {
+
+    private static final int REQUESTS = 5000;
+
+    private static final int THREADS = 64;
+
+    @Mock
+    private JWTUtility jwtUtility;
+
+    @Mock
+    private ClientUserDetailsService clientUserDetailsService;
+
+    @Mock
+    private TokenCache tokenCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private PublicRoutes publicRoutes = new PublicRoutes();
+
+    @InjectMocks
+    private JWTFilter jwtFilter;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        // every token "token-<n>" belongs to user n; even users are admins
+        when(jwtUtility.extractAllClaims(anyString())).thenAnswer(invocation -> {
+            int n = Integer.parseInt(((String) invocation.getArgument(0)).substring("token-".length()));
+            Claims claims = Jwts.claims();
+            claims.setSubject(email(n));
+            claims.setId(String.valueOf(n));
+            claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+            claims.put("role", n % 2 == 0 ? "admin" : "user");
+            return claims;
+        });
+        when(clientUserDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation ->
+                new User(invocation.getArgument(0), "", new ArrayList<>()));
+        when(jwtUtility.isValidToken(any(Claims.class), any())).thenReturn(true);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequests_ShouldOnlySeeTheirOwnIdentity() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger leaks = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            final int n = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/get");
+                request.setServletPath("/user/get");
+                request.addHeader("Authorization", "Bearer token-" + n);
+                try {
+                    jwtFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                        // give other requests a chance to interleave before reading the identity back
+                        Thread.yield();
+                        boolean ownIdentity = email(n).equals(jwtFilter.getCurrentUserEmail())
+                                && Integer.valueOf(n).equals(jwtFilter.getCurrentUserId())
+                                && jwtFilter.isAdmin() == (n % 2 == 0);
+                        if (!ownIdentity) {
+                            leaks.incrementAndGet();
+                        }
+                    });
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        assertEquals(0, leaks.get());
+    }
+
+    @Test
+    void publicVideoRoute_ShouldIdentifyTheCaller_WhenAValidTokenIsSent() throws Exception {
+        AtomicInteger callerId = new AtomicInteger(-1);
+        doThrow(new IllegalArgumentException("malformed token")).when(jwtUtility).extractAllClaims("broken");
+
+        for (String token : new String[]{"token-7", "broken", null}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/video/feature/trainer_video-1");
+            request.setServletPath("/video/feature/trainer_video-1");
+            if (token != null) {
+                request.addHeader("Authorization", "Bearer " + token);
+            }
+            try {
+                jwtFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    Integer id = jwtFilter.getCurrentUserId();
+                    callerId.set(id == null ? 0 : id);
+                });
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+            // a valid token identifies user 7, a broken or missing one leaves the public route anonymous
+            assertEquals("token-7".equals(token) ? 7 : 0, callerId.get());
+        }
+    }
+
+    private static String email(int n) {
+        return "user" + n + "@example.com";
+    }
+}
@@ -0,0 +1,82 @@
+package com.berliz.JWT;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor();
+        passwordHashingExecutor.meterRegistry = meterRegistry;
+        ReflectionTestUtils.setField(passwordHashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "timeoutMs", 5000L);
+        passwordHashingExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldReturnResult_AndRethrowTaskException() {
+        assertEquals("ok", passwordHashingExecutor.execute(() -> "ok"));
+        assertThrows(BadCredentialsException.class, () -> passwordHashingExecutor.execute(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+        assertEquals(2, meterRegistry.get("berliz.password.hashing.latency").timer().count());
+    }
+
+    @Test
+    void execute_ShouldRejectImmediately_WhenQueueIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // one task occupies the only thread, a second one fills the queue
+            callers.submit(() -> passwordHashingExecutor.execute(() -> {
+                running.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> passwordHashingExecutor.execute(() -> true));
+            waitForQueueDepth(1);
+
+            assertThrows(RejectedExecutionException.class, () -> passwordHashingExecutor.execute(() -> true));
+            assertEquals(1.0, meterRegistry.get("berliz.password.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("berliz.password.hashing.queue.depth").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.berliz;
+
+import com.berliz.repositories.NotificationCounterRepo;
+import com.berliz.repositories.NotificationRepo;
+import com.berliz.utils.UnreadNotificationCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class NotificationRetentionJobTest {
+
+    private static final int ADMIN = 1;
+
+    private static final int USER = 2;
+
+    // the notification table, the role of each user and the unread counters, kept in memory
+    private final Map<Integer, Row> notifications = new TreeMap<>();
+
+    private final Map<Integer, String> roles = Map.of(ADMIN, "admin", USER, "user");
+
+    private final Map<Integer, Integer> unreadCounters = new HashMap<>();
+
+    private NotificationRetentionJob job;
+
+    @TempDir
+    Path archiveDir;
+
+    @BeforeEach
+    void setUp() {
+        NotificationRepo notificationRepo = mock(NotificationRepo.class);
+        NotificationCounterRepo notificationCounterRepo = mock(NotificationCounterRepo.class);
+        when(notificationRepo.findUserIdsByIds(anyList())).thenAnswer(invocation ->
+                rows(invocation.getArgument(0)).map(Row::userId).distinct().toList());
+        when(notificationRepo.countByIdsAndReadGroupByUser(anyList(), anyBoolean())).thenAnswer(invocation -> {
+            boolean read = invocation.getArgument(1);
+            return rows(invocation.getArgument(0)).filter(row -> row.read == read)
+                    .collect(Collectors.groupingBy(Row::userId, Collectors.counting()))
+                    .entrySet().stream().map(entry -> new Object[]{entry.getKey(), entry.getValue()}).toList();
+        });
+        when(notificationRepo.bulkDeleteByIds(anyList())).thenAnswer(invocation -> {
+            List<Integer> ids = invocation.getArgument(0);
+            return (int) ids.stream().filter(id -> notifications.remove(id) != null).count();
+        });
+        when(notificationCounterRepo.addUnread(anyInt(), anyInt())).thenAnswer(invocation -> {
+            unreadCounters.merge(invocation.getArgument(0), invocation.getArgument(1), Integer::sum);
+            return 1;
+        });
+
+        UnreadNotificationCounter unreadNotificationCounter = new UnreadNotificationCounter();
+        ReflectionTestUtils.setField(unreadNotificationCounter, "notificationRepo", notificationRepo);
+        ReflectionTestUtils.setField(unreadNotificationCounter, "notificationCounterRepo", notificationCounterRepo);
+
+        job = new NotificationRetentionJob();
+        job.jdbcTemplate = new NotificationTable();
+        job.unreadNotificationCounter = unreadNotificationCounter;
+        job.meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "policiesProperty", "admin:30:3,default:180:0");
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "pauseMs", 0L);
+        ReflectionTestUtils.setField(job, "archiveDir", archiveDir.toString());
+        job.init();
+    }
+
+    @Test
+    void parsePolicies_ShouldReadRoleAgeAndCount() {
+        List<NotificationRetentionJob.RetentionPolicy> policies =
+                NotificationRetentionJob.parsePolicies("admin:30:500, default:180:0");
+
+        assertEquals(List.of(
+                new NotificationRetentionJob.RetentionPolicy("admin", 30, 500),
+                new NotificationRetentionJob.RetentionPolicy("default", 180, 0)), policies);
+    }
+
+    @Test
+    void parsePolicies_ShouldRejectMalformedEntries() {
+        assertThrows(IllegalArgumentException.class, () -> NotificationRetentionJob.parsePolicies("admin:30"));
+    }
+
+    @Test
+    void run_ShouldRemoveOldAndSurplusRowsInChunks_AndFixTheUnreadCounters() throws IOException {
+        // admin: 3 rows past 30 days (2 unread), then 5 recent ones of which only the newest 3 stay (1 unread dropped)
+        insert(1, ADMIN, 40, false);
+        insert(2, ADMIN, 35, true);
+        insert(3, ADMIN, 31, false);
+        insert(4, ADMIN, 5, false);
+        insert(5, ADMIN, 4, true);
+        insert(6, ADMIN, 3, false);
+        insert(7, ADMIN, 2, true);
+        insert(8, ADMIN, 1, false);
+        // user: only the row past 180 days goes, the count limit is off for the default role
+        insert(9, USER, 200, false);
+        insert(10, USER, 100, false);
+        insert(11, USER, 1, true);
+        unreadCounters.put(ADMIN, 5);
+        unreadCounters.put(USER, 2);
+
+        job.run();
+
+        assertEquals(Set.of(6, 7, 8, 10, 11), notifications.keySet());
+        assertEquals(2, unreadCounters.get(ADMIN));
+        assertEquals(1, unreadCounters.get(USER));
+        assertEquals(unread(ADMIN), unreadCounters.get(ADMIN));
+        assertEquals(unread(USER), unreadCounters.get(USER));
+        try (Stream<Path> archives = Files.list(archiveDir)) {
+            assertEquals(1, archives.count());
+        }
+    }
+
+    @Test
+    void run_ShouldNotWriteAnArchive_WhenNothingIsRemoved() throws IOException {
+        insert(1, ADMIN, 1, false);
+        insert(2, USER, 1, false);
+
+        job.run();
+
+        assertEquals(Set.of(1, 2), notifications.keySet());
+        try (Stream<Path> archives = Files.list(archiveDir)) {
+            assertEquals(0, archives.count());
+        }
+    }
+
+    @Test
+    void run_ShouldKeepTheRows_WhenTheArchiveCannotBeWritten() throws IOException {
+        // the archive "directory" is a plain file, so creating the archive fails
+        Path notADirectory = Files.createFile(archiveDir.resolve("full"));
+        ReflectionTestUtils.setField(job, "archiveDir", notADirectory.toString());
+        insert(1, ADMIN, 40, false);
+        unreadCounters.put(ADMIN, 1);
+
+        job.run();
+
+        assertEquals(Set.of(1), notifications.keySet());
+        assertEquals(1, unreadCounters.get(ADMIN));
+    }
+
+    @Test
+    void run_ShouldDoNothing_WhenDisabled() {
+        ReflectionTestUtils.setField(job, "enabled", false);
+        insert(1, ADMIN, 400, false);
+
+        job.run();
+
+        assertTrue(notifications.containsKey(1));
+    }
+
+    private record Row(int id, int userId, boolean read, Timestamp date) {
+    }
+
+    private void insert(int id, int userId, int daysAgo, boolean read) {
+        notifications.put(id, new Row(id, userId, read,
+                new Timestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(daysAgo))));
+    }
+
+    private Stream<Row> rows(List<Integer> ids) {
+        return ids.stream().map(notifications::get).filter(Objects::nonNull);
+    }
+
+    private int unread(int userId) {
+        return (int) notifications.values().stream().filter(row -> row.userId == userId && !row.read).count();
+    }
+
+    /**
+     * Answers the three selects of the job from the in-memory table: rows of a role older than a cutoff, users of
+     * a role over a count, and the rows of a user past the newest N.
+     */
+    private class NotificationTable extends JdbcTemplate {
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            List<Row> selected;
+            if (sql.contains("n.date < ?")) {
+                Timestamp cutoff = (Timestamp) args[args.length - 2];
+                int limit = (Integer) args[args.length - 1];
+                selected = notifications.values().stream()
+                        .filter(row -> hasRole(sql, row.userId, args) && row.date.before(cutoff))
+                        .limit(limit).toList();
+            } else {
+                int userId = (Integer) args[0];
+                selected = notifications.values().stream()
+                        .filter(row -> row.userId == userId)
+                        .sorted(Comparator.comparing(Row::date).thenComparing(Row::id).reversed())
+                        .skip((Integer) args[1]).limit((Integer) args[2]).toList();
+            }
+            List<T> mapped = new ArrayList<>();
+            for (Row row : selected) {
+                mapped.add(map(rowMapper, row));
+            }
+            return mapped;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            long maxCount = ((Number) args[args.length - 1]).longValue();
+            return (List<T>) notifications.values().stream()
+                    .filter(row -> hasRole(sql, row.userId, args))
+                    .collect(Collectors.groupingBy(Row::userId, TreeMap::new, Collectors.counting()))
+                    .entrySet().stream().filter(entry -> entry.getValue() > maxCount).map(Map.Entry::getKey).toList();
+        }
+
+        // "u.role = ?" with the role first, or the default role's "NOT IN (...)" with the listed roles first
+        private boolean hasRole(String sql, int userId, Object[] args) {
+            String role = roles.get(userId);
+            if (sql.contains("u.role = ?")) {
+                return role.equals(args[0]);
+            }
+            return !role.equals(args[0]);
+        }
+
+        private <T> T map(RowMapper<T> rowMapper, Row row) {
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getInt("id")).thenReturn(row.id);
+                when(rs.getInt("user_fk")).thenReturn(row.userId);
+                when(rs.getString("notification")).thenReturn("Notification " + row.id);
+                when(rs.getBoolean("is_read")).thenReturn(row.read);
+                when(rs.getTimestamp("date")).thenReturn(row.date);
+                return rowMapper.mapRow(rs, 0);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
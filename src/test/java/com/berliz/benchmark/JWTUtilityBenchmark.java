@@ -0,0 +1,86 @@
+package com.berliz.benchmark;
+
+import com.berliz.JWT.JWTUtility;
+import com.berliz.models.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the auth hot path: issuing an access token, parsing it, and validating it against a user.
+ * {@code parseRebuildingParser} is the old per-call parser, kept as a baseline. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.berliz.benchmark.JWTUtilityBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JWTUtilityBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-benchmark-secret-0123456789".getBytes());
+
+    private JWTUtility jwtUtility;
+
+    private User user;
+
+    private UserDetails userDetails;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtility = new JWTUtility();
+        ReflectionTestUtils.setField(jwtUtility, "SECRET_KEY", SECRET);
+        jwtUtility.init();
+
+        user = new User();
+        user.setId(42);
+        user.setEmail("bench@berliz.com");
+        user.setRole("user");
+        userDetails = new org.springframework.security.core.userdetails.User(
+                user.getEmail(), "", new ArrayList<>());
+        token = jwtUtility.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtUtility.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtility.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseRebuildingParser() {
+        return Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Boolean parseAndValidate() {
+        return jwtUtility.isValidToken(jwtUtility.extractAllClaims(token), userDetails);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JWTUtilityBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.berliz.benchmark;
+
+import com.berliz.utils.KeysetPage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the list endpoints' queries on a table the shape of trainer, center or orders: the unbounded
+ * findAll the /get lists used to run, one bounded list page, and a keyset page, each read from deep in the
+ * table, as the table grows. Needs a scratch PostgreSQL database, given with -Dberliz.benchmark.url, .user and
+ * .password; the benchmark table is created and dropped there. Run with {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.berliz.benchmark.ListPageBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListPageBenchmark {
+
+    private static final String TABLE = "list_page_benchmark";
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private Connection connection;
+
+    private PreparedStatement findAll;
+
+    private PreparedStatement listPage;
+
+    private PreparedStatement keysetPage;
+
+    // the position of the last page, where OFFSET has to skip every row before it
+    private int lastPage;
+
+    private Timestamp cursorDate;
+
+    private int cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("berliz.benchmark.url", "jdbc:postgresql://localhost:5432/berliz_benchmark"),
+                System.getProperty("berliz.benchmark.user", "postgres"),
+                System.getProperty("berliz.benchmark.password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id SERIAL PRIMARY KEY, date TIMESTAMP, " +
+                    "name VARCHAR(255))");
+            // a minute apart, with every 1000th row undated like the legacy rows the page queries leave out
+            statement.execute("INSERT INTO " + TABLE + " (date, name) " +
+                    "SELECT CASE WHEN n % 1000 = 0 THEN NULL " +
+                    "ELSE TIMESTAMP '2020-01-01' + n * INTERVAL '1 minute' END, 'row ' || n " +
+                    "FROM generate_series(1, " + rows + ") AS n");
+            statement.execute("CREATE INDEX ON " + TABLE + " (date, id)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+
+        findAll = connection.prepareStatement("SELECT * FROM " + TABLE);
+        listPage = connection.prepareStatement("SELECT * FROM " + TABLE + " ORDER BY id DESC LIMIT ? OFFSET ?");
+        keysetPage = connection.prepareStatement("SELECT * FROM " + TABLE +
+                " WHERE date < ? OR (date = ? AND id < ?) ORDER BY date DESC, id DESC LIMIT ?");
+
+        lastPage = rows / KeysetPage.LIST_LIMIT - 1;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT date, id FROM " + TABLE +
+                " WHERE date IS NOT NULL ORDER BY date DESC, id DESC LIMIT 1 OFFSET ?")) {
+            statement.setInt(1, lastPage * KeysetPage.LIST_LIMIT);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                cursorDate = resultSet.getTimestamp("date");
+                cursorId = resultSet.getInt("id");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int unboundedFindAll() throws SQLException {
+        return count(findAll);
+    }
+
+    @Benchmark
+    public int deepListPage() throws SQLException {
+        listPage.setInt(1, KeysetPage.LIST_LIMIT);
+        listPage.setInt(2, lastPage * KeysetPage.LIST_LIMIT);
+        return count(listPage);
+    }
+
+    @Benchmark
+    public int deepKeysetPage() throws SQLException {
+        keysetPage.setTimestamp(1, cursorDate);
+        keysetPage.setTimestamp(2, cursorDate);
+        keysetPage.setInt(3, cursorId);
+        keysetPage.setInt(4, KeysetPage.LIST_LIMIT);
+        return count(keysetPage);
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ListPageBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.berliz.benchmark;
+
+import com.berliz.JWT.PublicRoutes;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the precompiled {@link PublicRoutes} matcher with the regex the JWT filter used to compile on
+ * every request. Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.berliz.benchmark.PublicRoutesBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicRoutesBenchmark {
+
+    private static final String LEGACY_REGEX = "/user/login|/user/signup|" +
+            "/user/forgotPassword|/newsletter/add|/newsletter/updateStatus|" +
+            "/user/validatePasswordToken|/user/resetPassword|/user/activateAccount|" +
+            "/category/getActiveCategories|/contactUs/add|/dashboard/berliz|/trainer/getActiveTrainers|" +
+            "/center/getActiveCenters|/user/refreshToken|/ws/.*|/user/quickAdd|/user/sendActivationToken/.*" +
+            "/swagger-ui/.*|/api-docs/.*|/swagger-ui.html";
+
+    @Param({"/user/login", "/trainer/getMyTrainer", "/notification/getMyNotifications"})
+    public String path;
+
+    private PublicRoutes publicRoutes;
+
+    @Setup
+    public void setUp() {
+        publicRoutes = new PublicRoutes();
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        String requestPath = path;
+        if (requestPath.startsWith("/images/") || requestPath.startsWith("/videos/")
+                || requestPath.startsWith("/css/") || requestPath.startsWith("/js/")
+                || requestPath.startsWith("/webjars/") || requestPath.startsWith("/public/")) {
+            return true;
+        }
+        return requestPath.matches(LEGACY_REGEX);
+    }
+
+    @Benchmark
+    public boolean publicRoutes() {
+        return publicRoutes.isPublic(path);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PublicRoutesBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
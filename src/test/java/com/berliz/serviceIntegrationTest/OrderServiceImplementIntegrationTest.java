@@ -0,0 +1,157 @@
+package com.berliz.serviceIntegrationTest;
+
+import com.berliz.DTO.CursorPage;
+import com.berliz.JWT.JWTFilter;
+import com.berliz.models.*;
+import com.berliz.services.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the SQL statements of the order history views: reading a user's orders with their user, line items,
+ * products and brands must cost the same number of statements for 2 orders as for 20.
+ */
+@SpringBootTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class OrderServiceImplementIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private JWTFilter jwtFilter;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void getByUser_ShouldIssueAConstantNumberOfStatements() {
+        when(jwtFilter.isAdmin()).thenReturn(true);
+        User few = userWithOrders(2);
+        User many = userWithOrders(20);
+
+        long fewStatements = statementsOf(() -> orderService.getByUser(few.getId()), 2);
+        long manyStatements = statementsOf(() -> orderService.getByUser(many.getId()), 20);
+
+        assertEquals(fewStatements, manyStatements);
+    }
+
+    @Test
+    public void getOrdersPage_ShouldIssueAConstantNumberOfStatements() {
+        when(jwtFilter.isBerlizUser()).thenReturn(true);
+        User user = userWithOrders(20);
+        when(jwtFilter.getCurrentUserId()).thenReturn(user.getId());
+
+        long smallPage = statementsOf(() -> page(orderService.getOrdersPage(null, 2)), 2);
+        long bigPage = statementsOf(() -> page(orderService.getOrdersPage(null, 19)), 19);
+
+        assertEquals(smallPage, bigPage);
+    }
+
+    private interface OrdersCall {
+        ResponseEntity<List<Order>> call();
+    }
+
+    /**
+     * Runs a call on an empty persistence context, walks everything an order view shows and returns the number
+     * of statements that took.
+     */
+    private long statementsOf(OrdersCall call, int expectedOrders) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        ResponseEntity<List<Order>> response = call.call();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedOrders, response.getBody().size());
+        for (Order order : response.getBody()) {
+            order.getUser().getEmail();
+            assertEquals(2, order.getOrderDetailsSet().size());
+            for (OrderDetails orderDetails : order.getOrderDetailsSet()) {
+                orderDetails.getProduct().getName();
+                orderDetails.getProduct().getBrand().getName();
+            }
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static ResponseEntity<List<Order>> page(ResponseEntity<CursorPage<Order>> response) {
+        return new ResponseEntity<>(response.getBody().getItems(), response.getStatusCode());
+    }
+
+    // a user with orders of two line items each, every line item for a product of its own brand
+    private User userWithOrders(int orders) {
+        User user = user();
+        Partner partner = new Partner();
+        partner.setUser(user);
+        entityManager.persist(partner);
+        Store store = new Store();
+        store.setPartner(partner);
+        store.setName("Store");
+        entityManager.persist(store);
+
+        for (int i = 0; i < orders; i++) {
+            Order order = new Order();
+            order.setUser(user);
+            order.setUuid(UUID.randomUUID().toString());
+            order.setDate(new Date(System.currentTimeMillis() - i * 1000L));
+            for (int j = 0; j < 2; j++) {
+                Brand brand = new Brand();
+                brand.setName("Brand " + i + "-" + j);
+                entityManager.persist(brand);
+                Product product = new Product();
+                product.setStore(store);
+                product.setBrand(brand);
+                product.setName("Product " + i + "-" + j);
+                entityManager.persist(product);
+                OrderDetails orderDetails = new OrderDetails();
+                orderDetails.setProduct(product);
+                orderDetails.setQuantity(1);
+                entityManager.persist(orderDetails);
+                order.getOrderDetailsSet().add(orderDetails);
+            }
+            entityManager.persist(order);
+        }
+        return user;
+    }
+
+    private User user() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@berliz.test");
+        user.setPassword("password");
+        user.setRole("user");
+        user.setDate(new Date());
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,136 @@
+package com.berliz.serviceUnitTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.berliz.models.MediaBlob;
+import com.berliz.serviceImplement.MediaServiceImplement;
+import com.berliz.utils.ImageRenditions;
+import com.berliz.utils.MediaStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaServiceImplementTest {
+
+    @Mock
+    private MediaStore mediaStore;
+
+    @Mock
+    private ImageRenditions imageRenditions;
+
+    @InjectMocks
+    private MediaServiceImplement mediaService;
+
+    private MediaBlob blob;
+
+    @BeforeEach
+    void setUp() {
+        blob = new MediaBlob();
+        blob.setData(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'});
+        blob.setHash(MediaStore.hash(blob.getData()));
+        blob.setSize(blob.getData().length);
+        blob.setDate(new Date(1_700_000_000_000L));
+    }
+
+    @Test
+    void getMedia_ShouldReturnContentWithCachingHeaders() {
+        when(mediaStore.isPublic(blob.getHash())).thenReturn(true);
+        when(mediaStore.find(blob.getHash())).thenReturn(Optional.of(blob));
+
+        ResponseEntity<byte[]> response = mediaService.getMedia(blob.getHash(), null, webRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(blob.getData(), response.getBody());
+        HttpHeaders headers = response.getHeaders();
+        assertEquals("\"" + blob.getHash() + "\"", headers.getETag());
+        assertEquals(blob.getDate().getTime(), headers.getLastModified());
+        assertTrue(headers.getCacheControl().contains("immutable"));
+        assertEquals("image/png", headers.getContentType().toString());
+    }
+
+    @Test
+    void getMedia_ShouldReturnNotModified_WithoutReadingTheBlob_WhenETagMatches() {
+        ResponseEntity<byte[]> response = mediaService.getMedia(blob.getHash(), null,
+                webRequest("\"" + blob.getHash() + "\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(mediaStore, never()).find(anyString());
+    }
+
+    @Test
+    void getMedia_ShouldServeTheRendition_WhenItIsCached(@TempDir Path dir) throws Exception {
+        Path thumb = Files.write(dir.resolve("thumb.jpg"), new byte[]{1, 2, 3});
+        when(mediaStore.isPublic(blob.getHash())).thenReturn(true);
+        when(imageRenditions.find(blob.getHash(), ImageRenditions.Rendition.THUMB)).thenReturn(Optional.of(thumb));
+
+        ResponseEntity<byte[]> response = mediaService.getMedia(blob.getHash(), "thumb", webRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(new byte[]{1, 2, 3}, response.getBody());
+        assertEquals("\"" + blob.getHash() + "-thumb\"", response.getHeaders().getETag());
+        assertEquals("image/jpeg", response.getHeaders().getContentType().toString());
+        verify(mediaStore, never()).find(anyString());
+    }
+
+    @Test
+    void getMedia_ShouldServeTheOriginalBriefly_WhileTheRenditionIsPending() {
+        when(mediaStore.isPublic(blob.getHash())).thenReturn(true);
+        when(imageRenditions.find(blob.getHash(), ImageRenditions.Rendition.CARD)).thenReturn(Optional.empty());
+        when(mediaStore.find(blob.getHash())).thenReturn(Optional.of(blob));
+
+        ResponseEntity<byte[]> response = mediaService.getMedia(blob.getHash(), "card", webRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(blob.getData(), response.getBody());
+        assertNull(response.getHeaders().getETag());
+        assertFalse(response.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    @Test
+    void getMedia_ShouldReturnNotFound_ForMalformedOrUnknownHash() {
+        assertEquals(HttpStatus.NOT_FOUND, mediaService.getMedia("../etc/passwd", null, webRequest(null)).getStatusCode());
+
+        String unknown = MediaStore.hash(new byte[]{1});
+        when(mediaStore.isPublic(unknown)).thenReturn(true);
+        when(mediaStore.find(unknown)).thenReturn(Optional.empty());
+        assertEquals(HttpStatus.NOT_FOUND, mediaService.getMedia(unknown, null, webRequest(null)).getStatusCode());
+    }
+
+    @Test
+    void getMedia_ShouldNotServeBlobs_ThatNoPublicColumnReferences() {
+        // e.g. a partner CV: its hash is in the media store but only behind /partner/getDocument
+        when(mediaStore.isPublic(blob.getHash())).thenReturn(false);
+
+        assertEquals(HttpStatus.NOT_FOUND, mediaService.getMedia(blob.getHash(), null, webRequest(null)).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, mediaService.getMedia(blob.getHash(), "thumb", webRequest(null)).getStatusCode());
+        verify(mediaStore, never()).find(anyString());
+        verifyNoInteractions(imageRenditions);
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
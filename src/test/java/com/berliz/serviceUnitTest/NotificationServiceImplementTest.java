@@ -0,0 +1,111 @@
+package com.berliz.serviceUnitTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.berliz.DTO.CursorPage;
+import com.berliz.JWT.JWTFilter;
+import com.berliz.models.Notification;
+import com.berliz.repositories.NotificationRepo;
+import com.berliz.serviceImplement.NotificationServiceImplement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class NotificationServiceImplementTest {
+
+    private static final int USER_ID = 1;
+
+    @Mock
+    private NotificationRepo notificationRepo;
+
+    @Mock
+    private JWTFilter jwtFilter;
+
+    @InjectMocks
+    private NotificationServiceImplement notificationService;
+
+    // 5 unread and 4 read notifications, several sharing a date so the id breaks ties
+    private final List<Notification> inbox = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 9; id++) {
+            Notification notification = new Notification();
+            notification.setId(id);
+            notification.setRead(id % 2 == 0);
+            notification.setDate(new Date(1_700_000_000_000L + (id / 3) * 1000L));
+            inbox.add(notification);
+        }
+        when(jwtFilter.isBerlizUser()).thenReturn(true);
+        when(jwtFilter.getCurrentUserId()).thenReturn(USER_ID);
+        // stand-ins for the two range queries, one read state at a time
+        when(notificationRepo.findInbox(anyInt(), anyBoolean(), any(Pageable.class))).thenAnswer(invocation ->
+                range(invocation.getArgument(1), null, null, invocation.getArgument(2)));
+        when(notificationRepo.findInboxAfter(anyInt(), anyBoolean(), any(Date.class), anyInt(), any(Pageable.class)))
+                .thenAnswer(invocation -> range(invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3), invocation.getArgument(4)));
+    }
+
+    @Test
+    void getInbox_ShouldWalkUnreadThenRead_NewestFirst_AcrossBothRanges() {
+        List<Notification> expected = new ArrayList<>(range(false, null, null, Pageable.unpaged()));
+        expected.addAll(range(true, null, null, Pageable.unpaged()));
+
+        assertEquals(expected, walk(false));
+    }
+
+    @Test
+    void getInbox_ShouldStopAfterTheUnreadRange_WhenOnlyUnreadIsAsked() {
+        assertEquals(range(false, null, null, Pageable.unpaged()), walk(true));
+        verify(notificationRepo, never()).findInbox(anyInt(), eq(true), any(Pageable.class));
+    }
+
+    @Test
+    void getInbox_ShouldRejectACursorItDidNotIssue() {
+        ResponseEntity<CursorPage<Notification>> response = notificationService.getInbox("not-a-cursor", 2, false);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    private List<Notification> walk(boolean unreadOnly) {
+        List<Notification> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResponseEntity<CursorPage<Notification>> response = notificationService.getInbox(cursor, 2, unreadOnly);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertTrue(response.getBody().getItems().size() <= 2);
+            seen.addAll(response.getBody().getItems());
+            cursor = response.getBody().getNextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private List<Notification> range(boolean read, Date date, Integer id, Pageable pageable) {
+        return inbox.stream()
+                .filter(notification -> notification.isRead() == read)
+                .filter(notification -> date == null || notification.getDate().before(date)
+                        || (notification.getDate().equals(date) && notification.getId() < id))
+                .sorted(Comparator.comparing(Notification::getDate).thenComparing(Notification::getId).reversed())
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .toList();
+    }
+}
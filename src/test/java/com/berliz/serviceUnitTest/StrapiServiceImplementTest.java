@@ -0,0 +1,301 @@
+package com.berliz.serviceUnitTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.berliz.DTO.StrapiPhotoMetadata;
+import com.berliz.serviceImplement.StrapiServiceImplement;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the Strapi client against a local stand-in for the Strapi upload API.
+ */
+public class StrapiServiceImplementTest {
+
+    private static final long UPLOAD_LATENCY_MS = 200;
+
+    private static final Pattern FILENAME = Pattern.compile("filename=\"([^\"]+)\"");
+
+    private static final Pattern ID_FILTER = Pattern.compile("filters\\[id]\\[\\$in]\\[\\d+]=(\\d+)");
+
+    private HttpServer strapi;
+
+    private ExecutorService strapiThreads;
+
+    private StrapiServiceImplement strapiService;
+
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final Set<Integer> stored = ConcurrentHashMap.newKeySet();
+
+    private final List<Integer> deleted = new ArrayList<>();
+
+    private final List<String> lookups = new ArrayList<>();
+
+    // injected into file lookups: a delay before answering, and a status to answer with instead of the file
+    private volatile long lookupDelayMs;
+
+    private volatile int lookupStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        strapi = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        strapiThreads = Executors.newFixedThreadPool(16);
+        strapi.setExecutor(strapiThreads);
+        strapi.createContext("/api/auth/local", exchange -> respond(exchange, 200, "{\"jwt\":\"token\"}"));
+        strapi.createContext("/api/upload", this::handleUpload);
+        strapi.createContext("/api/upload/files", this::handleFiles);
+        strapi.start();
+
+        strapiService = new StrapiServiceImplement();
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(strapiService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(strapiService, "strapiBaseUrl",
+                "http://localhost:" + strapi.getAddress().getPort());
+        ReflectionTestUtils.setField(strapiService, "email", "berliz@example.com");
+        ReflectionTestUtils.setField(strapiService, "password", "secret");
+        ReflectionTestUtils.setField(strapiService, "uploadThreads", 4);
+        ReflectionTestUtils.setField(strapiService, "uploadQueueCapacity", 64);
+        ReflectionTestUtils.setField(strapiService, "metadataCacheMaxSize", 1000L);
+        ReflectionTestUtils.setField(strapiService, "metadataCacheTtlMinutes", 60L);
+        ReflectionTestUtils.setField(strapiService, "maxConnections", 8);
+        ReflectionTestUtils.setField(strapiService, "connectTimeoutMs", 500L);
+        ReflectionTestUtils.setField(strapiService, "readTimeoutMs", 500L);
+        ReflectionTestUtils.setField(strapiService, "poolWaitMs", 500L);
+        ReflectionTestUtils.setField(strapiService, "circuitFailureThreshold", 3);
+        ReflectionTestUtils.setField(strapiService, "circuitOpenMs", 300L);
+        strapiService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        strapiService.shutdown();
+        strapi.stop(0);
+        strapiThreads.shutdownNow();
+    }
+
+    @Test
+    void uploadMultiplePhotos_ShouldUploadInParallel_AndKeepTheOrderOfTheFiles() throws Exception {
+        int count = 12;
+        List<MultipartFile> files = photos(count, -1);
+
+        long started = System.nanoTime();
+        List<StrapiPhotoMetadata> results = strapiService.uploadMultiplePhotos(files);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.println(count + " uploads of " + UPLOAD_LATENCY_MS + " ms each took " + elapsedMs + " ms, "
+                + (count * UPLOAD_LATENCY_MS) + " ms one after another");
+        assertTrue(elapsedMs < count * UPLOAD_LATENCY_MS / 2, "uploads did not run in parallel: " + elapsedMs + " ms");
+        assertEquals(count, results.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("photo-" + i + ".jpg", results.get(i).getName());
+            assertNotNull(results.get(i).getId());
+        }
+        assertEquals(count, stored.size());
+    }
+
+    @Test
+    void uploadMultiplePhotos_ShouldDeleteTheUploadedPhotos_WhenOneUploadFails() {
+        List<MultipartFile> files = photos(8, 5);
+
+        assertThrows(IOException.class, () -> strapiService.uploadMultiplePhotos(files));
+
+        assertTrue(stored.isEmpty(), "left behind in Strapi: " + stored);
+        synchronized (deleted) {
+            assertFalse(deleted.isEmpty());
+        }
+    }
+
+    @Test
+    void getPhotosFromStrapiByIds_ShouldOnlyFetchTheMisses_InOneRequest() {
+        stored.addAll(List.of(1, 2, 3, 4));
+
+        List<StrapiPhotoMetadata> first = strapiService.getPhotosFromStrapiByIds(List.of(3, 1, 2));
+        assertEquals(List.of(3, 1, 2), first.stream().map(StrapiPhotoMetadata::getId).toList());
+        assertEquals(List.of("1,2,3"), lookups());
+
+        List<StrapiPhotoMetadata> second = strapiService.getPhotosFromStrapiByIds(List.of(2, 4, 3, 4));
+        assertEquals(List.of(2, 4, 3, 4), second.stream().map(StrapiPhotoMetadata::getId).toList());
+        assertEquals(List.of("1,2,3", "4"), lookups());
+
+        assertEquals("photo-1.jpg", strapiService.getPhotoFromStrapiById(1).getName());
+        assertEquals(2, lookups().size());
+    }
+
+    @Test
+    void getPhotoFromStrapiById_ShouldUseTheUploadResult_UntilThePhotoIsUpdated() throws Exception {
+        StrapiPhotoMetadata uploaded = strapiService.uploadMultiplePhotos(photos(1, -1)).get(0);
+
+        assertSame(uploaded, strapiService.getPhotoFromStrapiById(uploaded.getId()));
+        assertTrue(lookups().isEmpty());
+
+        strapiService.updatePhotoMetadataInStrapi(uploaded.getId(), "renamed.jpg", "caption");
+        strapiService.getPhotoFromStrapiById(uploaded.getId());
+        assertEquals(List.of(String.valueOf(uploaded.getId())), lookups());
+
+        strapiService.deletePhotoFromStrapi(uploaded.getId());
+        assertThrows(RuntimeException.class, () -> strapiService.getPhotoFromStrapiById(uploaded.getId()));
+        assertEquals(2, lookups().size());
+    }
+
+    @Test
+    void getPhotoFromStrapiById_ShouldGiveUpAtTheReadTimeout_WhenStrapiHangs() {
+        stored.add(1);
+        lookupDelayMs = 3000;
+
+        long started = System.nanoTime();
+        assertThrows(RuntimeException.class, () -> strapiService.getPhotoFromStrapiById(1));
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMs < 1500, "waited " + elapsedMs + " ms for a hanging Strapi");
+        assertEquals(1, meterRegistry.get("berliz.strapi.requests")
+                .tags("operation", "metadata", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void call_ShouldOpenTheCircuitAfterRepeatedFailures_AndCloseItOnceStrapiRecovers() throws Exception {
+        stored.addAll(List.of(1, 2, 3, 4, 5));
+        lookupStatus = 503;
+
+        for (int id = 1; id <= 3; id++) {
+            int photoId = id;
+            assertThrows(RuntimeException.class, () -> strapiService.getPhotoFromStrapiById(photoId));
+        }
+        assertEquals(3, lookups().size());
+
+        // open: refused without reaching Strapi
+        assertThrows(RuntimeException.class, () -> strapiService.getPhotoFromStrapiById(4));
+        assertEquals(3, lookups().size());
+        assertEquals(1, meterRegistry.get("berliz.strapi.requests.rejected")
+                .tag("operation", "metadata").counter().count());
+
+        // after the open period one trial call goes through, and closes the circuit when it succeeds
+        lookupStatus = 0;
+        Thread.sleep(400);
+        assertEquals("photo-4.jpg", strapiService.getPhotoFromStrapiById(4).getName());
+        assertEquals("photo-5.jpg", strapiService.getPhotoFromStrapiById(5).getName());
+        assertEquals(5, lookups().size());
+        assertEquals(2, meterRegistry.get("berliz.strapi.requests")
+                .tags("operation", "metadata", "outcome", "success").timer().count());
+    }
+
+    private List<String> lookups() {
+        synchronized (lookups) {
+            return new ArrayList<>(lookups);
+        }
+    }
+
+    private static List<MultipartFile> photos(int count, int failing) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = i == failing ? "fail-" + i + ".jpg" : "photo-" + i + ".jpg";
+            files.add(new MockMultipartFile("photos", name, "image/jpeg", new byte[1024]));
+        }
+        return files;
+    }
+
+    private void handleUpload(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+        Matcher matcher = FILENAME.matcher(body);
+        String name = matcher.find() ? matcher.group(1) : "unknown";
+        sleep(UPLOAD_LATENCY_MS);
+        if (name.startsWith("fail")) {
+            respond(exchange, 500, "{\"error\":\"upload failed\"}");
+            return;
+        }
+        int id = nextId.getAndIncrement();
+        stored.add(id);
+        respond(exchange, 200, "[{\"id\":" + id + ",\"name\":\"" + name + "\",\"url\":\"/uploads/" + name
+                + "\",\"mime\":\"image/jpeg\",\"size\":1.02}]");
+    }
+
+    private void handleFiles(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals("/api/upload/files")) {
+            // list lookup, answer with the stored ids of the filter
+            List<String> ids = new ArrayList<>();
+            StringBuilder data = new StringBuilder();
+            Matcher matcher = ID_FILTER.matcher(exchange.getRequestURI().getQuery());
+            while (matcher.find()) {
+                int id = Integer.parseInt(matcher.group(1));
+                ids.add(String.valueOf(id));
+                if (stored.contains(id)) {
+                    data.append(data.length() == 0 ? "" : ",").append(fileJson(id));
+                }
+            }
+            ids.sort(null);
+            synchronized (lookups) {
+                lookups.add(String.join(",", ids));
+            }
+            respond(exchange, 200, "{\"data\":[" + data + "]}");
+            return;
+        }
+
+        int id = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+        switch (method) {
+            case "GET" -> {
+                synchronized (lookups) {
+                    lookups.add(String.valueOf(id));
+                }
+                sleep(lookupDelayMs);
+                if (lookupStatus != 0) {
+                    respond(exchange, lookupStatus, "{}");
+                    return;
+                }
+                respond(exchange, stored.contains(id) ? 200 : 404,
+                        stored.contains(id) ? "{\"data\":" + fileJson(id) + "}" : "{\"data\":null}");
+            }
+            case "PUT" -> respond(exchange, 200, "{}");
+            default -> {
+                synchronized (deleted) {
+                    deleted.add(id);
+                }
+                respond(exchange, stored.remove(id) ? 200 : 404, "{}");
+            }
+        }
+    }
+
+    private static String fileJson(int id) {
+        return "{\"id\":" + id + ",\"attributes\":{\"name\":\"photo-" + id + ".jpg\",\"caption\":\"\","
+                + "\"mime\":\"image/jpeg\",\"size\":1.02,\"url\":\"/uploads/photo-" + id + ".jpg\"}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.berliz.serviceUnitTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.berliz.JWT.AuthenticatedUser;
+import com.berliz.JWT.UserRole;
+import com.berliz.serviceImplement.VideoServiceImplement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+public class VideoServiceImplementTest {
+
+    @TempDir
+    Path videoDir;
+
+    private VideoServiceImplement videoService;
+
+    private byte[] video;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        videoService = new VideoServiceImplement();
+        ReflectionTestUtils.setField(videoService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(videoService, "maxStreamsPerUser", 2);
+        ReflectionTestUtils.setField(videoService, "maxRangeBytes", 1000L);
+        videoService.init();
+        @SuppressWarnings("unchecked")
+        Map<String, String> locations = (Map<String, String>) ReflectionTestUtils.getField(videoService, "locations");
+        locations.put("feature", videoDir.toString() + "/");
+
+        video = new byte[5000];
+        for (int i = 0; i < video.length; i++) {
+            video[i] = (byte) i;
+        }
+        Files.write(videoDir.resolve("trainer_video-1"), video);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void streamVideo_ShouldReturnPartialContent_ForARange() throws Exception {
+        ResponseEntity<StreamingResponseBody> response =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=100-299", null));
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 100-299/5000", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(200, response.getHeaders().getContentLength());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertArrayEquals(Arrays.copyOfRange(video, 100, 300), body(response));
+    }
+
+    @Test
+    void streamVideo_ShouldCapOpenEndedRanges() throws Exception {
+        ResponseEntity<StreamingResponseBody> response =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=4500-", null));
+        assertEquals("bytes 4500-4999/5000", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(Arrays.copyOfRange(video, 4500, 5000), body(response));
+
+        response = videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+        assertEquals("bytes 0-999/5000", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(Arrays.copyOfRange(video, 0, 1000), body(response));
+    }
+
+    @Test
+    void streamVideo_ShouldReturnTheWholeFile_WithoutRange_OrWhenIfRangeIsStale() throws Exception {
+        ResponseEntity<StreamingResponseBody> response =
+                videoService.streamVideo("feature", "trainer_video-1", request(null, null));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(video, body(response));
+
+        response = videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-10", "\"stale\""));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5000, response.getHeaders().getContentLength());
+        body(response);
+    }
+
+    @Test
+    void streamVideo_ShouldRejectUnsatisfiableRanges_AndUnknownFiles() throws Exception {
+        ResponseEntity<StreamingResponseBody> response =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=6000-7000", null));
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */5000", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+
+        assertEquals(HttpStatus.NOT_FOUND,
+                videoService.streamVideo("feature", "../secret", request(null, null)).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                videoService.streamVideo("unknown", "trainer_video-1", request(null, null)).getStatusCode());
+    }
+
+    @Test
+    void streamVideo_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        ResponseEntity<StreamingResponseBody> first =
+                videoService.streamVideo("feature", "trainer_video-1", request(null, null));
+        body(first);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/video/feature/trainer_video-1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeaders().getETag());
+        ResponseEntity<StreamingResponseBody> response = videoService.streamVideo("feature", "trainer_video-1",
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    }
+
+    @Test
+    void streamVideo_ShouldLimitConcurrentStreamsPerClient() throws Exception {
+        ResponseEntity<StreamingResponseBody> first =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+        ResponseEntity<StreamingResponseBody> second =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+        ResponseEntity<StreamingResponseBody> third =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getStatusCode());
+        assertNotNull(third.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        // a finished stream frees its slot
+        body(first);
+        ResponseEntity<StreamingResponseBody> fourth =
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+        assertEquals(HttpStatus.PARTIAL_CONTENT, fourth.getStatusCode());
+        body(second);
+        body(fourth);
+    }
+
+    @Test
+    void streamVideo_ShouldLimitStreamsPerUser_NotPerSharedAddress() throws Exception {
+        // two users and an anonymous visitor behind the same NAT address
+        signIn(1);
+        ResponseEntity<StreamingResponseBody> first = stream("10.0.0.1");
+        ResponseEntity<StreamingResponseBody> second = stream("10.0.0.1");
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, stream("10.0.0.1").getStatusCode());
+        // the budget follows the user to another address
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, stream("10.0.0.2").getStatusCode());
+
+        signIn(2);
+        ResponseEntity<StreamingResponseBody> otherUser = stream("10.0.0.1");
+        assertEquals(HttpStatus.PARTIAL_CONTENT, otherUser.getStatusCode());
+
+        SecurityContextHolder.clearContext();
+        ResponseEntity<StreamingResponseBody> anonymous = stream("10.0.0.1");
+        assertEquals(HttpStatus.PARTIAL_CONTENT, anonymous.getStatusCode());
+
+        body(first);
+        body(second);
+        body(otherUser);
+        body(anonymous);
+    }
+
+    @Test
+    void streamVideo_ShouldReturnTheSlot_WhenTheRequestEndsWithoutRunningTheBody() throws Exception {
+        // e.g. an error before the async dispatch: the body is never written
+        ServletWebRequest first = request("bytes=0-", null);
+        videoService.streamVideo("feature", "trainer_video-1", first);
+        videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null)).getStatusCode());
+
+        first.requestCompleted();
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT,
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null)).getStatusCode());
+    }
+
+    @Test
+    void streamVideo_ShouldReturnTheSlot_WhenTheAsyncRequestEndsBeforeTheBodyRuns() throws Exception {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/video/feature/trainer_video-1");
+        servletRequest.setAsyncSupported(true);
+        servletRequest.addHeader(HttpHeaders.RANGE, "bytes=0-");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(servletRequest, servletResponse);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(servletRequest, servletResponse));
+        asyncManager.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+        videoService.streamVideo("feature", "trainer_video-1", webRequest);
+        videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null));
+        // the body is still queued when the timeout or the client's disconnect ends the request
+        CountDownLatch neverDispatched = new CountDownLatch(1);
+        asyncManager.startCallableProcessing(() -> {
+            neverDispatched.await();
+            return null;
+        });
+        // the first dispatch returns while the stream goes on, it keeps its slot
+        webRequest.requestCompleted();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null)).getStatusCode());
+
+        servletRequest.getAsyncContext().complete();
+        neverDispatched.countDown();
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT,
+                videoService.streamVideo("feature", "trainer_video-1", request("bytes=0-", null)).getStatusCode());
+    }
+
+    private static void signIn(int userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String remoteAddr) throws IOException {
+        ServletWebRequest webRequest = request("bytes=0-", null);
+        ((MockHttpServletRequest) webRequest.getRequest()).setRemoteAddr(remoteAddr);
+        return videoService.streamVideo("feature", "trainer_video-1", webRequest);
+    }
+
+    private static ServletWebRequest request(String range, String ifRange) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/video/feature/trainer_video-1");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        if (ifRange != null) {
+            request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static byte[] body(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+}
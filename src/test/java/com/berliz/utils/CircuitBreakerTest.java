@@ -0,0 +1,49 @@
+package com.berliz.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CircuitBreakerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldRefuseCalls_AfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 10, TimeUnit.SECONDS);
+        long now = 1_000 * SECOND;
+
+        breaker.onFailure(now);
+        breaker.onFailure(now);
+        breaker.onSuccess();
+        breaker.onFailure(now);
+        breaker.onFailure(now);
+        assertTrue(breaker.tryAcquire(now), "a success in between resets the count");
+
+        breaker.onFailure(now);
+        assertFalse(breaker.tryAcquire(now));
+        assertFalse(breaker.tryAcquire(now + 9 * SECOND));
+    }
+
+    @Test
+    void tryAcquire_ShouldLetOneTrialThrough_OnceTheOpenPeriodIsOver() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 10, TimeUnit.SECONDS);
+        long now = 1_000 * SECOND;
+        breaker.onFailure(now);
+
+        long later = now + 11 * SECOND;
+        assertTrue(breaker.tryAcquire(later));
+        assertFalse(breaker.tryAcquire(later), "only one trial call at a time");
+
+        breaker.onFailure(later);
+        assertFalse(breaker.tryAcquire(later + 5 * SECOND), "a failed trial reopens the circuit");
+
+        assertTrue(breaker.tryAcquire(later + 11 * SECOND));
+        breaker.onSuccess();
+        assertTrue(breaker.tryAcquire(later + 11 * SECOND));
+        assertTrue(breaker.tryAcquire(later + 11 * SECOND));
+    }
+}
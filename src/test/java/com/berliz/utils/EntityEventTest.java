@@ -0,0 +1,105 @@
+package com.berliz.utils;
+
+import com.berliz.JWT.JacksonConfig;
+import com.berliz.models.Category;
+import com.berliz.models.MediaBlob;
+import com.berliz.models.Partner;
+import com.berliz.models.Trainer;
+import com.berliz.models.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityEventTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void of_ShouldCarryTypeActionIdAndChangedFieldsOnly() throws Exception {
+        Trainer trainer = trainer(7, 200 * 1024);
+
+        JsonNode event = objectMapper.readTree(objectMapper.writeValueAsBytes(
+                EntityEvent.of("/topic/likeTrainer", trainer, Map.of("likes", trainer.getLikes()), 42L)));
+
+        assertEquals("Trainer", event.get("type").asText());
+        assertEquals("likeTrainer", event.get("action").asText());
+        assertEquals(7, event.get("id").asInt());
+        assertEquals(3, event.get("fields").get("likes").asInt());
+        assertEquals(42L, event.get("version").asLong());
+        assertTrue(event.get("ids") == null);
+    }
+
+    @Test
+    void of_ShouldCollectIds_ForLists() throws Exception {
+        JsonNode event = objectMapper.readTree(objectMapper.writeValueAsBytes(
+                EntityEvent.of("/topic/getTrainerFromMap", List.of(trainer(1, 0), trainer(2, 0)), null, 1L)));
+
+        assertEquals("Trainer", event.get("type").asText());
+        assertEquals(2, event.get("ids").size());
+        assertTrue(event.get("id") == null);
+    }
+
+    @Test
+    void slimEvent_ShouldBeAFractionOfTheFullEntity() throws Exception {
+        // a trainer with a 200 KB photo, as broadcast on /topic/likeTrainer for every like; the photo itself
+        // is only a media URL in the entity json
+        Trainer trainer = trainer(7, 200 * 1024);
+
+        int fullBytes = objectMapper.writeValueAsBytes(trainer).length;
+        int slimBytes = objectMapper.writeValueAsBytes(
+                EntityEvent.of("/topic/likeTrainer", trainer, Map.of("likes", trainer.getLikes()), 1L)).length;
+
+        System.out.println("likeTrainer payload: full entity " + fullBytes + " bytes, slim event " + slimBytes + " bytes");
+        assertTrue(fullBytes < 200 * 1024);
+        assertTrue(slimBytes < 256);
+        assertTrue(slimBytes * 2 < fullBytes);
+    }
+
+    private static Trainer trainer(int id, int photoBytes) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("trainer" + id + "@berliz.com");
+        user.setRole("partner");
+        user.setProfilePhoto(blob(photoBytes));
+
+        Partner partner = new Partner();
+        partner.setId(id);
+        partner.setUser(user);
+        partner.setMotivation("Helping people get fit");
+
+        Category category = new Category();
+        category.setId(1);
+        category.setName("Strength");
+        category.setDescription("Strength training");
+
+        Trainer trainer = new Trainer();
+        trainer.setId(id);
+        trainer.setName("Trainer " + id);
+        trainer.setMotto("No pain, no gain");
+        trainer.setAddress("Berlin");
+        trainer.setExperience("5 years");
+        trainer.setPhoto(blob(photoBytes));
+        trainer.setLikes(3);
+        trainer.setPartner(partner);
+        trainer.getCategorySet().add(category);
+        trainer.setDate(new Date());
+        trainer.setLastUpdate(new Date());
+        trainer.setStatus("true");
+        return trainer;
+    }
+
+    private static MediaBlob blob(int size) {
+        MediaBlob blob = new MediaBlob();
+        blob.setData(new byte[size]);
+        blob.setHash(MediaStore.hash(blob.getData()));
+        blob.setSize(size);
+        return blob;
+    }
+}
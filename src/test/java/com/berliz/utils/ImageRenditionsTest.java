@@ -0,0 +1,106 @@
+package com.berliz.utils;
+
+import com.berliz.repositories.MediaBlobRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ImageRenditionsTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private ImageRenditions imageRenditions;
+
+    private MediaBlobRepo mediaBlobRepo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mediaBlobRepo = mock(MediaBlobRepo.class);
+        imageRenditions = new ImageRenditions();
+        imageRenditions.mediaBlobRepo = mediaBlobRepo;
+        imageRenditions.meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(imageRenditions, "threads", 1);
+        ReflectionTestUtils.setField(imageRenditions, "queueCapacity", 4);
+        ReflectionTestUtils.setField(imageRenditions, "jpegQuality", 0.82f);
+        ReflectionTestUtils.setField(imageRenditions, "cacheDir", cacheDir.toString());
+        imageRenditions.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageRenditions.shutdown();
+    }
+
+    @Test
+    void render_ShouldWriteEveryRenditionWithinItsBounds() throws Exception {
+        byte[] original = png(3000, 2000);
+        String hash = MediaStore.hash(original);
+
+        imageRenditions.render(hash, original);
+
+        for (ImageRenditions.Rendition rendition : ImageRenditions.Rendition.values()) {
+            Path path = imageRenditions.path(hash, rendition);
+            BufferedImage image = ImageIO.read(path.toFile());
+            assertEquals(rendition.getMaxEdge(), image.getWidth());
+            assertEquals(Math.round(2000 * (double) rendition.getMaxEdge() / 3000), image.getHeight());
+            System.out.println(rendition.key() + ": " + Files.size(path) + " bytes");
+        }
+        assertTrue(Files.size(imageRenditions.path(hash, ImageRenditions.Rendition.THUMB)) < 20 * 1024);
+        assertTrue(imageRenditions.find(hash, ImageRenditions.Rendition.CARD).isPresent());
+    }
+
+    @Test
+    void render_ShouldNotUpscaleSmallImages() throws Exception {
+        byte[] original = png(100, 50);
+        String hash = MediaStore.hash(original);
+
+        imageRenditions.render(hash, original);
+
+        BufferedImage full = ImageIO.read(imageRenditions.path(hash, ImageRenditions.Rendition.FULL).toFile());
+        assertEquals(100, full.getWidth());
+        assertEquals(50, full.getHeight());
+    }
+
+    @Test
+    void find_ShouldNotRescheduleContentThatIsNotAnImage() throws Exception {
+        byte[] pdf = "%PDF-1.4 not an image".getBytes();
+        String hash = MediaStore.hash(pdf);
+
+        imageRenditions.render(hash, pdf);
+
+        assertTrue(imageRenditions.find(hash, ImageRenditions.Rendition.THUMB).isEmpty());
+        assertFalse(Files.exists(imageRenditions.path(hash, ImageRenditions.Rendition.THUMB)));
+        verifyNoInteractions(mediaBlobRepo);
+    }
+
+    // a gradient with noise, so the JPEG sizes are close to those of a photo
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        Random random = new Random(42);
+        for (int i = 0; i < width * height / 20; i++) {
+            image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+}
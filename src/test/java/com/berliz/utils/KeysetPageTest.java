@@ -0,0 +1,110 @@
+package com.berliz.utils;
+
+import com.berliz.DTO.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetPageTest {
+
+    private record Row(Date date, Integer id) {
+    }
+
+    private static final Comparator<Row> NEWEST_FIRST =
+            Comparator.comparing(Row::date).thenComparing(Row::id).reversed();
+
+    // 250 rows, several sharing each date, so the id has to break ties
+    private final List<Row> table = rows(250);
+
+    @Test
+    void fetch_ShouldWalkEveryRowOnce_InOrder() {
+        List<Row> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ResponseEntity<CursorPage<Row>> response = fetch(cursor, 40);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            CursorPage<Row> page = response.getBody();
+            assertTrue(page.getItems().size() <= 40);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertEquals(cursor != null, page.isHasMore());
+            pages++;
+        } while (cursor != null);
+
+        List<Row> expected = new ArrayList<>(table);
+        expected.sort(NEWEST_FIRST);
+        assertEquals(expected, seen);
+        assertEquals(7, pages);
+    }
+
+    @Test
+    void fetch_ShouldApplyTheDefaultAndMaximumLimit() {
+        assertEquals(KeysetPage.DEFAULT_LIMIT, fetch(null, null).getBody().getItems().size());
+        assertEquals(KeysetPage.MAX_LIMIT, fetch(null, 10_000).getBody().getItems().size());
+        assertEquals(1, fetch("", 0).getBody().getItems().size());
+    }
+
+    @Test
+    void fetch_ShouldRejectACursorItDidNotIssue() {
+        ResponseEntity<CursorPage<Row>> response = fetch("not-a-cursor", 10);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody().getItems().isEmpty());
+    }
+
+    @Test
+    void cursor_ShouldSurviveEncoding() {
+        KeysetPage.Cursor cursor = new KeysetPage.Cursor(new Date(1_700_000_000_123L), 42);
+
+        assertEquals(cursor, KeysetPage.Cursor.decode(cursor.encode()));
+        assertNull(KeysetPage.Cursor.decode("MTIz"));
+    }
+
+    @Test
+    void listPage_ShouldBoundThePlainLists() {
+        Pageable firstPage = KeysetPage.listPage(null, null);
+        assertEquals(0, firstPage.getPageNumber());
+        assertEquals(KeysetPage.LIST_LIMIT, firstPage.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "id"), firstPage.getSort());
+
+        assertEquals(KeysetPage.LIST_LIMIT, KeysetPage.listPage(3, 100_000).getPageSize());
+        assertEquals(1, KeysetPage.listPage(-1, 0).getPageSize());
+        assertEquals(0, KeysetPage.listPage(-1, 0).getPageNumber());
+        assertEquals(50, KeysetPage.listPage(2, 25).getOffset());
+    }
+
+    // stands in for the findPage / findPageAfter named queries
+    private ResponseEntity<CursorPage<Row>> fetch(String cursor, Integer limit) {
+        return KeysetPage.fetch(cursor, limit,
+                pageable -> query(null, pageable),
+                this::query,
+                Row::date, Row::id);
+    }
+
+    private List<Row> query(KeysetPage.Cursor after, Pageable pageable) {
+        return table.stream()
+                .filter(row -> after == null || row.date().before(after.date())
+                        || (row.date().equals(after.date()) && row.id() < after.id()))
+                .sorted(NEWEST_FIRST)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            rows.add(new Row(new Date(1_700_000_000_000L + (id % 30) * 1000L), id));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,171 @@
+package com.berliz.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LikeCounterBufferTest {
+
+    private static final int TRAINER_ID = 7;
+
+    private static final int TOGGLERS = 1000;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ListingCache listingCache;
+
+    @InjectMocks
+    private LikeCounterBuffer likeCounterBuffer;
+
+    // stand-ins for trainer.likes and the trainer_like rows with their unique (user, trainer) constraint
+    private final AtomicLong storedLikes = new AtomicLong();
+
+    private final Set<Integer> likeRows = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        likeCounterBuffer.meterRegistry = new SimpleMeterRegistry();
+        likeCounterBuffer.init();
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                assertEquals(TRAINER_ID, row[1]);
+                storedLikes.addAndGet((Long) row[0]);
+            }
+            return new int[rows.size()];
+        });
+    }
+
+    @Test
+    void toggle_ShouldCountEveryLikeExactly_UnderParallelTogglers() throws Exception {
+        // every user likes once, all at the same time, while the buffer keeps flushing
+        runTogglers(user -> user);
+        assertEquals(TOGGLERS, likeRows.size());
+        assertEquals(TOGGLERS, storedLikes.get());
+
+        // and every user takes the like back
+        runTogglers(user -> user);
+        assertEquals(0, likeRows.size());
+        assertEquals(0, storedLikes.get());
+        assertEquals(0, likeCounterBuffer.pending(LikeCounterBuffer.Target.TRAINER, TRAINER_ID));
+    }
+
+    @Test
+    void toggle_ShouldMatchTheLikeRows_WhenTheSameUserTogglesConcurrently() throws Exception {
+        // pairs of togglers race on the same user: the unique constraint keeps a user to one counted like
+        runTogglers(user -> user % (TOGGLERS / 2));
+
+        assertTrue(likeRows.size() <= TOGGLERS / 2);
+        assertEquals(likeRows.size(), storedLikes.get());
+    }
+
+    @Test
+    void flush_ShouldKeepTheDeltas_WhenTheBatchFails() {
+        likeCounterBuffer.add(LikeCounterBuffer.Target.TRAINER, TRAINER_ID, 3);
+        doThrow(new QueryTimeoutException("timeout")).when(transactionTemplate).executeWithoutResult(any());
+
+        likeCounterBuffer.flush();
+        assertEquals(0, storedLikes.get());
+        assertEquals(3, likeCounterBuffer.pending(LikeCounterBuffer.Target.TRAINER, TRAINER_ID));
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        likeCounterBuffer.flush();
+        assertEquals(3, storedLikes.get());
+        assertEquals(0, likeCounterBuffer.pending(LikeCounterBuffer.Target.TRAINER, TRAINER_ID));
+        verify(listingCache).invalidate(ListingCache.ACTIVE_TRAINERS);
+    }
+
+    private interface UserOfToggler {
+        int user(int toggler);
+    }
+
+    // the toggle of likeTrainer: delete the user's like, or insert it if there was none
+    private void toggle(int user) {
+        boolean unliked = likeCounterBuffer.unlike(LikeCounterBuffer.Target.TRAINER, TRAINER_ID,
+                () -> likeRows.remove(user) ? 1 : 0);
+        if (!unliked) {
+            likeCounterBuffer.like(LikeCounterBuffer.Target.TRAINER, TRAINER_ID, () -> {
+                if (!likeRows.add(user)) {
+                    throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+                }
+            });
+        }
+    }
+
+    private void runTogglers(UserOfToggler userOfToggler) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean toggling = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (toggling.get()) {
+                likeCounterBuffer.flush();
+            }
+        });
+        try {
+            flusher.start();
+            List<Future<?>> togglers = new ArrayList<>();
+            for (int i = 0; i < TOGGLERS; i++) {
+                int user = userOfToggler.user(i);
+                togglers.add(pool.submit(() -> {
+                    start.await();
+                    toggle(user);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> toggler : togglers) {
+                toggler.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            toggling.set(false);
+            flusher.join();
+            pool.shutdown();
+        }
+        likeCounterBuffer.flush();
+    }
+}
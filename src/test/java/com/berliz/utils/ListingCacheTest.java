@@ -0,0 +1,83 @@
+package com.berliz.utils;
+
+import com.berliz.models.Category;
+import com.berliz.models.Center;
+import com.berliz.models.Trainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ListingCacheTest {
+
+    private ListingCache listingCache;
+
+    private ListingCacheInvalidator invalidator;
+
+    private final AtomicInteger trainerLoads = new AtomicInteger();
+
+    private final AtomicInteger centerLoads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        listingCache = new ListingCache();
+        listingCache.meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(listingCache, "ttlSeconds", 300L);
+        listingCache.init();
+
+        invalidator = new ListingCacheInvalidator();
+        invalidator.listingCache = listingCache;
+    }
+
+    @Test
+    void get_ShouldLoadAListingOnce_UntilItIsInvalidated() {
+        assertEquals(List.of("trainer 1"), trainers());
+        assertEquals(List.of("trainer 1"), trainers());
+        assertEquals(1, trainerLoads.get());
+
+        listingCache.invalidate(ListingCache.ACTIVE_TRAINERS);
+
+        assertEquals(List.of("trainer 2"), trainers());
+        assertEquals(2, trainerLoads.get());
+    }
+
+    @Test
+    void onWrite_ShouldOnlyDropTheListingsTheEntityAppearsIn() {
+        trainers();
+        centers();
+
+        invalidator.onWrite(new Trainer());
+        trainers();
+        centers();
+        assertEquals(2, trainerLoads.get());
+        assertEquals(1, centerLoads.get());
+
+        invalidator.onWrite(new Center());
+        trainers();
+        centers();
+        assertEquals(2, trainerLoads.get());
+        assertEquals(2, centerLoads.get());
+
+        // category names are shown on both listings
+        invalidator.onWrite(new Category());
+        trainers();
+        centers();
+        assertEquals(3, trainerLoads.get());
+        assertEquals(3, centerLoads.get());
+    }
+
+    private List<String> trainers() {
+        return listingCache.get(ListingCache.ACTIVE_TRAINERS,
+                () -> List.of("trainer " + trainerLoads.incrementAndGet()));
+    }
+
+    private List<String> centers() {
+        return listingCache.get(ListingCache.ACTIVE_CENTERS,
+                () -> List.of("center " + centerLoads.incrementAndGet()));
+    }
+}
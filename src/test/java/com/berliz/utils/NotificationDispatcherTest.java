@@ -0,0 +1,140 @@
+package com.berliz.utils;
+
+import com.berliz.repositories.UserRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class NotificationDispatcherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @InjectMocks
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationDispatcher.meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(notificationDispatcher, "queueCapacity", 10);
+        ReflectionTestUtils.setField(notificationDispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(notificationDispatcher, "offerTimeoutMs", 10L);
+        notificationDispatcher.init();
+        when(userRepo.findAllAdminIds()).thenReturn(List.of(100, 101, 102));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        notificationDispatcher.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_ShouldWriteUserAndAdminRowsInOneBatch_AndDeliverPerUser() {
+        List<NotificationEvent> batch = List.of(
+                new NotificationEvent(1, "Trainer liked", "Trainer liked by user: a@berliz.com", null, null),
+                new NotificationEvent(2, "Center liked", "Center liked by user: b@berliz.com", null, null),
+                new NotificationEvent(100, "Role updated by admin: c@berliz.com", null, null, null));
+
+        notificationDispatcher.dispatch(batch);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture());
+        // 3 recipients plus 3 admins for each of the 2 events that notify admins
+        assertEquals(9, rows.getValue().size());
+        verify(userRepo, times(1)).findAllAdminIds();
+        verify(unreadNotificationCounter).addUnread(Map.of(1, 1, 2, 1, 100, 3, 101, 2, 102, 2));
+        // each row is delivered to its recipient only, nothing is broadcast
+        verify(simpMessagingTemplate, times(9)).convertAndSendToUser(anyString(), eq("/queue/notification"),
+                anyString());
+        verify(simpMessagingTemplate, never()).convertAndSend(eq("/topic/notification"), anyString());
+    }
+
+    @Test
+    void dispatch_ShouldRetryRowByRow_WhenTheBatchFails_AndDeliverTheRowsThatPersisted() {
+        List<NotificationEvent> batch = List.of(
+                new NotificationEvent(1, "Trainer liked", "Trainer liked by user: a@berliz.com", null, null),
+                new NotificationEvent(2, "Center liked", null, null, null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("violates foreign key constraint"));
+        // user 2 was deleted while the event was queued
+        when(jdbcTemplate.update(anyString(), eq(2), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("violates foreign key constraint"));
+
+        notificationDispatcher.dispatch(batch);
+
+        verify(jdbcTemplate, times(5)).update(anyString(), any(), any(), any());
+        verify(unreadNotificationCounter).addUnread(Map.of(1, 1));
+        verify(unreadNotificationCounter).addUnread(Map.of(100, 1));
+        verify(unreadNotificationCounter).addUnread(Map.of(101, 1));
+        verify(unreadNotificationCounter).addUnread(Map.of(102, 1));
+        verify(unreadNotificationCounter, never()).addUnread(Map.of(2, 1));
+        // user 1 and the admins are notified, the lost row is not delivered
+        verify(simpMessagingTemplate, times(4)).convertAndSendToUser(anyString(), eq("/queue/notification"),
+                anyString());
+        verify(simpMessagingTemplate, never()).convertAndSendToUser(eq("2"), anyString(), anyString());
+        assertEquals(1, notificationDispatcher.meterRegistry.counter("berliz.notifications.failed").count());
+    }
+
+    @Test
+    void publish_ShouldNotFailTheCaller_WhenTheQueueIsFullAndTheDatabaseFails() throws InterruptedException {
+        // stop the worker and fill the queue so the caller dispatches its own event
+        notificationDispatcher.shutdown();
+        BlockingQueue<NotificationEvent> fullQueue = new ArrayBlockingQueue<>(1);
+        fullQueue.add(new NotificationEvent(1, "Queued", null, null, null));
+        ReflectionTestUtils.setField(notificationDispatcher, "queue", fullQueue);
+        when(userRepo.findAllAdminIds()).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        assertDoesNotThrow(() -> notificationDispatcher.publish(2, "Trainer liked",
+                "Trainer liked by user: a@berliz.com", null, null));
+        assertEquals(1, notificationDispatcher.meterRegistry.counter("berliz.notifications.caller.runs").count());
+        assertEquals(1, notificationDispatcher.meterRegistry.counter("berliz.notifications.failed").count());
+    }
+}
@@ -0,0 +1,79 @@
+package com.berliz.utils;
+
+import com.berliz.constants.BerlizConstants;
+import com.berliz.models.Photo;
+import com.berliz.repositories.PhotoRepo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PhotoLoaderTest {
+
+    @Mock
+    private PhotoRepo photoRepo;
+
+    @InjectMocks
+    private PhotoLoader photoLoader;
+
+    @Test
+    void loadByOwners_ShouldGroupPhotosByOwner_InOneQuery() {
+        when(photoRepo.findByOwnerTypeAndOwnerIds(eq(BerlizConstants.TRAINER_PHOTO_OWNER), anyCollection()))
+                .thenReturn(List.of(photo(1, 10), photo(2, 10), photo(3, 30)));
+
+        Map<Integer, List<Photo>> photos = photoLoader.loadByOwners(BerlizConstants.TRAINER_PHOTO_OWNER,
+                List.of(10, 20, 30));
+
+        assertEquals(List.of(10, 20, 30), new ArrayList<>(photos.keySet()));
+        assertEquals(List.of(1, 2), photos.get(10).stream().map(Photo::getId).toList());
+        assertTrue(photos.get(20).isEmpty(), "owners without photos get an empty list");
+        assertEquals(List.of(3), photos.get(30).stream().map(Photo::getId).toList());
+        verify(photoRepo, times(1)).findByOwnerTypeAndOwnerIds(any(), anyCollection());
+        verifyNoMoreInteractions(photoRepo);
+    }
+
+    @Test
+    void loadByOwners_ShouldSplitLargeBatches_IntoChunks() {
+        List<Integer> ownerIds = IntStream.rangeClosed(1, PhotoLoader.CHUNK_SIZE * 2 + 1).boxed().toList();
+        when(photoRepo.findByOwnerTypeAndOwnerIds(any(), anyCollection())).thenReturn(List.of());
+
+        Map<Integer, List<Photo>> photos = photoLoader.loadByOwners(BerlizConstants.TRAINER_PHOTO_OWNER, ownerIds);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Integer>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(photoRepo, times(3)).findByOwnerTypeAndOwnerIds(any(), chunks.capture());
+        assertEquals(List.of(PhotoLoader.CHUNK_SIZE, PhotoLoader.CHUNK_SIZE, 1),
+                chunks.getAllValues().stream().map(Collection::size).toList());
+        assertEquals(ownerIds.size(), photos.size());
+    }
+
+    @Test
+    void loadByOwners_ShouldNotQuery_WithoutOwners() {
+        assertTrue(photoLoader.loadByOwners(BerlizConstants.TRAINER_PHOTO_OWNER, List.of()).isEmpty());
+        verifyNoInteractions(photoRepo);
+    }
+
+    private static Photo photo(Integer id, Integer ownerId) {
+        Photo photo = new Photo();
+        photo.setId(id);
+        photo.setOwnerType(BerlizConstants.TRAINER_PHOTO_OWNER);
+        photo.setOwnerId(ownerId);
+        return photo;
+    }
+}
@@ -0,0 +1,46 @@
+package com.berliz.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstUpToCapacity_ThenThrottle() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 60);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:1", now));
+        }
+
+        long wait = limiter.tryAcquire("ip:1", now);
+        assertTrue(wait > 0 && wait <= SECOND, "next token should be one refill interval away");
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("u:1", now));
+        assertTrue(limiter.tryAcquire("u:1", now) > 0);
+        assertEquals(0, limiter.tryAcquire("u:1", now + SECOND));
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepBucketsPerKey() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("u:1", now));
+        assertEquals(0, limiter.tryAcquire("u:2", now));
+        assertTrue(limiter.tryAcquire("u:1", now) > 0);
+    }
+}